@@ -0,0 +1,10 @@
+package com.t1membership.activity.constant;
+
+// 내 활동 타임라인 항목 종류
+// - 같은 시각이면 ordinal 큰 쪽이 먼저 나옴 (커서 tie-break 용이라 순서 바꾸지 말 것)
+public enum ActivityType {
+    POST,
+    COMMENT,
+    STORY_LIKE,
+    ORDER
+}
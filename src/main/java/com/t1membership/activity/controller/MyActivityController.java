@@ -0,0 +1,30 @@
+package com.t1membership.activity.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.activity.dto.MyActivityRes;
+import com.t1membership.activity.service.MyActivityService;
+import com.t1membership.config.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/activity")
+@RequiredArgsConstructor
+public class MyActivityController {
+
+    private final MyActivityService myActivityService;
+
+    // 내 글 / 내 댓글 / 스토리 좋아요 / 주문 을 시간순으로 합친 타임라인
+    // - 첫 페이지는 cursor 없이, 이후엔 응답의 nextCursor 그대로
+    @GetMapping("/my")
+    public ApiResult<MyActivityRes> readMyActivity(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        String email = SecurityUtil.getCurrentMemberEmail();
+        return new ApiResult<>(myActivityService.readMyActivity(email, cursor, size));
+    }
+}
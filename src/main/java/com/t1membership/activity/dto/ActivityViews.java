@@ -0,0 +1,45 @@
+package com.t1membership.activity.dto;
+
+import com.t1membership.coreDomain.Money;
+import com.t1membership.order.constant.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// MyActivityRepository 소스별 조회 결과 (interface projection)
+// - 엔티티 대신 필요한 컬럼만 → 연관 엔티티 lazy 로딩(N+1) 없음
+public final class ActivityViews {
+
+    private ActivityViews() {
+    }
+
+    public interface PostView {
+        Long getBoardNo();
+        String getTitle();
+        String getCategory();
+        LocalDateTime getCreatedAt();
+    }
+
+    public interface CommentView {
+        Long getCommentNo();
+        Long getBoardNo();
+        String getTitle();
+        String getCategory();
+        String getContent();
+        LocalDateTime getCreatedAt();
+    }
+
+    public interface StoryLikeView {
+        Long getLikeNo();
+        Long getBoardNo();
+        String getTitle();
+        String getWriter();
+        LocalDateTime getCreatedAt();
+    }
+
+    public interface OrderView {
+        Long getOrderNo();
+        OrderStatus getStatus();
+        Money getTotalPrice();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -0,0 +1,29 @@
+package com.t1membership.activity.dto;
+
+import com.t1membership.activity.constant.ActivityType;
+import com.t1membership.coreDomain.Money;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MyActivityItem {
+
+    private ActivityType type;
+
+    // 타입별 PK (POST=boardNo, COMMENT=commentNo, STORY_LIKE=좋아요 번호, ORDER=orderNo)
+    private Long refNo;
+
+    // 게시글 연결 (POST / COMMENT / STORY_LIKE)
+    private Long boardNo;
+
+    private String title;       // 게시글 제목 or 주문 상태
+    private String summary;     // 카테고리 / 댓글 내용 / 스토리 작성자
+    private Money amount;  // ORDER 만
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.t1membership.activity.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MyActivityRes {
+
+    private List<MyActivityItem> items;
+
+    // 다음 요청에 그대로 넘기는 커서 (없으면 마지막 페이지)
+    private String nextCursor;
+    private boolean hasNext;
+}
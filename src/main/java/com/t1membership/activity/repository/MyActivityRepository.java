@@ -0,0 +1,79 @@
+package com.t1membership.activity.repository;
+
+import com.t1membership.activity.dto.ActivityViews;
+import com.t1membership.board.domain.BoardEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 내 활동 타임라인 소스별 keyset 조회
+ *
+ * 공통 조건: (createDate, pk) < (:ts, :id) 를 풀어서 씀
+ *  - createDate < :ts OR (createDate = :ts AND pk < :id)
+ *  - 인덱스: 각 테이블 (member_email, create_date) → 회원 범위 + 시간 역순 스캔
+ *  - Pageable 은 limit 용도로만 (count 쿼리 없음)
+ *  - 댓글/좋아요는 게시글 join 에 b.deleted = false 를 직접 검 (삭제 대기 게시글 제외)
+ */
+public interface MyActivityRepository extends Repository<BoardEntity, Long> {
+
+    @Query("""
+        select b.boardNo as boardNo, b.boardTitle as title, b.categoryCode as category, b.createDate as createdAt
+          from BoardEntity b
+         where b.member.memberEmail = :email
+           and (b.createDate < :ts or (b.createDate = :ts and b.boardNo < :id))
+         order by b.createDate desc, b.boardNo desc
+    """)
+    List<ActivityViews.PostView> findPosts(@Param("email") String email,
+                                           @Param("ts") LocalDateTime ts,
+                                           @Param("id") Long id,
+                                           Pageable limit);
+
+    // 게시글 제목까지 join 으로 한 번에 (기존 readMyComments 의 board lazy 로딩 N+1 제거)
+    @Query("""
+        select c.commentNo as commentNo, b.boardNo as boardNo, b.boardTitle as title,
+               b.categoryCode as category, c.commentContent as content, c.createDate as createdAt
+          from CommentEntity c
+          join c.board b
+         where c.member.memberEmail = :email
+           and b.deleted = false
+           and (c.createDate < :ts or (c.createDate = :ts and c.commentNo < :id))
+         order by c.createDate desc, c.commentNo desc
+    """)
+    List<ActivityViews.CommentView> findComments(@Param("email") String email,
+                                                 @Param("ts") LocalDateTime ts,
+                                                 @Param("id") Long id,
+                                                 Pageable limit);
+
+    @Query("""
+        select l.boardLikeNo as likeNo, b.boardNo as boardNo, b.boardTitle as title,
+               b.boardWriter as writer, l.createDate as createdAt
+          from BoardLikeEntity l
+          join l.board b
+         where l.member.memberEmail = :email
+           and b.deleted = false
+           and b.boardType = com.t1membership.board.constant.BoardType.STORY
+           and (l.createDate < :ts or (l.createDate = :ts and l.boardLikeNo < :id))
+         order by l.createDate desc, l.boardLikeNo desc
+    """)
+    List<ActivityViews.StoryLikeView> findStoryLikes(@Param("email") String email,
+                                                     @Param("ts") LocalDateTime ts,
+                                                     @Param("id") Long id,
+                                                     Pageable limit);
+
+    @Query("""
+        select o.orderNo as orderNo, o.orderStatus as status, o.orderTotalPrice as totalPrice, o.createDate as createdAt
+          from OrderEntity o
+         where o.member.memberEmail = :email
+           and (o.createDate < :ts or (o.createDate = :ts and o.orderNo < :id))
+         order by o.createDate desc, o.orderNo desc
+    """)
+    List<ActivityViews.OrderView> findOrders(@Param("email") String email,
+                                             @Param("ts") LocalDateTime ts,
+                                             @Param("id") Long id,
+                                             Pageable limit);
+}
@@ -0,0 +1,8 @@
+package com.t1membership.activity.service;
+
+import com.t1membership.activity.dto.MyActivityRes;
+
+public interface MyActivityService {
+
+    MyActivityRes readMyActivity(String email, String cursor, int size);
+}
@@ -0,0 +1,196 @@
+package com.t1membership.activity.service;
+
+import com.t1membership.activity.constant.ActivityType;
+import com.t1membership.activity.dto.MyActivityItem;
+import com.t1membership.activity.dto.MyActivityRes;
+import com.t1membership.activity.repository.MyActivityRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 내 활동 타임라인
+ *
+ * - 소스 4개(내 글 / 내 댓글 / 스토리 좋아요 / 주문)를 각각 keyset 으로 size+1 건씩만 조회
+ * - 우선순위 큐로 k-way merge → 최신순 size 건
+ * - 정렬 키: (createdAt desc, type desc, refNo desc) → 커서 하나로 모든 소스 위치가 결정됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MyActivityServiceImpl implements MyActivityService {
+
+    private static final int MAX_SIZE = 100;
+
+    // MariaDB DATETIME 최대값 (첫 페이지 커서)
+    private static final LocalDateTime TOP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final MyActivityRepository myActivityRepository;
+
+    @Override
+    public MyActivityRes readMyActivity(String email, String cursor, int size) {
+        int limit = Math.min(Math.max(1, size), MAX_SIZE);
+        Cursor c = (StringUtils.hasText(cursor)) ? Cursor.decode(cursor) : Cursor.FIRST;
+
+        // 각 소스 size+1 건 (한 소스에서만 다 나와도 다음 페이지 유무 판단 가능)
+        Pageable fetch = PageRequest.of(0, limit + 1);
+
+        List<Deque<MyActivityItem>> sources = List.of(
+                new ArrayDeque<>(fetchPosts(email, c, fetch)),
+                new ArrayDeque<>(fetchComments(email, c, fetch)),
+                new ArrayDeque<>(fetchStoryLikes(email, c, fetch)),
+                new ArrayDeque<>(fetchOrders(email, c, fetch))
+        );
+
+        // ===== k-way merge =====
+        PriorityQueue<Deque<MyActivityItem>> heap =
+                new PriorityQueue<>((a, b) -> ORDER.compare(a.peekFirst(), b.peekFirst()));
+        for (Deque<MyActivityItem> s : sources) {
+            if (!s.isEmpty()) heap.add(s);
+        }
+
+        List<MyActivityItem> items = new ArrayList<>(limit);
+        while (items.size() < limit && !heap.isEmpty()) {
+            Deque<MyActivityItem> head = heap.poll();
+            items.add(head.pollFirst());
+            if (!head.isEmpty()) heap.add(head);
+        }
+
+        boolean hasNext = !heap.isEmpty();
+        String nextCursor = null;
+        if (hasNext && !items.isEmpty()) {
+            nextCursor = Cursor.of(items.get(items.size() - 1)).encode();
+        }
+
+        return MyActivityRes.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 최신순, 같은 시각이면 type(ordinal) 큰 것 먼저, 그다음 refNo 큰 것 먼저
+    private static final Comparator<MyActivityItem> ORDER =
+            Comparator.comparing(MyActivityItem::getCreatedAt, Comparator.reverseOrder())
+                    .thenComparing(MyActivityItem::getType, Comparator.reverseOrder())
+                    .thenComparing(MyActivityItem::getRefNo, Comparator.reverseOrder());
+
+    // =========================
+    // 소스별 조회
+    // =========================
+
+    private List<MyActivityItem> fetchPosts(String email, Cursor c, Pageable fetch) {
+        return myActivityRepository.findPosts(email, c.ts, c.idBoundFor(ActivityType.POST), fetch).stream()
+                .map(v -> MyActivityItem.builder()
+                        .type(ActivityType.POST)
+                        .refNo(v.getBoardNo())
+                        .boardNo(v.getBoardNo())
+                        .title(v.getTitle())
+                        .summary(v.getCategory())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private List<MyActivityItem> fetchComments(String email, Cursor c, Pageable fetch) {
+        return myActivityRepository.findComments(email, c.ts, c.idBoundFor(ActivityType.COMMENT), fetch).stream()
+                .map(v -> MyActivityItem.builder()
+                        .type(ActivityType.COMMENT)
+                        .refNo(v.getCommentNo())
+                        .boardNo(v.getBoardNo())
+                        .title(v.getTitle())
+                        .summary(v.getContent())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private List<MyActivityItem> fetchStoryLikes(String email, Cursor c, Pageable fetch) {
+        return myActivityRepository.findStoryLikes(email, c.ts, c.idBoundFor(ActivityType.STORY_LIKE), fetch).stream()
+                .map(v -> MyActivityItem.builder()
+                        .type(ActivityType.STORY_LIKE)
+                        .refNo(v.getLikeNo())
+                        .boardNo(v.getBoardNo())
+                        .title(v.getTitle())
+                        .summary(v.getWriter())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    private List<MyActivityItem> fetchOrders(String email, Cursor c, Pageable fetch) {
+        return myActivityRepository.findOrders(email, c.ts, c.idBoundFor(ActivityType.ORDER), fetch).stream()
+                .map(v -> MyActivityItem.builder()
+                        .type(ActivityType.ORDER)
+                        .refNo(v.getOrderNo())
+                        .title(v.getStatus() != null ? v.getStatus().name() : null)
+                        .amount(v.getTotalPrice())
+                        .createdAt(v.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    // =========================
+    // 커서: 마지막으로 내려준 항목의 (createdAt, type, refNo)
+    // =========================
+
+    private static final class Cursor {
+
+        static final Cursor FIRST = new Cursor(TOP, ActivityType.values().length, Long.MAX_VALUE);
+
+        final LocalDateTime ts;
+        final int typeOrdinal;
+        final long refNo;
+
+        Cursor(LocalDateTime ts, int typeOrdinal, long refNo) {
+            this.ts = ts;
+            this.typeOrdinal = typeOrdinal;
+            this.refNo = refNo;
+        }
+
+        static Cursor of(MyActivityItem last) {
+            return new Cursor(last.getCreatedAt(), last.getType().ordinal(), last.getRefNo());
+        }
+
+        /**
+         * 소스별 "createDate = ts 일 때 pk < ?" 의 상한
+         * - 커서보다 type 이 작은 소스: 같은 시각 항목은 아직 안 나감 → 전부 포함
+         * - 커서보다 type 이 큰 소스: 같은 시각 항목은 이미 나감 → 전부 제외
+         * - 같은 소스: 커서 refNo 미만
+         */
+        Long idBoundFor(ActivityType type) {
+            if (type.ordinal() < typeOrdinal) return Long.MAX_VALUE;
+            if (type.ordinal() > typeOrdinal) return Long.MIN_VALUE;
+            return refNo;
+        }
+
+        String encode() {
+            String raw = ts + "|" + typeOrdinal + "|" + refNo;
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|");
+                int ordinal = Integer.parseInt(parts[1]);
+                if (ordinal < 0 || ordinal >= ActivityType.values().length) {
+                    throw new IllegalArgumentException("type");
+                }
+                return new Cursor(LocalDateTime.parse(parts[0]), ordinal, Long.parseLong(parts[2]));
+            } catch (Exception e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+    }
+}
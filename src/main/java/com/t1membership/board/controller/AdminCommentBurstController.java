@@ -0,0 +1,48 @@
+package com.t1membership.board.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.board.service.CommentBurstBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/admin/comment/burst")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN','ADMIN_CONTENT')")
+public class AdminCommentBurstController {
+
+    private final CommentBurstBuffer commentBurstBuffer;
+
+    // 경기 중 핫 게시글 댓글 버스트 모드 켜기
+    @PutMapping("/{boardNo}")
+    public ApiResult<Set<Long>> enable(@PathVariable Long boardNo) {
+        commentBurstBuffer.enable(boardNo);
+        return new ApiResult<>(commentBurstBuffer.hotBoards());
+    }
+
+    // 끄기 (이미 큐에 들어간 댓글은 그대로 저장됨)
+    @DeleteMapping("/{boardNo}")
+    public ApiResult<Set<Long>> disable(@PathVariable Long boardNo) {
+        commentBurstBuffer.disable(boardNo);
+        return new ApiResult<>(commentBurstBuffer.hotBoards());
+    }
+
+    @GetMapping
+    public ApiResult<Map<String, Object>> status() {
+        return new ApiResult<>(Map.of(
+                "hotBoards", commentBurstBuffer.hotBoards(),
+                "pending", commentBurstBuffer.pendingCount(),
+                "deadLetters", commentBurstBuffer.deadLetterCount()
+        ));
+    }
+
+    // 저장 실패로 dead-letter 에 남은 댓글 다시 저장 (원인 해결 후)
+    @PostMapping("/dead-letters/replay")
+    public ApiResult<Integer> replayDeadLetters(@RequestParam(defaultValue = "500") int limit) {
+        return new ApiResult<>(commentBurstBuffer.replayDeadLetters(Math.min(limit, 5_000)));
+    }
+}
@@ -137,8 +137,9 @@ public class BoardController {
 
 
     @DeleteMapping("/{boardNo}")
-    public ApiResult<DeleteBoardRes> deleteBoard(@PathVariable Long boardNo) {
-        DeleteBoardReq deleteReq = DeleteBoardReq.builder().boardNo(boardNo).build();
+    public ApiResult<DeleteBoardRes> deleteBoard(@PathVariable Long boardNo,
+                                                 @RequestParam(name = "async", defaultValue = "false") boolean async) {
+        DeleteBoardReq deleteReq = DeleteBoardReq.builder().boardNo(boardNo).async(async).build();
         var deleteRes = boardService.deleteBoard(deleteReq);
         return new ApiResult<>(deleteRes);
     }
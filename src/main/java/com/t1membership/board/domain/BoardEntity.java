@@ -6,7 +6,9 @@ import com.t1membership.image.domain.ImageEntity;
 import com.t1membership.member.domain.MemberEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,7 +19,14 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
-@Table(name = "t1_board")
+@Table(
+        name = "t1_board",
+        indexes = {
+                // 내 활동 타임라인 / 내 글 (회원별 최신순)
+                @Index(name = "idx_board_member_created", columnList = "member_email, create_date")
+        }
+)
+@SQLRestriction("is_deleted = false") // 삭제 대기(숨김) 게시글은 모든 조회에서 제외
 public class BoardEntity extends BaseEntity {
 
     @Id
@@ -42,6 +51,13 @@ public class BoardEntity extends BaseEntity {
     @Column(name = "board_likeCount", nullable = false)
     private int boardLikeCount = 0;
 
+    // 댓글 수 (비정규화) - 목록에서 게시글마다 count 쿼리 날리지 않도록 보관
+    // 증감은 BoardRepository.increaseCommentCount / decreaseCommentCount 로만 (원자적 UPDATE)
+    // updatable = false: 벌크 UPDATE 뒤 남아 있는 옛 값이 엔티티 update 로 덮어쓰지 않도록
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false, updatable = false, columnDefinition = "int default 0")
+    private int commentCount = 0;
+
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private BoardType boardType;
@@ -91,5 +107,19 @@ public class BoardEntity extends BaseEntity {
         this.bannerOrder = bannerOrder;
     }
 
+    // 비동기 삭제: 먼저 숨김 처리 → BoardPurgeWorker 가 댓글/좋아요/이미지 정리 후 행 삭제
+    @Builder.Default
+    @Column(name = "is_deleted", nullable = false, columnDefinition = "boolean default false")
+    private boolean deleted = false;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    public void markDeleted() {
+        this.deleted = true;
+        this.deletedAt = LocalDateTime.now();
+        this.mainBanner = false;
+    }
+
 
 }
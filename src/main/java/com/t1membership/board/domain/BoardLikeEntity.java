@@ -10,6 +10,9 @@ import lombok.*;
         name = "t1_board_like",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_board_like_board_member", columnNames = {"board_no", "member_email"})
+        },
+        indexes = {
+                @Index(name = "idx_board_like_member_created", columnList = "member_email, create_date")
         }
 )
 @Getter
@@ -0,0 +1,56 @@
+package com.t1membership.board.domain;
+
+import com.t1membership.coreDomain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 버스트 모드 댓글 중 저장에 실패한 것 (CommentBurstBuffer)
+ *
+ * - 클라이언트는 이미 202 + provisionalId 를 받은 상태 → 버리지 않고 여기 남김
+ * - 관리자가 원인 해결 후 재처리(replay) 하면 t1_comment 로 옮기고 삭제
+ * - JDBC 로만 씀 (flush 스레드), 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(
+        name = "t1_comment_dead_letter",
+        indexes = {
+                @Index(name = "idx_comment_dead_letter_board", columnList = "board_no")
+        }
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentDeadLetterEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "dead_letter_no")
+    private Long deadLetterNo;
+
+    @Column(name = "provisional_id", nullable = false, length = 36)
+    private String provisionalId;
+
+    @Column(name = "board_no")
+    private Long boardNo;
+
+    @Column(name = "member_email")
+    private String memberEmail;
+
+    @Column(name = "comment_content", columnDefinition = "TEXT")
+    private String commentContent;
+
+    // 사용자가 댓글을 쓴 시각 (재처리 때 그대로 create_date 로)
+    @Column(name = "commented_at", nullable = false)
+    private LocalDateTime commentedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
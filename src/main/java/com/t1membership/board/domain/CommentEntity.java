@@ -14,7 +14,12 @@ import org.hibernate.annotations.OnDeleteAction;
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString
-@Table(name = "t1_comment")
+@Table(
+        name = "t1_comment",
+        indexes = {
+                @Index(name = "idx_comment_member_created", columnList = "member_email, create_date")
+        }
+)
 public class CommentEntity extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,7 @@
 package com.t1membership.board.dto.content;
 
 import com.t1membership.board.domain.BoardEntity;
+import com.t1membership.image.constant.ImageSize;
 import com.t1membership.image.domain.ImageEntity;
 import lombok.*;
 
@@ -34,18 +35,8 @@ public class ContentSummaryRes {
                     // image_order 컬럼 이름에 맞춰서 메서드 변경 필요:
                     // getSortOrder / getImageOrder 중 프로젝트에 맞는 걸 쓰세요.
                     .sorted(Comparator.comparing(ImageEntity::getSortOrder))
-                    .map(img -> {
-                        // ① url 컬럼이 이미 "/files/uuid.png" 형태면 그대로 사용
-                        if (img.getUrl() != null && !img.getUrl().isBlank()) {
-                            return img.getUrl();
-                        }
-                        // ② url이 비어 있고 fileName만 있으면, 형님 프로젝트 규칙에 맞춰 접두사 붙이기
-                        if (img.getFileName() != null && !img.getFileName().isBlank()) {
-                            // FileController 가 "/files/{fileName}" 같은지 "/upload" 같은지에 맞춰 수정
-                            return "/files/" + img.getFileName();
-                        }
-                        return null;
-                    })
+                    // 목록 카드용 작은 파생본 (없으면 원본 url → /files/{fileName})
+                    .map(img -> img.urlFor(ImageSize.THUMB))
                     .filter(Objects::nonNull)
                     .findFirst()
                     .orElse(null);
@@ -24,6 +24,10 @@ public class CreateCommentRes {
 
     private String createdAt;
 
+    // 버스트 모드: 아직 DB 저장 전 (commentNo 없음, provisionalId 로 식별)
+    private boolean pending;
+    private String provisionalId;
+
     public static CreateCommentRes from(CommentEntity e) {
         return CreateCommentRes.builder()
                 .commentNo(e.getCommentNo())
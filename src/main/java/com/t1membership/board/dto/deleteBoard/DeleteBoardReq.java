@@ -12,4 +12,7 @@ public class DeleteBoardReq {
 
     private Long boardNo;
 
+    // true: 즉시 숨김 처리 후 백그라운드에서 정리 (댓글 많은 글용)
+    private boolean async;
+
 }
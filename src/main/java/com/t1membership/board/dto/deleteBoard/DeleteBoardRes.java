@@ -12,10 +12,20 @@ public class DeleteBoardRes {
 
     private Long boardNo;
 
+    // true 면 숨김만 된 상태, 실제 정리는 백그라운드에서 진행 중
+    private boolean pending;
+
     // ✅ 정적 팩토리 메서드 추가
     public static DeleteBoardRes success(Long boardNo) {
         return DeleteBoardRes.builder()
                 .boardNo(boardNo)
                 .build();
     }
+
+    public static DeleteBoardRes accepted(Long boardNo) {
+        return DeleteBoardRes.builder()
+                .boardNo(boardNo)
+                .pending(true)
+                .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.t1membership.board.dto.readAllBoard;
 
 import com.t1membership.board.constant.BoardType;
 import com.t1membership.board.domain.BoardEntity;
+import com.t1membership.image.constant.ImageSize;
 import com.t1membership.image.domain.ImageEntity;
 import lombok.*;
 
@@ -26,6 +27,7 @@ public class ReadAllBoardRes {
 
     private String boardContent;
     private int boardLikeCount;
+    private int commentCount;
     private BoardType boardType;
     private boolean notice;
     private boolean isSecret;
@@ -46,7 +48,7 @@ public class ReadAllBoardRes {
                             ImageEntity::getSortOrder,
                             Comparator.nullsLast(Comparator.naturalOrder())
                     ))
-                    .map(ImageEntity::getUrl)
+                    .map(img -> img.urlFor(ImageSize.THUMB))
                     .findFirst()
                     .orElse(null);
         }
@@ -66,6 +68,7 @@ public class ReadAllBoardRes {
                 .boardWriterEmail(writerEmail) // ✅ 추가
                 .boardContent(boardEntity.getBoardContent())
                 .boardLikeCount(boardEntity.getBoardLikeCount())
+                .commentCount(boardEntity.getCommentCount())
                 .boardType(boardEntity.getBoardType())
                 .notice(boardEntity.isNotice())
                 .isSecret(boardEntity.isSecret())
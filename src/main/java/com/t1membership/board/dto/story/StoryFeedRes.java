@@ -20,6 +20,7 @@ public class StoryFeedRes {
     private String contentPreview;
     private boolean locked;
     private int likeCount;
+    private int commentCount;
 
     // ✅ 피드용 대표 이미지 1장 (없으면 null)
     private String thumbnailUrl;
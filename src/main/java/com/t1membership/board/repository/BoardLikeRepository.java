@@ -2,6 +2,9 @@ package com.t1membership.board.repository;
 
 import com.t1membership.board.domain.BoardLikeEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -12,4 +15,9 @@ public interface BoardLikeRepository extends JpaRepository<BoardLikeEntity, Long
     Optional<BoardLikeEntity> findByBoard_BoardNoAndMember_MemberEmail(Long boardNo, String email);
 
     long countByBoard_BoardNo(Long boardNo);
+
+    // 게시글 정리용 - 한 번에 limit 건씩만 삭제
+    @Modifying
+    @Query(value = "delete from t1_board_like where board_no = :boardNo limit :limit", nativeQuery = true)
+    int deleteBatchByBoardNo(@Param("boardNo") Long boardNo, @Param("limit") int limit);
 }
@@ -52,4 +52,43 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
 
     Page<BoardEntity> findByMember_MemberEmail(String memberEmail, Pageable pageable);
 
+    // =========================
+    // 댓글 수(comment_count) 관리
+    // - 엔티티 값 읽고 +1 해서 save 하면 동시 댓글에서 카운트 유실 → DB에서 원자적으로 증감
+    // - 영속성 컨텍스트는 비우지 않음 (같은 트랜잭션의 다른 엔티티까지 detach 되지 않도록)
+    //   → 관리 중인 BoardEntity 의 commentCount 는 옛 값, 필요하면 그 게시글만 refresh
+    //   → commentCount 는 updatable = false 라 옛 값이 dirty checking 으로 덮어쓰지 않음
+    // =========================
+
+    @Modifying(flushAutomatically = true)
+    @Query("update BoardEntity b set b.commentCount = b.commentCount + 1 where b.boardNo = :boardNo")
+    int increaseCommentCount(@Param("boardNo") Long boardNo);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update BoardEntity b set b.commentCount = b.commentCount - 1 where b.boardNo = :boardNo and b.commentCount > 0")
+    int decreaseCommentCount(@Param("boardNo") Long boardNo);
+
+    // 실제 댓글 수로 다시 맞추기 (@OnDelete 캐스케이드 등 JPA 밖에서 댓글이 지워진 경우)
+    // 전체 게시글 대상, 틀어진 행만 갱신 (CommentCountReconciler 전용 트랜잭션에서만 호출 → clear 안 함)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update BoardEntity b
+           set b.commentCount = (select count(c) from CommentEntity c where c.board.boardNo = b.boardNo)
+         where b.commentCount <> (select count(c2) from CommentEntity c2 where c2.board.boardNo = b.boardNo)
+    """)
+    int reconcileAllCommentCounts();
+
+    // =========================
+    // 비동기 삭제(숨김 → 정리) 용
+    // - BoardEntity 에 @SQLRestriction 이 걸려 있어서 숨김 게시글은 native 로만 조회/삭제
+    // =========================
+
+    @Query(value = "select board_no from t1_board where is_deleted = true order by board_no limit :limit",
+            nativeQuery = true)
+    List<Long> findDeletedBoardNos(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from t1_board where board_no = :boardNo and is_deleted = true", nativeQuery = true)
+    int purgeDeleted(@Param("boardNo") Long boardNo);
+
 }
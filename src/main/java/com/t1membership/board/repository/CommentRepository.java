@@ -4,6 +4,11 @@ import com.t1membership.board.domain.CommentEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
 
@@ -12,6 +17,34 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
     // 필요하면: 특정 게시글 + 댓글번호 함께 조회도 가능
     // Optional<CommentEntity> findByCommentNoAndBoard_BoardNo(Long commentNo, Long boardNo);
 
-    Page<CommentEntity> findByMember_MemberEmail(String memberEmail, Pageable pageable);
+    // 내 댓글 - 삭제 대기(숨김) 게시글의 댓글은 제외
+    // (BoardEntity @SQLRestriction 때문에 숨김 게시글 proxy 를 초기화하면 EntityNotFoundException)
+    @Query(value = """
+            select c from CommentEntity c
+              join fetch c.board b
+             where c.member.memberEmail = :email
+               and b.deleted = false
+            """,
+            countQuery = """
+            select count(c) from CommentEntity c
+              join c.board b
+             where c.member.memberEmail = :email
+               and b.deleted = false
+            """)
+    Page<CommentEntity> findMyComments(@Param("email") String memberEmail, Pageable pageable);
+
+    // 수정/삭제 대상 댓글 - 게시글이 숨김이면 없는 댓글로 취급
+    @Query("""
+            select c from CommentEntity c
+              join fetch c.board b
+             where c.commentNo = :commentNo
+               and b.deleted = false
+            """)
+    Optional<CommentEntity> findLiveById(@Param("commentNo") Long commentNo);
+
+    // 게시글 정리용 - 한 번에 limit 건씩만 삭제 (락 오래 잡지 않도록)
+    @Modifying
+    @Query(value = "delete from t1_comment where board_no = :boardNo limit :limit", nativeQuery = true)
+    int deleteBatchByBoardNo(@Param("boardNo") Long boardNo, @Param("limit") int limit);
 
 }
@@ -0,0 +1,173 @@
+package com.t1membership.board.service;
+
+import com.t1membership.board.repository.BoardLikeRepository;
+import com.t1membership.board.repository.BoardRepository;
+import com.t1membership.board.repository.CommentRepository;
+import com.t1membership.image.repository.ImageRepository;
+import com.t1membership.image.service.FileService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.IntSupplier;
+
+/**
+ * 게시글 비동기 삭제 워커
+ *
+ * 흐름
+ *  1) BoardServiceImpl.deleteBoard(async=true) → is_deleted=true 로 숨김 (요청 트랜잭션은 여기서 끝)
+ *  2) 커밋 후 이 워커 큐에 boardNo 등록
+ *  3) 댓글 / 좋아요 / 이미지 행을 batchSize 건씩 "각각 짧은 트랜잭션" 으로 삭제
+ *  4) 게시글 행 삭제 → 모아둔 파일명으로 저장소 파일 삭제
+ *
+ * - 큐가 꽉 찼거나 서버가 중간에 내려가도 is_deleted 행은 남아 있으니 주기 스윕에서 다시 집어감
+ */
+@Log4j2
+@Component
+public class BoardPurgeWorker {
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final BoardLikeRepository boardLikeRepository;
+    private final ImageRepository imageRepository;
+    private final FileService fileService;
+    private final TransactionTemplate tx;
+
+    private final int batchSize;
+
+    // 단일 스레드 + 유한 큐 (넘치면 버리고 스윕이 다시 처리)
+    private final ThreadPoolExecutor executor;
+
+    // 큐에 들어갔거나 처리 중인 boardNo (중복 등록 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public BoardPurgeWorker(BoardRepository boardRepository,
+                            CommentRepository commentRepository,
+                            BoardLikeRepository boardLikeRepository,
+                            ImageRepository imageRepository,
+                            FileService fileService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.board.purge.batch-size:500}") int batchSize,
+                            @Value("${app.board.purge.queue-capacity:1000}") int queueCapacity) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.boardLikeRepository = boardLikeRepository;
+        this.imageRepository = imageRepository;
+        this.fileService = fileService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.executor = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "board-purge");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // =========================
+    // 등록
+    // =========================
+
+    // 트랜잭션 안이면 커밋된 뒤에 등록 (롤백되면 숨김도 취소되니까 등록 X)
+    public void enqueueAfterCommit(Long boardNo) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(boardNo);
+                }
+            });
+        } else {
+            enqueue(boardNo);
+        }
+    }
+
+    public void enqueue(Long boardNo) {
+        if (boardNo == null || !inFlight.add(boardNo)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(boardNo);
+                } catch (Exception e) {
+                    log.error("[BOARD_PURGE] 정리 실패 boardNo={} (다음 스윕에서 재시도)", boardNo, e);
+                } finally {
+                    inFlight.remove(boardNo);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(boardNo);
+            log.warn("[BOARD_PURGE] 큐 가득 참 boardNo={} → 스윕에서 처리", boardNo);
+        }
+    }
+
+    // 서버 재시작 / 큐 초과로 남은 숨김 게시글 회수
+    @Scheduled(fixedDelayString = "${app.board.purge.sweep-ms:60000}")
+    public void sweep() {
+        int room = executor.getQueue().remainingCapacity();
+        if (room <= 0) return;
+
+        List<Long> pending = boardRepository.findDeletedBoardNos(Math.min(room, 100));
+        pending.forEach(this::enqueue);
+    }
+
+    // =========================
+    // 정리
+    // =========================
+
+    void purge(Long boardNo) {
+        long started = System.currentTimeMillis();
+
+        int comments = deleteInBatches(() -> commentRepository.deleteBatchByBoardNo(boardNo, batchSize));
+        int likes = deleteInBatches(() -> boardLikeRepository.deleteBatchByBoardNo(boardNo, batchSize));
+
+        // 이미지: 행 삭제와 같은 트랜잭션에서 파일명 확보 → 파일은 DB 커밋 후 삭제
+        List<String> files = new ArrayList<>();
+        int images = deleteInBatches(() -> {
+            List<String> names = imageRepository.findFileNamesBatchByBoardNo(boardNo, batchSize);
+            int n = imageRepository.deleteBatchByBoardNo(boardNo, batchSize);
+            names.stream().filter(f -> f != null && !f.isBlank()).forEach(files::add);
+            return n;
+        });
+
+        Integer board = tx.execute(status -> boardRepository.purgeDeleted(boardNo));
+
+        for (String fileName : files) {
+            fileService.deleteFile(fileName);
+        }
+
+        log.info("[BOARD_PURGE] boardNo={} comments={} likes={} images={} files={} board={} ({}ms)",
+                boardNo, comments, likes, images, files.size(), board, System.currentTimeMillis() - started);
+    }
+
+    // batchSize 보다 적게 지워질 때까지 반복, 배치마다 커밋
+    private int deleteInBatches(IntSupplier batch) {
+        int total = 0;
+        while (true) {
+            Integer n = tx.execute(status -> batch.getAsInt());
+            int deleted = (n == null) ? 0 : n;
+            total += deleted;
+            if (deleted < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -22,13 +22,14 @@ import com.t1membership.board.repository.BoardLikeRepository;
 import com.t1membership.board.repository.BoardRepository;
 import com.t1membership.coreDto.PageRequestDTO;
 import com.t1membership.coreDto.PageResponseDTO;
+import com.t1membership.image.constant.ImageSize;
 import com.t1membership.image.domain.ImageEntity;
 import com.t1membership.image.dto.ExistingImageDTO;
 import com.t1membership.image.dto.ImageDTO;
 import com.t1membership.image.service.FileService;
 import com.t1membership.member.constant.MemberRole;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.*;
@@ -36,7 +37,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,9 +55,10 @@ public class BoardServiceImpl implements BoardService {
 
     private final FileService fileService;
     private final BoardRepository boardRepository;
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
     private final StoryLikeService storyLikeService;
     private final BoardLikeRepository boardLikeRepository;
+    private final BoardPurgeWorker boardPurgeWorker;
     private final RestClient.Builder builder;
 
     /* =======================
@@ -75,31 +76,10 @@ public class BoardServiceImpl implements BoardService {
         return currentAuthOrThrow().getName();
     }
 
-    private boolean isAdmin(Authentication auth) {
-        return auth.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(r -> r.equals("ROLE_ADMIN") || r.equals("ADMIN") || r.equals("ROLE_MANAGER") || r.equals("MANAGER"));
-    }
-
     private boolean isLoggedIn(Authentication auth) {
         return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken);
     }
 
-    private boolean isPlayerRole(MemberRole role) {
-        if (role == null) return false;
-        return role.name().startsWith("PLAYER_");
-    }
-
-    private boolean isMembershipActive(MemberEntity member) {
-        if (member == null) return false;
-        // ⚠️ 형님 DB 컬럼: membership_type (MemberEntity.getMembershipType() or getMembershipPayType() 등)
-        // 여기서는 "NO_MEMBERSHIP" 문자열 기준으로 이미 프론트와 맞춰진 전제가 있으니,
-        // MemberEntity getter에 맞게 아래 한 줄만 형님 프로젝트에 맞춰 쓰시면 됩니다.
-        // 예) return member.getMembershipType() != MembershipType.NO_MEMBERSHIP;
-        String mt = (member.getMembershipType() != null ? member.getMembershipType().name() : "NO_MEMBERSHIP");
-        return !"NO_MEMBERSHIP".equalsIgnoreCase(mt);
-    }
-
     private Sort toSort(String sortBy) {
         // 기본: notice 먼저, 최신순
         if (!StringUtils.hasText(sortBy)) {
@@ -110,6 +90,7 @@ public class BoardServiceImpl implements BoardService {
             case "latest" -> Sort.by(Sort.Order.desc("notice"), Sort.Order.desc("boardNo"));
             case "oldest" -> Sort.by(Sort.Order.desc("notice"), Sort.Order.asc("boardNo"));
             case "like" -> Sort.by(Sort.Order.desc("notice"), Sort.Order.desc("boardLikeCount"), Sort.Order.desc("boardNo"));
+            case "comment" -> Sort.by(Sort.Order.desc("notice"), Sort.Order.desc("commentCount"), Sort.Order.desc("boardNo"));
             default -> Sort.by(Sort.Order.desc("notice"), Sort.Order.desc("boardNo"));
         };
     }
@@ -125,11 +106,6 @@ public class BoardServiceImpl implements BoardService {
         }
     }
 
-    private MemberEntity currentMemberOrThrow(String email) {
-        return memberRepository.findByMemberEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원 정보를 찾을 수 없습니다."));
-    }
-
     /* =======================
        생성
     ======================= */
@@ -151,16 +127,15 @@ public class BoardServiceImpl implements BoardService {
         }
 
         // 공지 작성은 관리자만
-        if (Boolean.TRUE.equals(req.getNotice()) && !isAdmin(auth)) {
+        if (Boolean.TRUE.equals(req.getNotice()) && !memberContext.isAdmin()) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "공지글은 관리자만 작성할 수 있습니다.");
         }
 
         // 작성자 회원
-        MemberEntity member = memberRepository.findById(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원 정보를 찾을 수 없습니다."));
+        MemberEntity member = memberContext.getMemberOrThrow();
 
         // 🔥 CONTENT 타입 게시글은 컨텐츠 담당자만
-        if (req.getBoardType() == BoardType.CONTENT && !member.isContentManager()) {
+        if (req.getBoardType() == BoardType.CONTENT && !memberContext.isContentManager()) {
             throw new ResponseStatusException(
                     HttpStatus.FORBIDDEN,
                     "컨텐츠 게시판은 담당 관리자만 작성할 수 있습니다."
@@ -173,9 +148,9 @@ public class BoardServiceImpl implements BoardService {
         if (req.getBoardType() == BoardType.COMMUNITY) {
             validateCommunityCategoryOrThrow(req.getCategoryCode());
 
-            boolean admin = isAdmin(auth);
-            boolean membership = isMembershipActive(member);
-            boolean player = isPlayerRole(member.getMemberRole()); // 🔥 선수 특권
+            boolean admin = memberContext.isAdmin();
+            boolean membership = memberContext.isMembershipActive();
+            boolean player = memberContext.isPlayer(); // 🔥 선수 특권
 
             CommunityCategoryCode cc =
                     CommunityCategoryCode.valueOf(req.getCategoryCode().trim().toUpperCase());
@@ -245,7 +220,7 @@ public class BoardServiceImpl implements BoardService {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         boolean loggedIn = isLoggedIn(auth);
-        boolean admin = loggedIn && isAdmin(auth);
+        boolean admin = loggedIn && memberContext.isAdmin();
         String email = loggedIn ? auth.getName() : null;
 
         // ✅ 작성자 이메일(엔티티 member로 판정: boardWriter(닉네임) 쓰면 안됨)
@@ -262,13 +237,10 @@ public class BoardServiceImpl implements BoardService {
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
             }
 
-            MemberEntity me = currentMemberOrThrow(email);
+            memberContext.getMemberOrThrow();
 
             // ✅ 멤버십 특권: 관리자 OR 멤버십 OR 선수
-            boolean membershipPrivilege =
-                    admin
-                            || isMembershipActive(me)
-                            || isPlayerRole(me.getMemberRole());
+            boolean membershipPrivilege = memberContext.hasMembershipPrivilege();
 
             if (!membershipPrivilege) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "멤버십 회원에게 공개된 페이지예요.");
@@ -279,7 +251,7 @@ public class BoardServiceImpl implements BoardService {
             CommunityCategoryCode cc = CommunityCategoryCode.valueOf(ccRaw.trim().toUpperCase());
 
             // LOUNGE: 선수 접근 불가(관리자 제외)
-            if (cc == CommunityCategoryCode.LOUNGE && !admin && isPlayerRole(me.getMemberRole())) {
+            if (cc == CommunityCategoryCode.LOUNGE && !admin && memberContext.isPlayer()) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                         "스타에게 노출되지 않는 비공개 보드에요. 선수 계정은 접근할 수 없습니다.");
             }
@@ -324,7 +296,7 @@ public class BoardServiceImpl implements BoardService {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         boolean loggedIn = isLoggedIn(auth);
         String email = loggedIn ? auth.getName() : null;
-        boolean admin = loggedIn && isAdmin(auth);
+        boolean admin = loggedIn && memberContext.isAdmin();
 
         Page<BoardEntity> page;
 
@@ -340,16 +312,10 @@ public class BoardServiceImpl implements BoardService {
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
             }
 
-            MemberEntity me = currentMemberOrThrow(email);
+            memberContext.getMemberOrThrow();
 
-            // 🔥 기존
-            // boolean membership = admin || isMembershipActive(me);
-
-            // ✅ 수정: 선수 포함
-            boolean membership =
-                    admin
-                            || isMembershipActive(me)
-                            || isPlayerRole(me.getMemberRole());
+            // ✅ 관리자 OR 멤버십 OR 선수
+            boolean membership = memberContext.hasMembershipPrivilege();
 
 
             if (!membership && !admin) {
@@ -361,7 +327,7 @@ public class BoardServiceImpl implements BoardService {
             CommunityCategoryCode cc = CommunityCategoryCode.valueOf(req.getCategoryCode().trim().toUpperCase());
 
             // LOUNGE: 선수 접근 불가(관리자 제외)
-            if (cc == CommunityCategoryCode.LOUNGE && !admin && isPlayerRole(me.getMemberRole())) {
+            if (cc == CommunityCategoryCode.LOUNGE && !admin && memberContext.isPlayer()) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "스타에게 노출되지 않는 비공개 보드에요. 선수 계정은 접근할 수 없습니다.");
             }
 
@@ -438,7 +404,7 @@ public class BoardServiceImpl implements BoardService {
         BoardEntity board = boardRepository.findById(req.getBoardNo())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
 
-        boolean ownerOrAdmin = isAdmin(auth) || email.equalsIgnoreCase(board.getBoardWriter());
+        boolean ownerOrAdmin = memberContext.isAdmin() || email.equalsIgnoreCase(board.getBoardWriter());
         if (!ownerOrAdmin) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "작성자 또는 관리자만 수정할 수 있습니다.");
         }
@@ -455,7 +421,7 @@ public class BoardServiceImpl implements BoardService {
         }
         // 공지 플래그는 관리자만 변경
         if (req.getNotice() != null) {
-            if (!isAdmin(auth)) {
+            if (!memberContext.isAdmin()) {
                 throw new ResponseStatusException(HttpStatus.FORBIDDEN, "공지 설정은 관리자만 가능합니다.");
             }
             board.setNotice(req.getNotice());
@@ -539,19 +505,13 @@ public class BoardServiceImpl implements BoardService {
                         )
                 );
 
-        MemberEntity member = memberRepository.findByMemberEmail(email)
-                .orElseThrow(() ->
-                        new ResponseStatusException(
-                                HttpStatus.UNAUTHORIZED,
-                                "회원 정보를 찾을 수 없습니다."
-                        )
-                );
+        MemberEntity member = memberContext.getMemberOrThrow();
 
         boolean isWriter = email.equalsIgnoreCase(
                 board.getMember().getMemberEmail()
         );
 
-        boolean isManager = member.isContentManager();
+        boolean isManager = memberContext.isContentManager();
 
         log.info("🔥 [DELETE-SERVICE] isWriter={}, isManager={}, role={}",
                 isWriter, isManager, member.getMemberRole());
@@ -564,6 +524,13 @@ public class BoardServiceImpl implements BoardService {
             );
         }
 
+        // 비동기 모드: 숨김만 하고 바로 응답, 정리는 커밋 후 워커가
+        if (req.isAsync()) {
+            board.markDeleted();
+            boardPurgeWorker.enqueueAfterCommit(board.getBoardNo());
+            return DeleteBoardRes.accepted(req.getBoardNo());
+        }
+
         boardRepository.delete(board);
         return DeleteBoardRes.success(req.getBoardNo());
     }
@@ -592,7 +559,7 @@ public class BoardServiceImpl implements BoardService {
     @Transactional
     public void createStory(String memberEmail, CreateStoryReq req) {
 
-        MemberEntity member = memberRepository.findByMemberEmail(memberEmail)
+        MemberEntity member = memberContext.findMember(memberEmail)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보가 없습니다."));
 
         MemberRole role = member.getMemberRole();
@@ -649,7 +616,8 @@ public class BoardServiceImpl implements BoardService {
         return page.map(board -> {
             String thumb = null;
             if (board.getImages() != null && !board.getImages().isEmpty()) {
-                thumb = readImageUrl(board.getImages().get(0));
+                // 피드는 중간 크기 파생본
+                thumb = board.getImages().get(0).urlFor(ImageSize.MEDIUM);
             }
 
             return StoryFeedRes.builder()
@@ -659,6 +627,7 @@ public class BoardServiceImpl implements BoardService {
                     .contentPreview(preview(board.getBoardContent()))
                     .locked(board.isSecret())
                     .likeCount(board.getBoardLikeCount())
+                    .commentCount(board.getCommentCount())
                     .thumbnailUrl(thumb)
                     .build();
         });
@@ -0,0 +1,323 @@
+package com.t1membership.board.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 버스트 모드 (경기 중 실시간 댓글 폭주용)
+ *
+ * - 관리자가 켠 "핫 게시글" 만 대상 (opt-in)
+ * - 검증 끝난 댓글은 유한 큐에 넣고 provisionalId 로 바로 응답
+ * - flush-ms 마다 큐를 비워 JDBC batch insert + 게시글별 comment_count 한 번에 증가
+ * - 큐가 가득 차면 enqueue-timeout-ms 만큼만 기다리고 429 (backpressure)
+ * - 건별 재시도까지 실패한 댓글은 버리지 않음 (이미 202 응답함)
+ *   → t1_comment_dead_letter 에 남기고 ERROR 로그 + comment.burst.dead_letter 카운터 (알림은 이 지표로)
+ *   → 그것도 실패하면(DB 장애) 메모리에 붙잡아 두고 다음 flush 에서 다시 dead-letter 기록 시도
+ *   → 관리자 replayDeadLetters 로 t1_comment 로 다시 옮김
+ */
+@Log4j2
+@Component
+public class CommentBurstBuffer {
+
+    private static final String INSERT_SQL = """
+            insert into t1_comment
+                (board_no, member_email, comment_content, comment_like_count, create_date, latest_date)
+            values (?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final String INCREASE_COUNT_SQL =
+            "update t1_board set comment_count = comment_count + ? where board_no = ?";
+
+    private static final String DEAD_LETTER_INSERT_SQL = """
+            insert into t1_comment_dead_letter
+                (provisional_id, board_no, member_email, comment_content, commented_at, attempts, last_error,
+                 create_date, latest_date)
+            values (?, ?, ?, ?, ?, 1, ?, ?, ?)
+            """;
+
+    private static final String DEAD_LETTER_SELECT_SQL = """
+            select dead_letter_no, provisional_id, board_no, member_email, comment_content, commented_at
+              from t1_comment_dead_letter
+             order by dead_letter_no
+             limit ?
+            """;
+
+    private static final String DEAD_LETTER_DELETE_SQL = "delete from t1_comment_dead_letter where dead_letter_no = ?";
+
+    private static final String DEAD_LETTER_FAIL_SQL = """
+            update t1_comment_dead_letter
+               set attempts = attempts + 1, last_error = ?, latest_date = ?
+             where dead_letter_no = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+
+    private final BlockingQueue<PendingComment> queue;
+    // dead-letter 기록조차 실패한 댓글 (DB 장애 중) → 다음 flush 에서 다시 기록 시도
+    private final BlockingQueue<DeadLetter> parked;
+    private final Counter deadLetterCounter;
+    private final int batchSize;
+    private final long enqueueTimeoutMs;
+
+    // 버스트 모드 켜진 게시글
+    private final Set<Long> hotBoards = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService flusher;
+
+    public CommentBurstBuffer(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.comment.burst.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.comment.burst.batch-size:500}") int batchSize,
+                              @Value("${app.comment.burst.flush-ms:20}") long flushMs,
+                              @Value("${app.comment.burst.enqueue-timeout-ms:50}") long enqueueTimeoutMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.parked = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.deadLetterCounter = Counter.builder("comment.burst.dead_letter")
+                .description("버스트 모드 댓글 저장 실패 (dead-letter 로 보낸 건수)")
+                .register(meterRegistry);
+        this.batchSize = Math.max(1, batchSize);
+        this.enqueueTimeoutMs = Math.max(0, enqueueTimeoutMs);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "comment-burst-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushMs, Math.max(1, flushMs), TimeUnit.MILLISECONDS);
+    }
+
+    @Getter
+    @Builder
+    public static class PendingComment {
+        private final String provisionalId;
+        private final Long boardNo;
+        private final String memberEmail;
+        private final String content;
+        private final LocalDateTime createdAt;
+    }
+
+    private record DeadLetter(PendingComment comment, String error) {
+    }
+
+    // =========================
+    // 버스트 모드 on/off
+    // =========================
+
+    public void enable(Long boardNo) {
+        hotBoards.add(boardNo);
+        log.info("[COMMENT_BURST] ON boardNo={}", boardNo);
+    }
+
+    public void disable(Long boardNo) {
+        hotBoards.remove(boardNo);
+        log.info("[COMMENT_BURST] OFF boardNo={}", boardNo);
+    }
+
+    public boolean isBurst(Long boardNo) {
+        return boardNo != null && hotBoards.contains(boardNo);
+    }
+
+    public Set<Long> hotBoards() {
+        return Set.copyOf(hotBoards);
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    public long deadLetterCount() {
+        Long n = jdbcTemplate.queryForObject("select count(*) from t1_comment_dead_letter", Long.class);
+        return (n == null ? 0 : n) + parked.size();
+    }
+
+    // =========================
+    // 적재
+    // =========================
+
+    public PendingComment enqueue(Long boardNo, String memberEmail, String content) {
+        PendingComment pc = PendingComment.builder()
+                .provisionalId(UUID.randomUUID().toString())
+                .boardNo(boardNo)
+                .memberEmail(memberEmail)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(pc, enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "댓글이 몰리고 있어요. 잠시 후 다시 시도해 주세요.");
+        }
+        return pc;
+    }
+
+    // =========================
+    // flush
+    // =========================
+
+    private void flushSafely() {
+        try {
+            while (flushOnce() == batchSize) {
+                // 한 번에 batchSize 꽉 찼으면 바로 이어서 비움
+            }
+        } catch (Exception e) {
+            log.error("[COMMENT_BURST] flush 실패", e);
+        }
+    }
+
+    int flushOnce() {
+        retryParked();
+
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) return 0;
+
+        try {
+            tx.executeWithoutResult(status -> insertBatch(batch));
+        } catch (Exception e) {
+            // 한 건 때문에 전체가 날아가지 않도록 1건씩 재시도
+            log.warn("[COMMENT_BURST] batch insert 실패 size={} → 건별 재시도", batch.size(), e);
+            for (PendingComment pc : batch) {
+                try {
+                    tx.executeWithoutResult(status -> insertBatch(List.of(pc)));
+                } catch (Exception one) {
+                    deadLetter(pc, one);
+                }
+            }
+        }
+        return batch.size();
+    }
+
+    private void insertBatch(List<PendingComment> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pc) -> {
+            Timestamp ts = Timestamp.valueOf(pc.getCreatedAt());
+            ps.setLong(1, pc.getBoardNo());
+            ps.setString(2, pc.getMemberEmail());
+            ps.setString(3, pc.getContent());
+            ps.setTimestamp(4, ts);
+            ps.setTimestamp(5, ts);
+        });
+
+        // 게시글별로 묶어서 comment_count 한 번씩만 증가
+        Map<Long, Long> perBoard = batch.stream()
+                .collect(Collectors.groupingBy(PendingComment::getBoardNo, Collectors.counting()));
+        List<Object[]> args = perBoard.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREASE_COUNT_SQL, args);
+    }
+
+    // =========================
+    // dead-letter
+    // =========================
+
+    private void deadLetter(PendingComment pc, Exception cause) {
+        deadLetterCounter.increment();
+        log.error("[COMMENT_BURST] 댓글 저장 실패 → dead-letter provisionalId={} boardNo={} member={}",
+                pc.getProvisionalId(), pc.getBoardNo(), pc.getMemberEmail(), cause);
+        String error = String.valueOf(cause.getMessage());
+        DeadLetter dl = new DeadLetter(pc, error.length() > 500 ? error.substring(0, 500) : error);
+        if (!writeDeadLetter(dl) && !parked.offer(dl)) {
+            // 여기까지 오면 DB 장애가 길게 이어지는 중 + 보관 공간도 가득 → 로그에만 남음
+            log.error("[COMMENT_BURST] dead-letter 보관 초과, 댓글 유실 provisionalId={} boardNo={} member={} content={}",
+                    pc.getProvisionalId(), pc.getBoardNo(), pc.getMemberEmail(), pc.getContent());
+        }
+    }
+
+    private boolean writeDeadLetter(DeadLetter dl) {
+        PendingComment pc = dl.comment();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            tx.executeWithoutResult(status -> jdbcTemplate.update(DEAD_LETTER_INSERT_SQL,
+                    pc.getProvisionalId(), pc.getBoardNo(), pc.getMemberEmail(), pc.getContent(),
+                    Timestamp.valueOf(pc.getCreatedAt()), dl.error(), now, now));
+            return true;
+        } catch (Exception e) {
+            log.error("[COMMENT_BURST] dead-letter 기록 실패 (메모리 보관 후 재시도) provisionalId={}", pc.getProvisionalId(), e);
+            return false;
+        }
+    }
+
+    private void retryParked() {
+        DeadLetter dl;
+        while ((dl = parked.peek()) != null) {
+            if (!writeDeadLetter(dl)) return;   // 아직 DB 장애 → 다음 flush 에서
+            parked.poll();
+        }
+    }
+
+    /**
+     * dead-letter 댓글을 t1_comment 로 다시 옮김 (원인 해결 후 관리자가 실행)
+     * - 한 건씩 (옮기기 + dead-letter 삭제) 한 트랜잭션, 또 실패하면 attempts / last_error 만 갱신
+     * @return 옮긴 건수
+     */
+    public int replayDeadLetters(int limit) {
+        List<Map.Entry<Long, PendingComment>> rows = jdbcTemplate.query(DEAD_LETTER_SELECT_SQL, (rs, i) ->
+                Map.entry(rs.getLong("dead_letter_no"), PendingComment.builder()
+                        .provisionalId(rs.getString("provisional_id"))
+                        .boardNo(rs.getObject("board_no", Long.class))
+                        .memberEmail(rs.getString("member_email"))
+                        .content(rs.getString("comment_content"))
+                        .createdAt(rs.getTimestamp("commented_at").toLocalDateTime())
+                        .build()), Math.max(1, limit));
+
+        int replayed = 0;
+        for (Map.Entry<Long, PendingComment> row : rows) {
+            try {
+                tx.executeWithoutResult(status -> {
+                    insertBatch(List.of(row.getValue()));
+                    jdbcTemplate.update(DEAD_LETTER_DELETE_SQL, row.getKey());
+                });
+                replayed++;
+            } catch (Exception e) {
+                String error = String.valueOf(e.getMessage());
+                jdbcTemplate.update(DEAD_LETTER_FAIL_SQL, error.length() > 500 ? error.substring(0, 500) : error,
+                        Timestamp.valueOf(LocalDateTime.now()), row.getKey());
+                log.warn("[COMMENT_BURST] dead-letter 재처리 실패 deadLetterNo={}", row.getKey(), e);
+            }
+        }
+        log.info("[COMMENT_BURST] dead-letter 재처리 {}/{}", replayed, rows.size());
+        return replayed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 것 마저 저장
+        while (flushOnce() > 0) {
+            // drain
+        }
+    }
+}
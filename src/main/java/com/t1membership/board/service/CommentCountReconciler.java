@@ -0,0 +1,55 @@
+package com.t1membership.board.service;
+
+import com.t1membership.board.repository.BoardRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * t1_board.comment_count 보정
+ * - 평소엔 CommentServiceImpl 에서 원자적 +1 / -1 로 맞춰짐
+ * - CommentEntity.board 의 @OnDelete(CASCADE) 처럼 DB 가 직접 댓글을 지우면 JPA 를 안 거치므로
+ *   카운트가 틀어질 수 있음 → 주기적으로 실제 댓글 수와 다른 행만 다시 맞춘다
+ * - comment_count 컬럼이 생기기 전 게시글은 0 으로 채워져 있음 → 기동 시 한 번 채움 (틀어진 행만이라 이후 기동은 금방 끝남)
+ */
+@Log4j2
+@Component
+public class CommentCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate tx;
+    private final boolean onStartup;
+
+    public CommentCountReconciler(BoardRepository boardRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.board.comment-count.reconcile-on-startup:true}") boolean onStartup) {
+        this.boardRepository = boardRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!onStartup) return;
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            // 실패해도 새벽 보정에서 다시 맞춤
+            log.error("[COMMENT_COUNT] 기동 시 보정 실패", e);
+        }
+    }
+
+    // 매일 새벽 4시
+    @Scheduled(cron = "0 0 4 * * *")
+    public void reconcileAll() {
+        Integer fixed = tx.execute(status -> boardRepository.reconcileAllCommentCounts());
+        if (fixed != null && fixed > 0) {
+            log.info("[COMMENT_COUNT] 보정된 게시글 수={}", fixed);
+        }
+    }
+}
@@ -17,8 +17,9 @@ import com.t1membership.board.repository.BoardRepository;
 import com.t1membership.board.repository.CommentRepository;
 import com.t1membership.coreDto.PageRequestDTO;
 import com.t1membership.coreDto.PageResponseDTO;
+import com.t1membership.member.constant.MemberRole;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.http.HttpStatus;
@@ -38,7 +39,8 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
+    private final CommentBurstBuffer commentBurstBuffer;
 
     // =========================
     // Auth Utils
@@ -53,53 +55,17 @@ public class CommentServiceImpl implements CommentService {
     }
 
     /**
-     * ✅ 중요: 형님 프로젝트는 "권한"이 authorities로도 올 수 있고,
-     * MemberEntity.memberRole(enum/string) 로도 판단하는 흐름이 섞여있습니다.
-     *
-     * - 수정/삭제 권한은 "관리자" 판정을 정확히 해야 하니
-     *   authorities + memberRole 둘 다 커버합니다.
+     * 댓글 관리자 판정
+     * - authorities(ROLE_ADMIN) + memberRole(ADMIN / ADMIN_CONTENT / T1) 둘 다 커버
+     * - 회원/플래그는 MemberContext 에서 요청당 1번만 조회
      */
-    private boolean isAdmin(Authentication auth, MemberEntity me) {
-        boolean byAuthorities = false;
-        if (auth != null) {
-            byAuthorities = auth.getAuthorities().stream().anyMatch(a ->
-                    "ROLE_ADMIN".equals(a.getAuthority())
-                            || "ROLE_MANAGER".equals(a.getAuthority())
-                            || "ADMIN".equals(a.getAuthority())
-                            || "MANAGER".equals(a.getAuthority())
-            );
-        }
-
-        boolean byMemberRole = false;
-        if (me != null && me.getMemberRole() != null) {
-            String role = me.getMemberRole().toString();
-            byMemberRole = "ADMIN".equals(role) || "ADMIN_CONTENT".equals(role) || "T1".equals(role);
-        }
-
-        return byAuthorities || byMemberRole;
+    private boolean isAdmin() {
+        return memberContext.isAdmin()
+                || memberContext.hasRole(MemberRole.ADMIN, MemberRole.ADMIN_CONTENT, MemberRole.T1);
     }
 
-    private MemberEntity currentMemberOrThrow(String email) {
-        return memberRepository.findById(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다."));
-    }
-
-    private boolean isPlayerRole(Object role) {
-        return role != null && role.toString().startsWith("PLAYER");
-    }
-
-    private boolean isMembershipActive(MemberEntity me) {
-        try {
-            Object payType = me.getMembershipType(); // 형님 엔티티 getter 이름 그대로 사용
-            if (payType == null) return false;
-            return !"NO_MEMBERSHIP".equalsIgnoreCase(payType.toString());
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private boolean isStoryPrivilege(MemberEntity me, boolean admin) {
-        return admin || isPlayerRole(me.getMemberRole()) || isMembershipActive(me);
+    private boolean isStoryPrivilege(boolean admin) {
+        return admin || memberContext.isPlayer() || memberContext.isMembershipActive();
     }
 
     private void validateCommunityCategoryOrThrow(String raw) {
@@ -126,13 +92,13 @@ public class CommentServiceImpl implements CommentService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        MemberEntity me = currentMemberOrThrow(email);
-        boolean admin = isAdmin(auth, me);
+        memberContext.getMemberOrThrow();
+        boolean admin = isAdmin();
 
         // STORY
         if (board.getBoardType() == BoardType.STORY) {
             if (board.isSecret()) {
-                if (!isStoryPrivilege(me, admin)) {
+                if (!isStoryPrivilege(admin)) {
                     throw new ResponseStatusException(
                             HttpStatus.FORBIDDEN,
                             "멤버십 회원 전용 콘텐츠라 댓글을 작성/조회할 수 없습니다."
@@ -147,10 +113,7 @@ public class CommentServiceImpl implements CommentService {
             return;
         }
 
-        boolean membershipPrivilege =
-                admin
-                        || isPlayerRole(me.getMemberRole())
-                        || isMembershipActive(me);
+        boolean membershipPrivilege = isStoryPrivilege(admin);
 
         if (!membershipPrivilege) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "멤버십 회원에게 공개된 페이지예요.");
@@ -160,7 +123,7 @@ public class CommentServiceImpl implements CommentService {
         validateCommunityCategoryOrThrow(ccRaw);
         CommunityCategoryCode cc = CommunityCategoryCode.valueOf(ccRaw.trim().toUpperCase());
 
-        if (cc == CommunityCategoryCode.LOUNGE && !admin && isPlayerRole(me.getMemberRole())) {
+        if (cc == CommunityCategoryCode.LOUNGE && !admin && memberContext.isPlayer()) {
             throw new ResponseStatusException(
                     HttpStatus.FORBIDDEN,
                     "스타에게 노출되지 않는 비공개 보드에요. 선수 계정은 접근할 수 없습니다."
@@ -200,8 +163,8 @@ public class CommentServiceImpl implements CommentService {
         }
 
         String email = auth.getName();
-        MemberEntity me = currentMemberOrThrow(email);
-        boolean admin = isAdmin(auth, me);
+        memberContext.getMemberOrThrow();
+        boolean admin = isAdmin();
 
         String writerEmail = (comment.getMember() != null) ? comment.getMember().getMemberEmail() : null;
         boolean mine = (email != null && writerEmail != null && email.equalsIgnoreCase(writerEmail));
@@ -222,14 +185,27 @@ public class CommentServiceImpl implements CommentService {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        String loginEmail = auth.getName();
-        MemberEntity member = currentMemberOrThrow(loginEmail);
+        MemberEntity member = memberContext.getMemberOrThrow();
 
         BoardEntity board = boardRepository.findById(req.getBoardNo())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."));
 
         assertCanAccessBoard(board);
 
+        // 버스트 모드 게시글: 큐에 넣고 임시 id 로 바로 응답 (저장 + 카운트는 flush 에서)
+        if (commentBurstBuffer.isBurst(board.getBoardNo())) {
+            var pending = commentBurstBuffer.enqueue(board.getBoardNo(), member.getMemberEmail(), req.getCommentContent());
+            return CreateCommentRes.builder()
+                    .boardNo(board.getBoardNo())
+                    .commentWriter(member.getMemberNickName())
+                    .memberProfileImageUrl(member.getMemberImage())
+                    .commentContent(req.getCommentContent())
+                    .createdAt(pending.getCreatedAt().toString())
+                    .pending(true)
+                    .provisionalId(pending.getProvisionalId())
+                    .build();
+        }
+
         CommentEntity comment = CommentEntity.builder()
                 .board(board)
                 .member(member)
@@ -238,6 +214,10 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         CommentEntity saved = commentRepository.save(comment);
+
+        // 게시글 댓글 수 +1 (원자적 UPDATE)
+        boardRepository.increaseCommentCount(board.getBoardNo());
+
         return CreateCommentRes.from(saved);
     }
 
@@ -247,7 +227,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public UpdateCommentRes updateComment(UpdateCommentReq req) {
-        CommentEntity comment = commentRepository.findById(req.getCommentNo())
+        CommentEntity comment = commentRepository.findLiveById(req.getCommentNo())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
 
         if (comment.getBoard() != null) {
@@ -268,7 +248,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public DeleteCommentRes deleteComment(DeleteCommentReq req) {
-        CommentEntity comment = commentRepository.findById(req.getCommentNo())
+        CommentEntity comment = commentRepository.findLiveById(req.getCommentNo())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."));
 
         if (comment.getBoard() != null) {
@@ -277,8 +257,15 @@ public class CommentServiceImpl implements CommentService {
 
         assertCanModifyComment(comment);
 
+        Long boardNo = (comment.getBoard() != null) ? comment.getBoard().getBoardNo() : null;
+
         commentRepository.delete(comment);
 
+        // 게시글 댓글 수 -1 (0 밑으로는 안 내려감)
+        if (boardNo != null) {
+            boardRepository.decreaseCommentCount(boardNo);
+        }
+
         return DeleteCommentRes.builder()
                 .commentNo(req.getCommentNo())
                 .build();
@@ -348,7 +335,7 @@ public class CommentServiceImpl implements CommentService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "commentNo"));
 
-        Page<CommentEntity> p = commentRepository.findByMember_MemberEmail(email, pageable);
+        Page<CommentEntity> p = commentRepository.findMyComments(email, pageable);
 
         var dtoList = p.getContent().stream()
                 .map(c -> {
@@ -7,7 +7,7 @@ import com.t1membership.board.dto.story.ToggleStoryLikeRes;
 import com.t1membership.board.repository.BoardLikeRepository;
 import com.t1membership.board.repository.BoardRepository;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -20,12 +20,12 @@ public class StoryLikeService {
 
     private final BoardRepository boardRepository;
     private final BoardLikeRepository boardLikeRepository;
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
 
     @Transactional
     public ToggleStoryLikeRes toggleLike(Long boardNo, String email) {
 
-        MemberEntity member = memberRepository.findByMemberEmail(email)
+        MemberEntity member = memberContext.findMember(email)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
 
         BoardEntity board = boardRepository.findById(boardNo)
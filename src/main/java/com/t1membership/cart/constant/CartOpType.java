@@ -0,0 +1,8 @@
+package com.t1membership.cart.constant;
+
+// 장바구니 일괄 변경 작업 종류
+public enum CartOpType {
+    ADD,     // 담기 (같은 상품/옵션 라인이 있으면 수량 증가)
+    UPDATE,  // 수량 변경 (0 이면 삭제)
+    DELETE   // 라인 삭제
+}
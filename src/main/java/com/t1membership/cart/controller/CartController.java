@@ -3,6 +3,8 @@ package com.t1membership.cart.controller;
 import com.t1membership.ApiResult;
 import com.t1membership.cart.dto.addCartItem.AddCartItemReq;
 import com.t1membership.cart.dto.addCartItem.AddCartItemRes;
+import com.t1membership.cart.dto.batchCart.BatchCartReq;
+import com.t1membership.cart.dto.batchCart.BatchCartRes;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemReq;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemRes;
 import com.t1membership.cart.dto.prepareOrder.PrepareOrderReq;
@@ -11,6 +13,7 @@ import com.t1membership.cart.dto.readCart.CartItemRes;
 import com.t1membership.cart.dto.updateCartItemQuantity.UpdateCartItemQuantityReq;
 import com.t1membership.cart.dto.updateCartItemQuantity.UpdateCartItemQuantityRes;
 import com.t1membership.cart.service.CartService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -56,6 +59,14 @@ public class CartController {
         return new ApiResult<>(patchRes);
     }
 
+    // 일괄 변경 (담기/수량 변경/삭제 여러 건을 한 번에, 하나라도 실패하면 전부 취소)
+    @PostMapping("/{memberEmail}/items/batch")
+    public ApiResult<BatchCartRes> batchCart(@PathVariable String memberEmail,
+                                             @RequestBody @Valid BatchCartReq postReq) {
+        var postRes = cartService.batchCart(memberEmail, postReq);
+        return new ApiResult<>(postRes);
+    }
+
     // 결제 직전 검증/요약
     @PostMapping("/prepare")
     public ApiResult<PrepareOrderRes> prepareOrder(@RequestBody PrepareOrderReq postReq) {
@@ -0,0 +1,33 @@
+package com.t1membership.cart.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장바구니 메모리 모드를 쓰는 서버 (한 행, CartMemoryStore)
+ *
+ * - 메모리 모드는 서버(JVM)마다 장바구니를 따로 들고 있음 → 서버가 둘 이상이면 서로의 변경을 못 봄
+ * - 기동 시 이 행을 차지하고, heartbeat 가 살아있는 다른 서버가 있으면 기동 실패
+ * - JDBC 로만 씀, 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(name = "t1_cart_memory_owner")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CartMemoryOwnerEntity {
+
+    @Id
+    @Column(name = "owner_key", length = 20)
+    private String ownerKey;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,42 @@
+package com.t1membership.cart.dto.batchCart;
+
+import com.t1membership.cart.constant.CartOpType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchCartReq {
+
+    @NotEmpty(message = "변경할 항목이 없습니다.")
+    @Size(max = 100)
+    @Valid
+    private List<Op> operations;   // 요청 순서대로 적용
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Op {
+        @NotNull
+        private CartOpType type;
+
+        private Long cartNo;    // UPDATE / DELETE 대상 라인 (없으면 itemNo 로 찾음)
+        private Long itemNo;    // ADD 필수
+        private Integer quantity; // ADD: 추가 수량(기본 1), UPDATE: 바꿀 수량
+
+        // ADD 옵션
+        private String optionKind;
+        private String optionValue;
+        private String optionLabel;
+    }
+}
@@ -0,0 +1,33 @@
+package com.t1membership.cart.dto.batchCart;
+
+import com.t1membership.cart.constant.CartOpType;
+import com.t1membership.coreDomain.Money;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchCartRes {
+
+    private List<Result> results;   // 작업별 결과 (요청 순서)
+
+    // 적용 후 장바구니 요약
+    private int lineCount;
+    private int totalQuantity;
+    private Money totalAmount;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Result {
+        private int index;
+        private CartOpType type;
+        private Long cartNo;
+        private Long itemNo;
+        private int quantity;      // 적용 후 수량 (삭제면 0)
+    }
+}
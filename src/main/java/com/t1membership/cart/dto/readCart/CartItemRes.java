@@ -2,11 +2,10 @@
 package com.t1membership.cart.dto.readCart;
 
 import com.t1membership.cart.domain.CartEntity;
+import com.t1membership.coreDomain.Money;
 import com.t1membership.item.domain.ItemEntity;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 @Getter
 @Setter
 @NoArgsConstructor
@@ -22,8 +21,8 @@ public class CartItemRes {
     private String thumbnail;
 
     private int quantity;
-    private BigDecimal unitPrice;
-    private BigDecimal lineTotal;
+    private Money unitPrice;
+    private Money lineTotal;
 
     private boolean membershipOnly;
     private boolean soldOut;
@@ -32,8 +31,8 @@ public class CartItemRes {
 
     public static CartItemRes from(CartEntity line) {
         ItemEntity item = line.getItem();
-        BigDecimal unitPrice = item.getItemPrice();
-        BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(line.getItemQuantity()));
+        Money unitPrice = Money.of(item.getItemPrice());
+        Money lineTotal = unitPrice.times(line.getItemQuantity());
 
         // 🔥 옵션 문구 만들기
         String label = line.getOptionLabel();   // DB에 이미 저장돼 있으면 이거 우선
@@ -0,0 +1,25 @@
+package com.t1membership.cart.dto.readCart;
+
+import com.t1membership.item.constant.ItemCategory;
+
+import java.math.BigDecimal;
+
+// 장바구니 화면 한 줄 (라인 + 상품 + 대표 이미지 한 장) - CartRepository.findCartView 한 번으로 조회
+public interface CartLineView {
+    Long getCartNo();
+    Long getItemNo();
+    String getItemName();
+    BigDecimal getItemPrice();
+    int getItemStock();
+    ItemCategory getItemCategory();
+
+    int getItemQuantity();
+    String getOptionKind();
+    String getOptionValue();
+    String getOptionLabel();
+
+    // 대표 이미지 (image_order 가장 앞, 없으면 전부 null)
+    String getThumbUrl();
+    String getImageUrl();
+    String getImageFileName();
+}
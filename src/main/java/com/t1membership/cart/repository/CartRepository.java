@@ -1,10 +1,12 @@
 package com.t1membership.cart.repository;
 
 import com.t1membership.cart.domain.CartEntity;
+import com.t1membership.cart.dto.readCart.CartLineView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,9 +33,38 @@ public interface CartRepository extends JpaRepository<CartEntity, Long> {
     """)
     List<CartEntity> findLinesForPrepare(
             @Param("memberEmail") String memberEmail,
-            @Param("itemNos") List<Long> itemNos
+            @Param("itemNos") Collection<Long> itemNos
     );
 
+    // 일괄 변경용: 회원 장바구니 전체 라인 + 상품 한 번에 (라인 수는 많아야 수십 줄)
+    @Query("""
+      select c from CartEntity c
+        join fetch c.item i
+       where c.member.memberEmail = :memberEmail
+    """)
+    List<CartEntity> findAllWithItem(@Param("memberEmail") String memberEmail);
+
+    // 장바구니 화면: 라인 + 상품 + 대표 이미지(image_order 가장 앞 1장)를 쿼리 한 번으로
+    // - 이미지 컬렉션 로딩/정렬 없이 uuid 하나만 서브쿼리로 고름 (idx_image_item_order)
+    @Query("""
+      select c.cartNo as cartNo,
+             i.itemNo as itemNo, i.itemName as itemName, i.itemPrice as itemPrice,
+             i.itemStock as itemStock, i.itemCategory as itemCategory,
+             c.itemQuantity as itemQuantity,
+             c.optionKind as optionKind, c.optionValue as optionValue, c.optionLabel as optionLabel,
+             img.thumbUrl as thumbUrl, img.url as imageUrl, img.fileName as imageFileName
+        from CartEntity c
+        join c.item i
+        left join ImageEntity img
+          on img.uuid = (select im.uuid from ImageEntity im
+                          where im.item = i
+                          order by im.sortOrder asc nulls last, im.uuid asc
+                          limit 1)
+       where c.member.memberEmail = :memberEmail
+       order by c.cartNo desc
+    """)
+    List<CartLineView> findCartView(@Param("memberEmail") String memberEmail);
+
     // com.t1membership.cart.repository.CartRepository
 
     Optional<CartEntity> findByMember_MemberEmailAndItem_ItemNoAndOptionValue(
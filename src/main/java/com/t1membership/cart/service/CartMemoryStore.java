@@ -0,0 +1,623 @@
+package com.t1membership.cart.service;
+
+import com.t1membership.cart.dto.readCart.CartLineView;
+import com.t1membership.cart.repository.CartRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 장바구니 메모리 저장소 (write-behind)
+ *
+ * - app.cart.memory.enabled=true 일 때만 CartServiceImpl 이 사용 (opt-in), flush 스레드도 그때만 띄움
+ * - 단일 서버 전용: 장바구니가 이 JVM 메모리에만 있어서 서버가 둘 이상이면 서로의 변경을 못 봄
+ *   → 기동 시 t1_cart_memory_owner 행을 차지, heartbeat 가 살아있는 다른 서버가 있으면 기동 실패
+ *   → 여러 대로 띄울 때는 메모리 모드를 끄고 DB 모드로
+ * - 회원별 장바구니를 회원 email 해시로 나눈 샤드에 보관, 샤드당 회원 수 상한 (LRU, 저장 안 된 장바구니는 안 내보냄)
+ * - 수량 변경 / 삭제는 메모리에만 반영 → flush-ms 마다 JDBC batch 로 t1_cart 에 저장
+ * - 새 라인은 cartNo(삭제/주문에서 쓰는 키)가 필요해서 바로 insert (별도 트랜잭션, select 없음)
+ * - 주문 생성 직전 / 서버 종료 시 flush → 주문은 항상 DB 기준 수량으로 만들어짐
+ *
+ * 락: 회원 장바구니마다 ReentrantLock 하나. flush 는 대상 회원들 락을 잡은 채 한 트랜잭션으로 저장
+ *     (요청 스레드는 자기 장바구니 락 하나만 잡으니 서로 기다리다 멈추는 일 없음)
+ */
+@Log4j2
+@Component
+public class CartMemoryStore {
+
+    private static final String INSERT_SQL = """
+            insert into t1_cart (member_email, item_no, item_quantity, option_kind, option_value, option_label)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_QTY_SQL = "update t1_cart set item_quantity = ? where cart_no = ?";
+
+    private static final String DELETE_SQL = "delete from t1_cart where cart_no = ?";
+
+    // ===== 단일 서버 확인 (t1_cart_memory_owner) =====
+    private static final String OWNER_KEY = "CART";
+    private static final long OWNER_HEARTBEAT_SECONDS = 10;
+    private static final long OWNER_STALE_SECONDS = 30;
+
+    private static final String OWNER_LOCK_SQL =
+            "select node_id, heartbeat_at from t1_cart_memory_owner where owner_key = ? for update";
+    private static final String OWNER_INSERT_SQL =
+            "insert into t1_cart_memory_owner (owner_key, node_id, heartbeat_at) values (?, ?, ?)";
+    private static final String OWNER_TAKE_SQL =
+            "update t1_cart_memory_owner set node_id = ?, heartbeat_at = ? where owner_key = ?";
+    private static final String OWNER_HEARTBEAT_SQL =
+            "update t1_cart_memory_owner set heartbeat_at = ? where owner_key = ? and node_id = ?";
+    private static final String OWNER_RELEASE_SQL =
+            "delete from t1_cart_memory_owner where owner_key = ? and node_id = ?";
+
+    private final CartRepository cartRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final boolean enabled;
+    private final int maxMembersPerShard;
+    private final int batchMembers;
+
+    private final Shard[] shards;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 저장 안 된 변경이 있는 회원
+    private final Set<String> dirtyMembers = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService flusher;
+
+    public CartMemoryStore(CartRepository cartRepository,
+                           JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.cart.memory.enabled:false}") boolean enabled,
+                           @Value("${app.cart.memory.shards:16}") int shardCount,
+                           @Value("${app.cart.memory.max-members:20000}") int maxMembers,
+                           @Value("${app.cart.memory.flush-batch-members:200}") int batchMembers,
+                           @Value("${app.cart.memory.flush-ms:1000}") long flushMs) {
+        this.cartRepository = cartRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 요청 트랜잭션(주문 생성 등)과 상관없이 바로 커밋
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+
+        int n = Math.max(1, shardCount);
+        this.shards = new Shard[n];
+        for (int i = 0; i < n; i++) {
+            shards[i] = new Shard();
+        }
+        this.maxMembersPerShard = Math.max(1, maxMembers / n);
+        this.batchMembers = Math.max(1, batchMembers);
+
+        if (!enabled) {
+            this.flusher = null;
+            return;
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cart-write-behind");
+            t.setDaemon(true);
+            return t;
+        });
+        long delay = Math.max(50, flushMs);
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, delay, delay, TimeUnit.MILLISECONDS);
+        this.flusher.scheduleWithFixedDelay(this::heartbeat,
+                OWNER_HEARTBEAT_SECONDS, OWNER_HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // =========================
+    // 단일 서버 확인
+    // =========================
+
+    @PostConstruct
+    void claimOwnership() {
+        if (!enabled) return;
+        requiresNew.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(OWNER_LOCK_SQL, OWNER_KEY);
+            if (rows.isEmpty()) {
+                try {
+                    jdbcTemplate.update(OWNER_INSERT_SQL, OWNER_KEY, nodeId, Timestamp.valueOf(now));
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 서버가 동시에 먼저 넣음
+                    throw clustered("(동시 기동)");
+                }
+                return;
+            }
+            Map<String, Object> row = rows.get(0);
+            LocalDateTime heartbeat = ((Timestamp) row.get("heartbeat_at")).toLocalDateTime();
+            if (heartbeat.isAfter(now.minusSeconds(OWNER_STALE_SECONDS))) {
+                throw clustered(String.valueOf(row.get("node_id")));
+            }
+            // 죽은 서버가 남긴 행 → 인수
+            jdbcTemplate.update(OWNER_TAKE_SQL, nodeId, Timestamp.valueOf(now), OWNER_KEY);
+        });
+        log.info("[CART_MEMORY] 메모리 모드 사용 서버 node={}", nodeId);
+    }
+
+    private IllegalStateException clustered(String otherNode) {
+        return new IllegalStateException("장바구니 메모리 모드는 서버 한 대에서만 쓸 수 있습니다. "
+                + "이미 사용 중인 서버 node=" + otherNode + " → app.cart.memory.enabled=false 로 띄우세요.");
+    }
+
+    private void heartbeat() {
+        try {
+            int updated = requiresNew.execute(status ->
+                    jdbcTemplate.update(OWNER_HEARTBEAT_SQL, Timestamp.valueOf(LocalDateTime.now()), OWNER_KEY, nodeId));
+            if (updated == 0) {
+                log.error("[CART_MEMORY] 다른 서버가 메모리 모드 소유를 가져감 → 장바구니가 서버마다 달라질 수 있음 node={}", nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("[CART_MEMORY] heartbeat 실패", e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 화면/서비스로 내보내는 라인 스냅샷
+    public record CartLine(Long cartNo, Long itemNo, String optionKind, String optionValue, String optionLabel,
+                           int quantity) {
+    }
+
+    private static final class Line {
+        final Long cartNo;
+        final Long itemNo;
+        final String optionKind;
+        final String optionValue;
+        final String optionLabel;
+        int quantity;
+        boolean deleted;
+        boolean dirty;
+
+        Line(Long cartNo, Long itemNo, String optionKind, String optionValue, String optionLabel, int quantity) {
+            this.cartNo = cartNo;
+            this.itemNo = itemNo;
+            this.optionKind = optionKind;
+            this.optionValue = optionValue;
+            this.optionLabel = optionLabel;
+            this.quantity = quantity;
+        }
+
+        boolean sameOption(Long itemNo, String optionValue) {
+            return this.itemNo.equals(itemNo) && Objects.equals(this.optionValue, optionValue);
+        }
+
+        CartLine snapshot() {
+            return new CartLine(cartNo, itemNo, optionKind, optionValue, optionLabel, quantity);
+        }
+    }
+
+    private static final class MemberCart {
+        final String email;
+        final ReentrantLock lock = new ReentrantLock();
+        // cartNo → 라인 (삭제 대기 라인 포함)
+        final Map<Long, Line> lines = new HashMap<>();
+        // 샤드에서 내보낸 뒤 늦게 잡은 참조로 변경하지 않도록
+        boolean evicted;
+
+        MemberCart(String email) {
+            this.email = email;
+        }
+
+        boolean isDirty() {
+            for (Line l : lines.values()) {
+                if (l.dirty) return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Shard {
+        // access-order → 가장 오래 안 쓴 장바구니부터 내보냄
+        final LinkedHashMap<String, MemberCart> carts = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    // =========================
+    // 조회
+    // =========================
+
+    // 최신 라인 먼저 (cartNo 내림차순, DB 조회와 같은 순서)
+    public List<CartLine> lines(String email) {
+        MemberCart cart = lockCart(email);
+        try {
+            return cart.lines.values().stream()
+                    .filter(l -> !l.deleted)
+                    .sorted(Comparator.comparing((Line l) -> l.cartNo).reversed())
+                    .map(Line::snapshot)
+                    .toList();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    // =========================
+    // 변경
+    // =========================
+
+    /**
+     * 담기: 같은 상품/옵션 라인이 있으면 수량만 증가, 없으면 새 라인 insert
+     * @param stock 카탈로그 기준 현재 재고 (담긴 수량이 이걸 넘으면 400)
+     */
+    public CartLine add(String email, Long itemNo, String optionKind, String optionValue, String optionLabel,
+                        int addQty, int stock) {
+        String value = (optionValue == null || optionValue.isBlank()) ? null : optionValue;
+
+        MemberCart cart = lockCart(email);
+        try {
+            Line line = null;
+            boolean pendingDelete = false;
+            for (Line l : cart.lines.values()) {
+                if (!l.sameOption(itemNo, value)) continue;
+                if (l.deleted) {
+                    pendingDelete = true;
+                } else {
+                    line = l;
+                }
+            }
+
+            if (line != null) {
+                int newQty = line.quantity + addQty;
+                checkStock(newQty, stock);
+                line.quantity = newQty;
+                markDirty(cart, line);
+                return line.snapshot();
+            }
+
+            checkStock(addQty, stock);
+
+            // 같은 옵션 라인 삭제가 아직 DB 에 안 갔으면 먼저 저장 (unique 제약 충돌 방지)
+            if (pendingDelete) {
+                flushLocked(List.of(cart));
+            }
+
+            Long cartNo = insert(email, itemNo, optionKind, value, optionLabel, addQty);
+            Line created = new Line(cartNo, itemNo, optionKind, value, optionLabel, addQty);
+            cart.lines.put(cartNo, created);
+            return created.snapshot();
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    /**
+     * 수량 변경 (0 이면 삭제)
+     * @return 변경된 라인, 장바구니에 없으면 empty
+     */
+    public Optional<CartLine> setQuantity(String email, Long itemNo, int qty, int stock) {
+        MemberCart cart = lockCart(email);
+        try {
+            Optional<Line> found = cart.lines.values().stream()
+                    .filter(l -> !l.deleted && l.itemNo.equals(itemNo))
+                    .max(Comparator.comparing((Line l) -> l.cartNo));
+            if (found.isEmpty()) return Optional.empty();
+
+            Line line = found.get();
+            if (qty == 0) {
+                line.deleted = true;
+            } else {
+                checkStock(qty, stock);
+                line.quantity = qty;
+            }
+            markDirty(cart, line);
+            return Optional.of(line.snapshot());
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    public boolean delete(String email, Long cartNo) {
+        MemberCart cart = lockCart(email);
+        try {
+            Line line = cart.lines.get(cartNo);
+            if (line == null || line.deleted) return false;
+            line.deleted = true;
+            markDirty(cart, line);
+            return true;
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    /**
+     * 주문에서 DB 라인을 직접 지운 뒤 메모리에서도 제거 (커밋 후)
+     */
+    public void forgetAfterCommit(String email, Collection<Long> cartNos) {
+        if (!enabled || cartNos == null || cartNos.isEmpty()) return;
+        Set<Long> targets = new HashSet<>(cartNos);
+        Runnable forget = () -> {
+            MemberCart cart = peek(email);
+            if (cart == null) return;
+            cart.lock.lock();
+            try {
+                cart.lines.keySet().removeAll(targets);
+            } finally {
+                cart.lock.unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget.run();
+                }
+            });
+        } else {
+            forget.run();
+        }
+    }
+
+    /**
+     * DB 에서 장바구니를 여러 줄 직접 바꾼 뒤 (일괄 변경) 커밋 후 통째로 내보냄 → 다음 조회 때 DB 에서 다시 읽음
+     * - 그 사이 메모리에 들어온 변경이 있으면 먼저 저장하고 내보냄
+     */
+    public void evictAfterCommit(String email) {
+        if (!enabled) return;
+        Runnable evict = () -> {
+            MemberCart cart = peek(email);
+            if (cart == null) return;
+            cart.lock.lock();
+            try {
+                if (cart.evicted) return;
+                if (cart.isDirty()) flushLocked(List.of(cart));
+                cart.evicted = true;
+                Shard shard = shardOf(email);
+                synchronized (shard) {
+                    shard.carts.remove(email, cart);
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private static void checkStock(int qty, int stock) {
+        if (qty > stock) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "재고보다 많은 수량을 담을 수 없습니다.");
+        }
+    }
+
+    private void markDirty(MemberCart cart, Line line) {
+        line.dirty = true;
+        dirtyMembers.add(cart.email);
+    }
+
+    private Long insert(String email, Long itemNo, String optionKind, String optionValue, String optionLabel, int qty) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, email);
+                ps.setLong(2, itemNo);
+                ps.setInt(3, qty);
+                ps.setString(4, optionKind);
+                ps.setString(5, optionValue);
+                ps.setString(6, optionLabel);
+                return ps;
+            }, keys));
+        } catch (DataIntegrityViolationException e) {
+            // 회원/상품 FK 또는 다른 서버에서 같은 라인을 먼저 넣은 경우
+            log.warn("[CART_MEMORY] insert 실패 member={} itemNo={} option={}", email, itemNo, optionValue, e);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "장바구니에 담지 못했습니다. 다시 시도해 주세요.");
+        }
+        Number key = keys.getKey();
+        if (key == null) {
+            throw new IllegalStateException("장바구니 번호 생성 실패");
+        }
+        return key.longValue();
+    }
+
+    // =========================
+    // 적재 / 내보내기
+    // =========================
+
+    private Shard shardOf(String email) {
+        return shards[Math.floorMod(email.hashCode(), shards.length)];
+    }
+
+    private MemberCart peek(String email) {
+        Shard shard = shardOf(email);
+        synchronized (shard) {
+            return shard.carts.get(email);
+        }
+    }
+
+    private MemberCart cart(String email) {
+        MemberCart cached = peek(email);
+        if (cached != null) return cached;
+
+        // DB 조회는 샤드 락 밖에서 (동시에 두 번 읽어도 먼저 넣은 쪽 사용)
+        MemberCart loaded = new MemberCart(email);
+        for (CartLineView v : cartRepository.findCartView(email)) {
+            loaded.lines.put(v.getCartNo(), new Line(v.getCartNo(), v.getItemNo(),
+                    v.getOptionKind(), v.getOptionValue(), v.getOptionLabel(), v.getItemQuantity()));
+        }
+
+        Shard shard = shardOf(email);
+        synchronized (shard) {
+            MemberCart existing = shard.carts.putIfAbsent(email, loaded);
+            if (existing != null) return existing;
+            evictIfFull(shard);
+            return loaded;
+        }
+    }
+
+    // 락 잡힌, 샤드에 살아있는 장바구니 (호출한 쪽에서 unlock)
+    private MemberCart lockCart(String email) {
+        while (true) {
+            MemberCart cart = cart(email);
+            cart.lock.lock();
+            if (!cart.evicted) return cart;
+            cart.lock.unlock();
+        }
+    }
+
+    // 샤드 락 안에서 호출. 저장 안 된 장바구니 / 사용 중인 장바구니는 건너뜀
+    private void evictIfFull(Shard shard) {
+        Iterator<MemberCart> it = shard.carts.values().iterator();
+        while (shard.carts.size() > maxMembersPerShard && it.hasNext()) {
+            MemberCart c = it.next();
+            if (!c.lock.tryLock()) continue;
+            try {
+                if (!c.isDirty()) {
+                    c.evicted = true;
+                    it.remove();
+                }
+            } finally {
+                c.lock.unlock();
+            }
+        }
+    }
+
+    // =========================
+    // flush
+    // =========================
+
+    /**
+     * 한 회원 장바구니를 바로 저장 (주문 생성 직전)
+     */
+    public void flush(String email) {
+        if (!enabled || !dirtyMembers.contains(email)) return;
+        MemberCart cart = peek(email);
+        if (cart == null) return;
+        cart.lock.lock();
+        try {
+            flushLocked(List.of(cart));
+        } finally {
+            cart.lock.unlock();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            while (flushOnce() == batchMembers) {
+                // 한 번에 꽉 찼으면 바로 이어서
+            }
+        } catch (Exception e) {
+            log.error("[CART_MEMORY] flush 실패", e);
+        }
+    }
+
+    int flushOnce() {
+        if (dirtyMembers.isEmpty()) return 0;
+
+        // 락 순서 고정 (email 오름차순)
+        List<String> emails = dirtyMembers.stream().sorted().limit(batchMembers).toList();
+        List<MemberCart> locked = new ArrayList<>(emails.size());
+        try {
+            for (String email : emails) {
+                MemberCart cart = peek(email);
+                if (cart == null) {
+                    dirtyMembers.remove(email);
+                    continue;
+                }
+                cart.lock.lock();
+                if (cart.evicted) {
+                    cart.lock.unlock();
+                    continue;
+                }
+                locked.add(cart);
+            }
+            flushLocked(locked);
+        } finally {
+            for (MemberCart cart : locked) {
+                cart.lock.unlock();
+            }
+        }
+        return emails.size();
+    }
+
+    // 호출하는 쪽이 carts 의 락을 모두 잡고 있어야 함. 실패하면 dirty 그대로 → 다음 주기에 재시도
+    private void flushLocked(List<MemberCart> carts) {
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        for (MemberCart cart : carts) {
+            for (Line l : cart.lines.values()) {
+                if (!l.dirty) continue;
+                if (l.deleted) {
+                    deletes.add(new Object[]{l.cartNo});
+                } else {
+                    updates.add(new Object[]{l.quantity, l.cartNo});
+                }
+            }
+        }
+
+        if (!updates.isEmpty() || !deletes.isEmpty()) {
+            requiresNew.executeWithoutResult(status -> {
+                if (!updates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_QTY_SQL, updates);
+                if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            });
+            log.debug("[CART_MEMORY] flush members={} updates={} deletes={}", carts.size(), updates.size(), deletes.size());
+        }
+
+        for (MemberCart cart : carts) {
+            cart.lines.values().removeIf(l -> l.deleted);
+            cart.lines.values().forEach(l -> l.dirty = false);
+            dirtyMembers.remove(cart.email);
+        }
+    }
+
+    public int dirtyCount() {
+        return dirtyMembers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) return;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 남은 변경 마저 저장
+        int rounds = 0;
+        while (!dirtyMembers.isEmpty() && rounds++ < 1000) {
+            try {
+                flushOnce();
+            } catch (Exception e) {
+                log.error("[CART_MEMORY] 종료 flush 실패 남은 회원={}", dirtyMembers.size(), e);
+                break;
+            }
+        }
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(OWNER_RELEASE_SQL, OWNER_KEY, nodeId));
+        } catch (Exception e) {
+            log.warn("[CART_MEMORY] 소유 해제 실패 (stale 후 다음 서버가 인수)", e);
+        }
+    }
+}
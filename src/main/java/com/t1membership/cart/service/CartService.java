@@ -2,6 +2,8 @@ package com.t1membership.cart.service;
 
 import com.t1membership.cart.dto.addCartItem.AddCartItemReq;
 import com.t1membership.cart.dto.addCartItem.AddCartItemRes;
+import com.t1membership.cart.dto.batchCart.BatchCartReq;
+import com.t1membership.cart.dto.batchCart.BatchCartRes;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemReq;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemRes;
 import com.t1membership.cart.dto.prepareOrder.PrepareOrderReq;
@@ -20,6 +22,8 @@ public interface CartService {
 
     UpdateCartItemQuantityRes updateQuantity(String memberEmail, Long itemNo, UpdateCartItemQuantityReq updateCartItemQuantityReq);
 
+    BatchCartRes batchCart(String memberEmail, BatchCartReq batchCartReq);
+
     PrepareOrderRes prepareOrder(PrepareOrderReq prepareOrderReq);
 
     List<CartItemRes> readMyCart();
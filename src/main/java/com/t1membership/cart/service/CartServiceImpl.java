@@ -1,22 +1,33 @@
 package com.t1membership.cart.service;
 
+import com.t1membership.cart.constant.CartOpType;
 import com.t1membership.cart.domain.CartEntity;
 import com.t1membership.cart.dto.addCartItem.AddCartItemReq;
 import com.t1membership.cart.dto.addCartItem.AddCartItemRes;
+import com.t1membership.cart.dto.batchCart.BatchCartReq;
+import com.t1membership.cart.dto.batchCart.BatchCartRes;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemReq;
 import com.t1membership.cart.dto.deleteCartItem.DeleteCartItemRes;
 import com.t1membership.cart.dto.prepareOrder.PrepareOrderReq;
 import com.t1membership.cart.dto.prepareOrder.PrepareOrderRes;
 import com.t1membership.cart.dto.readCart.CartItemRes;
+import com.t1membership.cart.dto.readCart.CartLineView;
 import com.t1membership.cart.dto.updateCartItemQuantity.UpdateCartItemQuantityReq;
 import com.t1membership.cart.dto.updateCartItemQuantity.UpdateCartItemQuantityRes;
 import com.t1membership.cart.repository.CartRepository;
+import com.t1membership.coreDomain.Money;
 import com.t1membership.image.domain.ImageEntity;
+import com.t1membership.image.dto.ExistingImageDTO;
+import com.t1membership.inventory.service.HotStockShards;
 import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.dto.searchOneItem.SearchOneItemReq;
+import com.t1membership.item.dto.searchOneItem.SearchOneItemRes;
 import com.t1membership.item.repository.ItemRepository;
+import com.t1membership.item.service.ItemService;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -25,7 +36,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -36,7 +46,12 @@ public class CartServiceImpl implements CartService {
 
     private final CartRepository cartRepository;
     private final ItemRepository itemRepository;
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
+    private final CartMemoryStore cartMemoryStore;
+    private final ItemService itemService;
+    private final HotStockShards hotStockShards;
+
+    private static final int MAX_BATCH_OPS = 100;
 
     // ========== 공통 유틸 ==========
     private String currentMemberEmailOrThrow() {
@@ -70,8 +85,23 @@ public class CartServiceImpl implements CartService {
             );
         }
 
+        // 메모리 장바구니 모드: 회원/상품/라인 DB 조회 없이 처리 (재고는 카탈로그 캐시 기준)
+        if (cartMemoryStore.isEnabled()) {
+            SearchOneItemRes catalog = catalogItem(req.getItemNo());
+            if (catalog.getItemStock() <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "품절 상품입니다.");
+            }
+            CartMemoryStore.CartLine line = cartMemoryStore.add(loginEmail, catalog.getItemNo(),
+                    req.getOptionKind(), req.getOptionValue(), req.getOptionLabel(),
+                    Math.max(1, req.getQuantity()), catalog.getItemStock());
+            return AddCartItemRes.builder()
+                    .itemNo(line.itemNo())
+                    .itemQuantity(line.quantity())
+                    .build();
+        }
+
         // 1. 회원·상품 조회
-        MemberEntity member = memberRepository.findByMemberEmail(loginEmail)
+        MemberEntity member = memberContext.findMember(loginEmail)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "회원 정보를 찾을 수 없습니다."
@@ -86,7 +116,7 @@ public class CartServiceImpl implements CartService {
                         "상품을 찾을 수 없습니다."
                 ));
 
-        if (item.getItemStock() <= 0) {
+        if (stockOf(item) <= 0) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "품절 상품입니다."
@@ -132,7 +162,7 @@ public class CartServiceImpl implements CartService {
 
         int newQty = line.getItemQuantity() + addQty;
 
-        if (newQty > item.getItemStock()) {
+        if (newQty > stockOf(item)) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "재고보다 많은 수량을 담을 수 없습니다."
@@ -174,6 +204,15 @@ public class CartServiceImpl implements CartService {
             );
         }
 
+        if (cartMemoryStore.isEnabled()) {
+            if (!cartMemoryStore.delete(loginEmail, cartNo)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "장바구니 상품을 찾을 수 없습니다.");
+            }
+            return DeleteCartItemRes.builder()
+                    .cartNo(cartNo)
+                    .build();
+        }
+
         // 🔥 cartId + memberEmail 로 한 줄만 찾기
         CartEntity line = cartRepository
                 .findByCartNoAndMember_MemberEmail(cartNo, loginEmail)
@@ -203,6 +242,16 @@ public class CartServiceImpl implements CartService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수량은 0 이상이어야 합니다.");
         }
 
+        if (cartMemoryStore.isEnabled()) {
+            int stock = (qty == 0) ? 0 : catalogItem(itemNo).getItemStock();
+            cartMemoryStore.setQuantity(loginEmail, itemNo, qty, stock)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "장바구니에 없는 상품입니다."));
+            return UpdateCartItemQuantityRes.builder()
+                    .itemNo(itemNo)
+                    .itemQuantity(qty)
+                    .build();
+        }
+
         CartEntity line = cartRepository
                 .findByMember_MemberEmailAndItem_ItemNo(loginEmail, itemNo)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "장바구니에 없는 상품입니다."));
@@ -218,7 +267,7 @@ public class CartServiceImpl implements CartService {
 
         // 상한/재고 검사
         ItemEntity item = line.getItem();
-        if (qty > item.getItemStock()) {
+        if (qty > stockOf(item)) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "재고보다 많은 수량을 담을 수 없습니다.");
         }
 
@@ -232,6 +281,200 @@ public class CartServiceImpl implements CartService {
                 .build();
     }
 
+    // ========== 일괄 변경 ==========
+    // 담기/수량변경/삭제 N 건을 한 트랜잭션으로 (하나라도 실패하면 전부 롤백)
+    // - 조회: 장바구니 라인+상품 1번, 장바구니에 없는 상품 1번 (findAllById)
+    // - 적용은 메모리에서 요청 순서대로, 저장은 삭제 1번(in 절) → 신규 insert → 수량 변경은 커밋 시 dirty checking
+    @Override
+    public BatchCartRes batchCart(String memberEmail, BatchCartReq req) {
+        String loginEmail = currentMemberEmailOrThrow();
+        if (!loginEmail.equalsIgnoreCase(memberEmail)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 장바구니만 수정 가능합니다.");
+        }
+
+        List<BatchCartReq.Op> ops = Optional.ofNullable(req.getOperations()).orElseGet(List::of);
+        if (ops.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "변경할 항목이 없습니다.");
+        }
+        if (ops.size() > MAX_BATCH_OPS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BATCH_OPS + "건까지 변경할 수 있습니다.");
+        }
+
+        // 메모리 장바구니 모드: 쌓인 변경 먼저 저장하고 아래는 DB 기준으로, 커밋 후 메모리 장바구니는 다시 읽도록 내보냄
+        cartMemoryStore.flush(loginEmail);
+        cartMemoryStore.evictAfterCommit(loginEmail);
+
+        // 1. 현재 장바구니 라인 + 상품 한 번에
+        List<CartEntity> live = new ArrayList<>(cartRepository.findAllWithItem(loginEmail));
+        Map<Long, ItemEntity> items = new HashMap<>();
+        for (CartEntity line : live) {
+            items.put(line.getItem().getItemNo(), line.getItem());
+        }
+
+        // 2. 장바구니에 아직 없는 상품(ADD)만 한 번에
+        Set<Long> missingItemNos = ops.stream()
+                .filter(op -> op != null && op.getType() == CartOpType.ADD && op.getItemNo() != null)
+                .map(BatchCartReq.Op::getItemNo)
+                .filter(no -> !items.containsKey(no))
+                .collect(Collectors.toSet());
+        if (!missingItemNos.isEmpty()) {
+            itemRepository.findAllById(missingItemNos).forEach(item -> items.put(item.getItemNo(), item));
+        }
+
+        // 3. 요청 순서대로 메모리에서 적용
+        List<CartEntity> created = new ArrayList<>();
+        Set<Long> deletedNos = new LinkedHashSet<>();
+        List<Applied> applied = new ArrayList<>(ops.size());
+        MemberEntity member = null;
+
+        for (int i = 0; i < ops.size(); i++) {
+            BatchCartReq.Op op = ops.get(i);
+            if (op == null || op.getType() == null) {
+                throw opError(i, HttpStatus.BAD_REQUEST, "작업 종류가 없습니다.");
+            }
+
+            CartEntity line;
+            int qty;
+            switch (op.getType()) {
+                case ADD -> {
+                    ItemEntity item = (op.getItemNo() == null) ? null : items.get(op.getItemNo());
+                    if (item == null) {
+                        throw opError(i, HttpStatus.NOT_FOUND, "상품을 찾을 수 없습니다.");
+                    }
+                    if (stockOf(item) <= 0) {
+                        throw opError(i, HttpStatus.BAD_REQUEST, "품절 상품입니다.");
+                    }
+                    String optionValue = (op.getOptionValue() == null || op.getOptionValue().isBlank())
+                            ? null : op.getOptionValue();
+
+                    line = live.stream()
+                            .filter(l -> l.getItem().getItemNo().equals(item.getItemNo())
+                                    && Objects.equals(l.getOptionValue(), optionValue))
+                            .findFirst()
+                            .orElse(null);
+                    if (line == null) {
+                        if (member == null) {
+                            member = memberContext.findMember(loginEmail)
+                                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보를 찾을 수 없습니다."));
+                        }
+                        line = CartEntity.builder()
+                                .member(member)
+                                .item(item)
+                                .itemQuantity(0)
+                                .optionKind(op.getOptionKind())
+                                .optionValue(optionValue)
+                                .optionLabel(op.getOptionLabel())
+                                .build();
+                        live.add(line);
+                        created.add(line);
+                    }
+
+                    qty = line.getItemQuantity() + Math.max(1, Optional.ofNullable(op.getQuantity()).orElse(1));
+                    if (qty > stockOf(item)) {
+                        throw opError(i, HttpStatus.BAD_REQUEST, "재고보다 많은 수량을 담을 수 없습니다.");
+                    }
+                    line.setItemQuantity(qty);
+                }
+                case UPDATE -> {
+                    line = findTarget(live, op, i);
+                    if (op.getQuantity() == null) {
+                        throw opError(i, HttpStatus.BAD_REQUEST, "변경할 수량이 없습니다.");
+                    }
+                    qty = op.getQuantity();
+                    if (qty < 0) {
+                        throw opError(i, HttpStatus.BAD_REQUEST, "수량은 0 이상이어야 합니다.");
+                    }
+                    if (qty == 0) {
+                        remove(line, live, created, deletedNos);
+                    } else {
+                        if (qty > stockOf(line.getItem())) {
+                            throw opError(i, HttpStatus.BAD_REQUEST, "재고보다 많은 수량을 담을 수 없습니다.");
+                        }
+                        line.setItemQuantity(qty);
+                    }
+                }
+                default -> {
+                    line = findTarget(live, op, i);
+                    qty = 0;
+                    remove(line, live, created, deletedNos);
+                }
+            }
+
+            applied.add(new Applied(op.getType(), line, qty));
+        }
+
+        // 4. 저장: 삭제 먼저 (같은 옵션 삭제 후 다시 담기 → 유니크 키 충돌 방지)
+        if (!deletedNos.isEmpty()) {
+            cartRepository.deleteAllByIdInBatch(deletedNos);
+        }
+        if (!created.isEmpty()) {
+            try {
+                cartRepository.saveAllAndFlush(created);
+            } catch (DataIntegrityViolationException e) {
+                // 다른 요청이 같은 라인을 먼저 넣은 경우
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "장바구니에 담지 못했습니다. 다시 시도해 주세요.");
+            }
+        }
+
+        // 결과는 insert 뒤에 만듦 (신규 라인 cartNo 는 이때 생김, 담았다가 지운 라인은 null)
+        List<BatchCartRes.Result> results = new ArrayList<>(applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            Applied a = applied.get(i);
+            results.add(BatchCartRes.Result.builder()
+                    .index(i)
+                    .type(a.type())
+                    .cartNo(a.line().getCartNo())
+                    .itemNo(a.line().getItem().getItemNo())
+                    .quantity(a.quantity())
+                    .build());
+        }
+
+        // 5. 적용 후 장바구니 요약 (추가 조회 없이 메모리 라인으로)
+        int totalQty = 0;
+        Money totalAmt = Money.ZERO;
+        for (CartEntity line : live) {
+            totalQty += line.getItemQuantity();
+            totalAmt = totalAmt.plus(Money.of(line.getItem().getItemPrice()).times(line.getItemQuantity()));
+        }
+
+        return BatchCartRes.builder()
+                .results(results)
+                .lineCount(live.size())
+                .totalQuantity(totalQty)
+                .totalAmount(totalAmt)
+                .build();
+    }
+
+    // 일괄 변경 대상 라인: cartNo 우선, 없으면 itemNo (단건 수량 변경과 같은 기준)
+    private CartEntity findTarget(List<CartEntity> live, BatchCartReq.Op op, int index) {
+        if (op.getCartNo() == null && op.getItemNo() == null) {
+            throw opError(index, HttpStatus.BAD_REQUEST, "장바구니 번호 또는 상품 번호가 필요합니다.");
+        }
+        return live.stream()
+                .filter(l -> (op.getCartNo() != null)
+                        ? op.getCartNo().equals(l.getCartNo())
+                        : op.getItemNo().equals(l.getItem().getItemNo()))
+                .findFirst()
+                .orElseThrow(() -> opError(index, HttpStatus.NOT_FOUND, "장바구니 상품을 찾을 수 없습니다."));
+    }
+
+    private void remove(CartEntity line, List<CartEntity> live, List<CartEntity> created, Set<Long> deletedNos) {
+        live.remove(line);
+        if (line.getCartNo() == null) {
+            created.remove(line);   // 같은 요청에서 담았다가 지운 라인 → insert 자체를 안 함
+        } else {
+            deletedNos.add(line.getCartNo());
+        }
+    }
+
+    // 작업별 적용 결과 (응답은 저장 후에 만듦)
+    private record Applied(CartOpType type, CartEntity line, int quantity) {
+    }
+
+    private static ResponseStatusException opError(int index, HttpStatus status, String message) {
+        return new ResponseStatusException(status, "operations[" + index + "]: " + message);
+    }
+
     // ========== 결제 직전 검증/요약 ==========
     @Override
     @Transactional(readOnly = true)
@@ -243,20 +486,19 @@ public class CartServiceImpl implements CartService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "선택된 상품이 없습니다.");
         }
 
-        // 성능: fetch join으로 N+1 방지하는 쿼리를 CartRepository에 구현해두는 걸 추천
-        // 여기서는 단순 find 후 접근으로 가정
-        List<CartEntity> lines = cartRepository
-                .findAllByMember_MemberEmailOrderByCartNoDesc(loginEmail)
-                .stream()
-                .filter(l -> requested.contains(l.getItem().getItemNo()))
-                .toList();
+        // 메모리 장바구니 모드면 결제 전 검증은 DB 기준으로 (변경분 먼저 저장)
+        cartMemoryStore.flush(loginEmail);
+
+        // 선택한 상품 라인만 item fetch join 으로 한 번에 (장바구니 전체를 훑지 않음)
+        Set<Long> requestedNos = new LinkedHashSet<>(requested);
+        List<CartEntity> lines = cartRepository.findLinesForPrepare(loginEmail, requestedNos);
 
         Set<Long> foundNos = lines.stream()
                 .map(l -> l.getItem().getItemNo())
                 .collect(Collectors.toSet());
 
         List<PrepareOrderRes.Violation> violations = new ArrayList<>();
-        for (Long no : requested) {
+        for (Long no : requestedNos) {
             if (!foundNos.contains(no)) {
                 violations.add(PrepareOrderRes.Violation.builder()
                         .itemNo(no).code("NOT_FOUND_IN_CART").message("장바구니에 없는 상품입니다.").build());
@@ -264,7 +506,7 @@ public class CartServiceImpl implements CartService {
         }
 
         int totalQty = 0;                          // 총 수량(개수) → int 유지
-        BigDecimal totalAmt = BigDecimal.ZERO;     // 총 금액 → BigDecimal로 변경
+        Money totalAmt = Money.ZERO;               // 총 금액
         List<PrepareOrderRes.Line> resultLines = new ArrayList<>();
 
         for (CartEntity line : lines) {
@@ -272,17 +514,16 @@ public class CartServiceImpl implements CartService {
 
             // 판매 가능/재고 정책에 맞게 수정
             // if (item.getItemSellStatus() != ItemSellStatus.ON_SALE) ...
-            if (item.getItemStock() < line.getItemQuantity()) {
+            if (stockOf(item) < line.getItemQuantity()) {
                 violations.add(PrepareOrderRes.Violation.builder()
                         .itemNo(item.getItemNo()).code("OUT_OF_STOCK").message("재고가 부족합니다.").build());
                 continue;
             }
 
-            // ====== 여기부터 금액 BigDecimal 처리 ======
-            // ItemEntity.getItemPrice() 가 BigDecimal 이라고 가정
-            BigDecimal unitPrice = item.getItemPrice();
+            // 상품 가격(BigDecimal) → Money 는 여기서 한 번만
+            Money unitPrice = Money.of(item.getItemPrice());
             int qty = line.getItemQuantity();
-            BigDecimal lineAmt = unitPrice.multiply(BigDecimal.valueOf(qty));
+            Money lineAmt = unitPrice.times(qty);
 
             resultLines.add(PrepareOrderRes.Line.builder()
                     .itemNo(item.getItemNo())
@@ -293,7 +534,7 @@ public class CartServiceImpl implements CartService {
                     .build());
 
             totalQty += qty;
-            totalAmt = totalAmt.add(lineAmt);
+            totalAmt = totalAmt.plus(lineAmt);
         }
 
         boolean ok = violations.isEmpty() && !resultLines.isEmpty();
@@ -315,37 +556,41 @@ public class CartServiceImpl implements CartService {
 
         String loginEmail = currentMemberEmailOrThrow();
 
-        // 로그인한 회원의 장바구니 라인 최신순
-        List<CartEntity> lines =
-                cartRepository.findAllByMember_MemberEmailOrderByCartNoDesc(loginEmail);
+        if (cartMemoryStore.isEnabled()) {
+            return cartMemoryStore.lines(loginEmail).stream()
+                    .map(this::toCartItemRes)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+
+        // 로그인한 회원의 장바구니 라인 최신순 (라인 + 상품 + 대표 이미지 한 번에)
+        List<CartLineView> lines = cartRepository.findCartView(loginEmail);
 
         return lines.stream()
                 .map(line -> {
-                    ItemEntity item = line.getItem();
-
                     int qty = line.getItemQuantity();
-                    BigDecimal unitPrice = item.getItemPrice();
-                    BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(qty));
+                    Money unitPrice = Money.of(line.getItemPrice());
+                    Money lineTotal = unitPrice.times(qty);
 
                     // 🔥 멤버십 전용 여부 (형님이 원래 쓰던 로직 그대로 유지)
                     boolean membershipOnly = false;
-                    if (item.getItemCategory() != null) {
-                        var cat = item.getItemCategory();
+                    if (line.getItemCategory() != null) {
+                        var cat = line.getItemCategory();
                         membershipOnly =
                                 "MD".equalsIgnoreCase(cat.toString()) ||
                                         "MEMBERSHIP".equalsIgnoreCase(cat.toString());
                     }
 
-                    boolean soldOut = item.getItemStock() <= 0;
+                    boolean soldOut = hotStockShards.available(line.getItemNo(), line.getItemStock()) <= 0;
 
                     // 🔥 옵션 라벨 만들기 (엔티티에 있으면 그거 쓰고, 없으면 kind/value 조합)
-                    String optionLabel = buildOptionLabel(line);
+                    String optionLabel = buildOptionLabel(line.getOptionLabel(), line.getOptionKind(), line.getOptionValue());
 
                     return CartItemRes.builder()
-                            .itemNo(item.getItemNo())
+                            .itemNo(line.getItemNo())
                             .cartNo(line.getCartNo())
-                            .itemName(item.getItemName())
-                            .thumbnail(resolveThumbnail(item))   // ✅ 다시 이거 사용
+                            .itemName(line.getItemName())
+                            .thumbnail(resolveThumbnail(line))
                             .quantity(qty)
                             .unitPrice(unitPrice)
                             .lineTotal(lineTotal)
@@ -358,15 +603,12 @@ public class CartServiceImpl implements CartService {
     }
 //헬퍼메서드
 // 옵션 문자열 생성
-private String buildOptionLabel(CartEntity line) {
-    String label = line.getOptionLabel();
+private String buildOptionLabel(String label, String kind, String value) {
     if (label != null && !label.isBlank()) {
         return label;
     }
 
-    String kind = line.getOptionKind();    // SIZE / PLAYER ...
-    String value = line.getOptionValue();  // XL / FAKER ...
-
+    // kind: SIZE / PLAYER ... , value: XL / FAKER ...
     boolean hasKind  = kind != null && !kind.isBlank();
     boolean hasValue = value != null && !value.isBlank();
 
@@ -381,38 +623,62 @@ private String buildOptionLabel(CartEntity line) {
 
 
 
-    // ========== 🔥 썸네일 추출 유틸 ==========
-    private String resolveThumbnail(ItemEntity item) {
-        // 이미지가 없으면 기본 썸네일
-        if (item.getImages() == null || item.getImages().isEmpty()) {
-            // 프론트에서 준비해둘 기본 이미지 경로 (원하면 수정)
-            return "/shop/placeholder.png";
-        }
-
-        return item.getImages().stream()
-                // sortOrder(또는 imageOrder) 기준으로 정렬해서 가장 앞의 이미지 사용
-                .sorted(Comparator.comparing(
-                        img -> Optional.ofNullable(getSortOrderSafe(img)).orElse(999)
-                ))
-                .findFirst()
-                .map(img -> {
-                    // url 이 있으면 우선 사용, 없으면 fileName 반환
-                    if (img.getUrl() != null && !img.getUrl().isBlank()) {
-                        return img.getUrl();
-                    }
-                    return img.getFileName();
-                })
-                .orElse("/shop/placeholder.png");
+    // DB 재고 + 핫 상품 샤드 재고 (카탈로그 캐시 쪽은 ItemStockOverlay 가 이미 합산)
+    private int stockOf(ItemEntity item) {
+        return hotStockShards.available(item.getItemNo(), item.getItemStock());
     }
 
-    // ImageEntity 안에 sortOrder 필드명이 어떻게 되어있는지 몰라서
-    // 안전하게 한 번 감싸주는 메서드
-    private Integer getSortOrderSafe(ImageEntity img) {
+    // ========== 메모리 장바구니 모드 ==========
+    // 상품 정보는 카탈로그 캐시 (재고는 ItemStockOverlay 반영)
+    private SearchOneItemRes catalogItem(Long itemNo) {
+        if (itemNo == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "상품 번호가 필요합니다.");
+        }
+        return itemService.searchOneItem(SearchOneItemReq.builder().itemNo(itemNo).build());
+    }
+
+    // 삭제된 상품 라인은 빼고 보여줌 (DB 모드 findCartView 도 상품 join 이라 안 나옴) → 한 줄 때문에 장바구니 전체 404 방지
+    private Optional<CartItemRes> toCartItemRes(CartMemoryStore.CartLine line) {
+        SearchOneItemRes item;
         try {
-            return img.getSortOrder();   // 필드명이 sortOrder 라고 가정
-        } catch (Exception e) {
-            return null;
+            item = catalogItem(line.itemNo());
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().value() != HttpStatus.NOT_FOUND.value()) throw e;
+            return Optional.empty();
         }
+
+        Money unitPrice = Money.of(item.getItemPrice());
+        boolean membershipOnly = item.getItemCategory() != null
+                && ("MD".equalsIgnoreCase(item.getItemCategory().toString())
+                || "MEMBERSHIP".equalsIgnoreCase(item.getItemCategory().toString()));
+
+        // 대표 이미지: image_order 가장 앞 (findCartView 와 같은 기준)
+        String thumbnail = Optional.ofNullable(item.getImages()).orElseGet(List::of).stream()
+                .min(Comparator.comparing(ExistingImageDTO::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(img -> ImageEntity.resolveUrl(img.getThumbUrl(), img.getUrl(), img.getFileName()))
+                .orElse("/shop/placeholder.png");
+
+        return Optional.of(CartItemRes.builder()
+                .itemNo(line.itemNo())
+                .cartNo(line.cartNo())
+                .itemName(item.getItemName())
+                .thumbnail(thumbnail)
+                .quantity(line.quantity())
+                .unitPrice(unitPrice)
+                .lineTotal(unitPrice.times(line.quantity()))
+                .membershipOnly(membershipOnly)
+                .soldOut(item.getItemStock() <= 0)
+                .optionLabel(buildOptionLabel(line.optionLabel(), line.optionKind(), line.optionValue()))
+                .build());
+    }
+
+    // ========== 🔥 썸네일 추출 유틸 ==========
+    private String resolveThumbnail(CartLineView line) {
+        // 장바구니는 작은 썸네일 파생본 (없으면 원본 url)
+        String url = ImageEntity.resolveUrl(line.getThumbUrl(), line.getImageUrl(), line.getImageFileName());
+
+        // 이미지가 없으면 기본 썸네일 (프론트에서 준비해둘 기본 이미지 경로)
+        return (url != null) ? url : "/shop/placeholder.png";
     }
 
 }
@@ -0,0 +1,237 @@
+package com.t1membership.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.t1membership.idempotency.service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더 처리 (주문 생성 / 결제 승인)
+ *
+ * - 헤더가 없으면 그대로 통과 (기존 클라이언트 호환)
+ * - 같은 (회원, 키, 요청 본문) 재요청 → 저장된 응답을 그대로 돌려줌 (Idempotent-Replayed: true)
+ * - 첫 요청이 처리 중이면 끝날 때까지 기다렸다가 같은 응답
+ * - 5xx / 409 / 429 는 다시 시도하면 결과가 달라질 수 있어서 저장하지 않고 키를 풀어 줌
+ * - 인가 필터 뒤에 등록 → 인증 실패 응답은 저장하지 않음
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private static final Set<String> PATHS = Set.of(
+            "/order/goods",
+            "/order/membership",
+            "/order/POP",
+            "/api/pay/toss/confirm"
+    );
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String key = request.getHeader(HEADER);
+        return key == null || key.isBlank()
+                || !"POST".equalsIgnoreCase(request.getMethod())
+                || !PATHS.contains(pathOf(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER).trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        CachedBodyRequest cached = new CachedBodyRequest(request);
+        String member = currentMember();
+        String hash = hash(request.getMethod() + " " + pathOf(request) + "\n", cached.body);
+
+        IdempotencyService.Decision decision = idempotencyService.begin(member, key, hash);
+        switch (decision.outcome()) {
+            case REPLAY -> {
+                log.info("[IDEMPOTENCY] 저장된 응답 반환 uri={} member={} key={}", request.getRequestURI(), member, key);
+                writeStored(response, decision.response());
+                return;
+            }
+            case MISMATCH -> {
+                writeError(response, 422, "같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+                return;
+            }
+            case BUSY -> {
+                writeError(response, HttpServletResponse.SC_CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+                return;
+            }
+            default -> {
+                // PROCEED
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            chain.doFilter(cached, wrapper);
+
+            // 5xx / 일시적인 거절(409 재고·처리 중 경합, 429 대기열 순서 전)은 저장하지 않음 → 같은 키로 다시 시도 가능
+            int status = wrapper.getStatus();
+            if (isFinal(status)) {
+                idempotencyService.complete(member, key, new IdempotencyService.StoredResponse(
+                        status,
+                        wrapper.getContentType(),
+                        new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8)));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyService.abandon(member, key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // =========================
+    // helper
+    // =========================
+
+    private static boolean isFinal(int status) {
+        return status < 500
+                && status != HttpServletResponse.SC_CONFLICT
+                && status != 429;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String ctx = request.getContextPath();
+        return (ctx != null && !ctx.isEmpty() && uri.startsWith(ctx)) ? uri.substring(ctx.length()) : uri;
+    }
+
+    private static String currentMember() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return "anonymous";
+        }
+        return auth.getName();
+    }
+
+    private static String hash(String prefix, byte[] body) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(prefix.getBytes(StandardCharsets.UTF_8));
+            md.update(body);
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeStored(HttpServletResponse response, IdempotencyService.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            byte[] bytes = stored.body().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(bytes.length);
+            response.getOutputStream().write(bytes);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        objectMapper.writeValue(response.getWriter(), Map.of(
+                "status", status,
+                "message", message
+        ));
+    }
+
+    // 본문을 해시하려면 먼저 읽어야 함 → 읽은 바이트로 컨트롤러에 다시 제공
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String enc = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    (enc != null) ? Charset.forName(enc) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
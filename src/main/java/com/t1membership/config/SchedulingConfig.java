@@ -0,0 +1,10 @@
+package com.t1membership.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(블랙리스트 만료 청소, 댓글 수 보정 등) 활성화
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.t1membership.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.t1membership.auth.service.BlacklistServiceImpl;
+import com.t1membership.idempotency.service.IdempotencyService;
 import com.t1membership.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -18,6 +19,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -40,6 +42,7 @@ public class SecurityConfig {
             BlacklistServiceImpl blacklistService,
             CorsConfigurationSource corsConfigurationSource,
             MemberRepository memberRepository,
+            IdempotencyService idempotencyService,
             ObjectMapper objectMapper   // 🔥 에러 JSON 응답용
     ) throws Exception {
 
@@ -190,6 +193,12 @@ public class SecurityConfig {
                 UsernamePasswordAuthenticationFilter.class
         );
 
+        // 7) Idempotency-Key (주문 생성 / 결제 승인) - 인가 통과한 요청만
+        http.addFilterAfter(
+                new IdempotencyFilter(idempotencyService, objectMapper),
+                AuthorizationFilter.class
+        );
+
         return http.build();
     }
 
@@ -217,7 +226,7 @@ public class SecurityConfig {
 
         cfg.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         cfg.setAllowedHeaders(List.of("*"));
-        cfg.setExposedHeaders(List.of("Authorization"));
+        cfg.setExposedHeaders(List.of("Authorization", IdempotencyFilter.REPLAYED_HEADER));
         cfg.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,105 @@
+package com.t1membership.coreDomain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 원화 금액 (불변, long 원 단위)
+ *
+ * - KRW 는 소수점이 없으니 long 하나로 충분 → 주문/결제 경로에서 BigDecimal 생성/변환 안 함
+ * - 덧셈/곱셈은 Math.*Exact → 넘치면 ArithmeticException (조용히 잘리지 않음)
+ * - JSON 은 숫자 그대로 (기존 BigDecimal 응답과 동일한 모양)
+ * - DB 는 MoneyConverter 로 BIGINT/DECIMAL 컬럼에 매핑
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long won;
+
+    private Money(long won) {
+        this.won = won;
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(long won) {
+        return (won == 0L) ? ZERO : new Money(won);
+    }
+
+    // 상품 가격(BigDecimal) → Money, 경계에서 한 번만 변환
+    public static Money of(BigDecimal amount) {
+        if (amount == null) return ZERO;
+        return of(amount.setScale(0, RoundingMode.UNNECESSARY).longValueExact());
+    }
+
+    public static Money ofNullable(Integer won) {
+        return (won == null) ? ZERO : of(won.longValue());
+    }
+
+    // =========================
+    // 연산
+    // =========================
+
+    public Money plus(Money other) {
+        if (other == null || other.won == 0L) return this;
+        return of(Math.addExact(won, other.won));
+    }
+
+    public Money minus(Money other) {
+        if (other == null || other.won == 0L) return this;
+        return of(Math.subtractExact(won, other.won));
+    }
+
+    public Money times(int quantity) {
+        return of(Math.multiplyExact(won, (long) quantity));
+    }
+
+    public boolean isPositive() {
+        return won > 0L;
+    }
+
+    public boolean isZero() {
+        return won == 0L;
+    }
+
+    // =========================
+    // 변환
+    // =========================
+
+    @JsonValue
+    public long longValue() {
+        return won;
+    }
+
+    // 토스 amount 는 int
+    public int intValueExact() {
+        return Math.toIntExact(won);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(won);
+    }
+
+    @Override
+    public int compareTo(Money o) {
+        return Long.compare(won, o.won);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return (this == o) || (o instanceof Money m && m.won == won);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(won);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(won);
+    }
+}
@@ -0,0 +1,24 @@
+package com.t1membership.coreDomain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Money ↔ 컬럼(long)
+ *
+ * - autoApply: 엔티티에 Money 필드만 두면 따로 @Convert 안 붙여도 됨
+ * - 기존 DECIMAL 컬럼(ddl-auto=update 로 타입이 안 바뀜)도 드라이버가 long 으로 읽어 줌
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money attribute) {
+        return (attribute == null) ? null : attribute.longValue();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long dbData) {
+        return (dbData == null) ? null : Money.of(dbData);
+    }
+}
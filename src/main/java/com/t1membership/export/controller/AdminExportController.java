@@ -0,0 +1,55 @@
+package com.t1membership.export.controller;
+
+import com.t1membership.export.service.CsvExportService;
+import com.t1membership.order.constant.OrderStatus;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/admin/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminExportController {
+
+    private final CsvExportService csvExportService;
+
+    // 정산용 주문 내보내기 (주문일 기준 from ~ to, 둘 다 포함)
+    @GetMapping("/orders.csv")
+    public void exportOrders(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                             @RequestParam(required = false) OrderStatus status,
+                             HttpServletResponse response) throws IOException {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+        csvExportService.exportOrders(from, to, status, () -> open(response, "orders"));
+    }
+
+    // CRM 용 회원 내보내기
+    @GetMapping("/members.csv")
+    public void exportMembers(HttpServletResponse response) throws IOException {
+        csvExportService.exportMembers(() -> open(response, "members"));
+    }
+
+    private static OutputStream open(HttpServletResponse response, String name) throws IOException {
+        String fileName = name + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + ".csv";
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        return response.getOutputStream();
+    }
+}
@@ -0,0 +1,209 @@
+package com.t1membership.export.service;
+
+import com.t1membership.order.constant.OrderStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 관리자 CSV 내보내기 (정산용 주문 / CRM 용 회원)
+ *
+ * - JPA 엔티티로 올리지 않고 JDBC forward-only 커서로 한 줄씩 읽어서 바로 응답 스트림에 씀
+ *   → fetch-size 만큼만 메모리에 있음, 건수와 상관없이 메모리 일정
+ *   (MariaDB 드라이버는 fetchSize > 0 이면 결과를 나눠서 받음)
+ * - 내보내는 동안 DB 커넥션 하나를 잡고 있음 → 동시 내보내기 수 제한, 넘으면 503
+ * - 엑셀에서 한글이 깨지지 않게 UTF-8 BOM
+ */
+@Log4j2
+@Service
+public class CsvExportService {
+
+    /**
+     * 응답 스트림은 허가를 얻은 뒤에만 엶 (503 이면 헤더/본문 쓰기 전에 끝남)
+     */
+    @FunctionalInterface
+    public interface Sink {
+        OutputStream open() throws IOException;
+    }
+
+    private static final DateTimeFormatter TS = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String ORDER_SQL = """
+            select o.order_no, o.create_date, o.member_email, o.order_status, o.order_total_price,
+                   o.membership_plan_code,
+                   p.order_toss_id, p.toss_payment_method, p.toss_payment_status, p.approved_at,
+                   oi.order_item_no, oi.item_no, oi.item_category_snapshot, oi.item_name_snapshot,
+                   oi.item_option_snapshot, oi.price_at_order, oi.quantity, oi.line_total
+              from t1_order o
+              left join toss_payment p on p.order_id = o.order_no
+              left join t1_order_item oi on oi.order_no = o.order_no
+            """;
+
+    private static final String MEMBER_SQL = """
+            select member_email, member_name, member_nick_name, member_phone, member_birthy,
+                   member_gender, member_role, membership_type, pop_type, create_date
+              from t1_member
+             order by member_email
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Semaphore permits;
+
+    public CsvExportService(DataSource dataSource,
+                            @Value("${app.export.fetch-size:500}") int fetchSize,
+                            @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        // 공용 JdbcTemplate 설정을 바꾸지 않게 전용 인스턴스
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Math.max(1, fetchSize));
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    // =========================
+    // 주문 (주문 라인 한 줄 = CSV 한 줄, 라인 없는 멤버십 주문은 헤더만)
+    // =========================
+
+    public long exportOrders(LocalDate from, LocalDate to, OrderStatus status, Sink sink) throws IOException {
+        StringBuilder sql = new StringBuilder(ORDER_SQL).append(" where 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            sql.append(" and o.create_date >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" and o.create_date < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        if (status != null) {
+            sql.append(" and o.order_status = ?");
+            args.add(status.name());
+        }
+        sql.append(" order by o.order_no, oi.order_item_no");
+
+        String[] header = {
+                "주문번호", "주문일시", "회원", "주문상태", "주문총액", "멤버십플랜",
+                "토스주문ID", "결제수단", "결제상태", "승인일시",
+                "주문라인번호", "상품번호", "카테고리", "상품명", "옵션", "단가", "수량", "라인합계"
+        };
+
+        return export("orders", sql.toString(), args, header, sink, rs -> new String[]{
+                rs.getString("order_no"),
+                ts(rs, "create_date"),
+                rs.getString("member_email"),
+                rs.getString("order_status"),
+                rs.getString("order_total_price"),
+                rs.getString("membership_plan_code"),
+                rs.getString("order_toss_id"),
+                rs.getString("toss_payment_method"),
+                rs.getString("toss_payment_status"),
+                ts(rs, "approved_at"),
+                rs.getString("order_item_no"),
+                rs.getString("item_no"),
+                rs.getString("item_category_snapshot"),
+                rs.getString("item_name_snapshot"),
+                rs.getString("item_option_snapshot"),
+                rs.getString("price_at_order"),
+                rs.getString("quantity"),
+                rs.getString("line_total")
+        });
+    }
+
+    // =========================
+    // 회원 (비밀번호 등 인증 정보는 내보내지 않음)
+    // =========================
+
+    public long exportMembers(Sink sink) throws IOException {
+        String[] header = {
+                "이메일", "이름", "닉네임", "전화번호", "출생연도", "성별", "권한", "멤버십", "POP", "가입일시"
+        };
+
+        return export("members", MEMBER_SQL, List.of(), header, sink, rs -> new String[]{
+                rs.getString("member_email"),
+                rs.getString("member_name"),
+                rs.getString("member_nick_name"),
+                rs.getString("member_phone"),
+                rs.getString("member_birthy"),
+                rs.getString("member_gender"),
+                rs.getString("member_role"),
+                rs.getString("membership_type"),
+                rs.getString("pop_type"),
+                ts(rs, "create_date")
+        });
+    }
+
+    // =========================
+    // 공통
+    // =========================
+
+    @FunctionalInterface
+    private interface RowCells {
+        String[] map(ResultSet rs) throws SQLException;
+    }
+
+    private long export(String name, String sql, List<Object> args, String[] header,
+                        Sink sink, RowCells mapper) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        long started = System.currentTimeMillis();
+        long[] rows = {0};
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(sink.open(), StandardCharsets.UTF_8), 64 * 1024);
+            CsvWriter csv = new CsvWriter(writer);
+            writer.write('\uFEFF');   // BOM
+            csv.row(header);
+
+            PreparedStatementCreator psc = con -> {
+                PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                for (int i = 0; i < args.size(); i++) {
+                    ps.setObject(i + 1, args.get(i));
+                }
+                return ps;
+            };
+
+            try {
+                jdbcTemplate.query(psc, rs -> {
+                    try {
+                        csv.row(mapper.map(rs));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                // 클라이언트가 다운로드를 끊은 경우 등 → 커서 닫고 종료
+                log.info("[EXPORT] {} 중단 rows={} ({})", name, rows[0], e.getCause().getMessage());
+                throw e.getCause();
+            }
+
+            writer.flush();
+            log.info("[EXPORT] {} rows={} elapsedMs={}", name, rows[0], System.currentTimeMillis() - started);
+            return rows[0];
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static String ts(ResultSet rs, String column) throws SQLException {
+        Timestamp t = rs.getTimestamp(column);
+        return (t == null) ? null : t.toLocalDateTime().format(TS);
+    }
+}
@@ -0,0 +1,52 @@
+package com.t1membership.export.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV 한 줄씩 쓰기 (RFC 4180)
+ *
+ * - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 " → ""
+ * - =, +, -, @ 로 시작하는 값은 앞에 ' 를 붙임 (엑셀에서 수식으로 실행되지 않게)
+ * - 버퍼링은 넘겨받은 Writer 쪽 책임
+ */
+final class CsvWriter {
+
+    private final Writer out;
+
+    CsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    void row(String... cells) throws IOException {
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) out.write(',');
+            write(cells[i]);
+        }
+        out.write("\r\n");
+    }
+
+    private void write(String value) throws IOException {
+        if (value == null || value.isEmpty()) return;
+
+        String v = value;
+        char first = v.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            v = "'" + v;
+        }
+
+        boolean quote = false;
+        for (int i = 0; i < v.length() && !quote; i++) {
+            char c = v.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(v);
+            return;
+        }
+
+        out.write('"');
+        out.write(v.replace("\"", "\"\""));
+        out.write('"');
+    }
+}
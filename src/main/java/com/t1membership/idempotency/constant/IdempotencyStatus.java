@@ -0,0 +1,6 @@
+package com.t1membership.idempotency.constant;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,  // 첫 요청 처리 중 (다른 요청은 끝날 때까지 대기)
+    COMPLETED     // 응답 저장됨 → 같은 키 재요청은 저장된 응답 그대로
+}
@@ -0,0 +1,63 @@
+package com.t1membership.idempotency.domain;
+
+import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.idempotency.constant.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency-Key 기록 (주문 생성 / 결제 승인)
+ *
+ * - (회원, 키) 당 한 줄 → 유니크 키로 서버 여러 대에서도 첫 요청 하나만 실행
+ * - request_hash: 메서드 + 경로 + 본문 SHA-256 → 같은 키로 다른 요청을 보내면 거절
+ * - IN_PROGRESS 의 expires_at 은 처리 제한 시간 (서버가 죽어 남은 행은 지나면 다른 요청이 이어받음)
+ * - COMPLETED 의 expires_at 은 응답 보관 기한 (지나면 정리 스케줄러가 삭제)
+ */
+@Entity
+@Table(
+        name = "t1_idempotency_key",
+        uniqueConstraints = @UniqueConstraint(
+                name = "ux_idempotency_member_key",
+                columnNames = {"member_email", "idem_key"}
+        ),
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expires_at")
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdempotencyKeyEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "idem_no")
+    private Long idemNo;
+
+    @Column(name = "member_email", nullable = false, length = 100)
+    private String memberEmail;
+
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String idemKey;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "idem_status", nullable = false, length = 20)
+    private IdempotencyStatus idemStatus;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
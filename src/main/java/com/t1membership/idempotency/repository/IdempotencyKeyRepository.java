@@ -0,0 +1,65 @@
+package com.t1membership.idempotency.repository;
+
+import com.t1membership.idempotency.domain.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+    Optional<IdempotencyKeyEntity> findByMemberEmailAndIdemKey(String memberEmail, String idemKey);
+
+    // 처리 제한 시간이 지난 IN_PROGRESS 행 이어받기 (동시에 여러 요청이 와도 한쪽만 1)
+    @Modifying
+    @Query("""
+            update IdempotencyKeyEntity k
+               set k.expiresAt = :newExpiresAt,
+                   k.requestHash = :requestHash
+             where k.idemNo = :idemNo
+               and k.idemStatus = com.t1membership.idempotency.constant.IdempotencyStatus.IN_PROGRESS
+               and k.expiresAt < :now
+            """)
+    int takeOverStale(@Param("idemNo") Long idemNo,
+                      @Param("requestHash") String requestHash,
+                      @Param("now") LocalDateTime now,
+                      @Param("newExpiresAt") LocalDateTime newExpiresAt);
+
+    @Modifying
+    @Query("""
+            update IdempotencyKeyEntity k
+               set k.idemStatus = com.t1membership.idempotency.constant.IdempotencyStatus.COMPLETED,
+                   k.responseStatus = :responseStatus,
+                   k.contentType = :contentType,
+                   k.responseBody = :responseBody,
+                   k.expiresAt = :expiresAt
+             where k.memberEmail = :memberEmail
+               and k.idemKey = :idemKey
+            """)
+    int complete(@Param("memberEmail") String memberEmail,
+                 @Param("idemKey") String idemKey,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("""
+            delete from IdempotencyKeyEntity k
+             where k.memberEmail = :memberEmail
+               and k.idemKey = :idemKey
+               and k.idemStatus = com.t1membership.idempotency.constant.IdempotencyStatus.IN_PROGRESS
+            """)
+    int deleteInProgress(@Param("memberEmail") String memberEmail, @Param("idemKey") String idemKey);
+
+    // 보관 기한 지난 응답 + 처리 제한 시간 지나 버려진 IN_PROGRESS (idx_idempotency_expires)
+    @Modifying
+    @Query("""
+            delete from IdempotencyKeyEntity k
+             where k.expiresAt < :now
+            """)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,263 @@
+package com.t1membership.idempotency.service;
+
+import com.t1membership.idempotency.constant.IdempotencyStatus;
+import com.t1membership.idempotency.domain.IdempotencyKeyEntity;
+import com.t1membership.idempotency.repository.IdempotencyKeyRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * Idempotency-Key 처리 (IdempotencyFilter 에서 사용)
+ *
+ * - 핫 테이블(메모리): (회원, 키) → 진행 중이면 완료 Future, 끝났으면 저장된 응답
+ *   → 같은 서버로 온 동시 중복 요청은 DB 를 보지 않고 첫 요청 Future 를 기다림
+ * - DB(t1_idempotency_key): 서버 간 / 재시작 후에도 유지, 유니크 키로 첫 요청 하나만 IN_PROGRESS 선점
+ *   → 다른 서버가 처리 중이면 짧게 폴링하며 대기
+ * - 대기 시간 안에 안 끝나면 BUSY(409), 같은 키로 본문이 다르면 MISMATCH(422)
+ * - 첫 요청이 5xx/예외로 끝나면 기록을 지우고 대기 중인 요청 하나가 이어서 실행
+ */
+@Log4j2
+@Component
+public class IdempotencyService {
+
+    public enum Outcome { PROCEED, REPLAY, MISMATCH, BUSY }
+
+    public record StoredResponse(int status, String contentType, String body) {
+    }
+
+    public record Decision(Outcome outcome, StoredResponse response) {
+        static Decision of(Outcome outcome) {
+            return new Decision(outcome, null);
+        }
+    }
+
+    private static final class Entry {
+        final String requestHash;
+        final CompletableFuture<StoredResponse> done = new CompletableFuture<>();
+        volatile long expiresAtMs = Long.MAX_VALUE;   // 끝난 뒤에만 설정
+
+        Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionTemplate requiresNew;
+
+    private final ConcurrentHashMap<String, Entry> hot = new ConcurrentHashMap<>();
+
+    private final long waitMs;
+    private final long pollMs;
+    private final long inProgressSeconds;
+    private final long ttlHours;
+    private final int hotMaxEntries;
+
+    public IdempotencyService(IdempotencyKeyRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.idempotency.wait-ms:10000}") long waitMs,
+                              @Value("${app.idempotency.poll-ms:200}") long pollMs,
+                              @Value("${app.idempotency.in-progress-seconds:60}") long inProgressSeconds,
+                              @Value("${app.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${app.idempotency.hot-max-entries:10000}") int hotMaxEntries) {
+        this.repository = repository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.waitMs = Math.max(0, waitMs);
+        this.pollMs = Math.max(10, pollMs);
+        this.inProgressSeconds = Math.max(1, inProgressSeconds);
+        this.ttlHours = Math.max(1, ttlHours);
+        this.hotMaxEntries = Math.max(0, hotMaxEntries);
+    }
+
+    // =========================
+    // 시작
+    // =========================
+
+    public Decision begin(String member, String key, String requestHash) {
+        String id = member + "\n" + key;
+        long deadline = System.currentTimeMillis() + waitMs;
+
+        while (true) {
+            Entry mine = new Entry(requestHash);
+            Entry existing = hot.putIfAbsent(id, mine);
+
+            if (existing != null) {
+                if (existing.expiresAtMs < System.currentTimeMillis()) {
+                    hot.remove(id, existing);
+                    continue;
+                }
+                if (!existing.requestHash.equals(requestHash)) {
+                    return Decision.of(Outcome.MISMATCH);
+                }
+                // 같은 서버에서 처리 중 / 처리 끝난 요청 → 결과 대기
+                Optional<StoredResponse> result = await(existing.done, deadline);
+                if (result == null) return Decision.of(Outcome.BUSY);
+                if (result.isEmpty()) continue;   // 첫 요청 실패 → 다시 선점 시도
+                return new Decision(Outcome.REPLAY, result.get());
+            }
+
+            // 이 서버에서는 첫 요청 → DB 로 서버 간 선점
+            Decision decision;
+            try {
+                decision = claimDurable(member, key, requestHash, deadline);
+            } catch (RuntimeException e) {
+                release(id, mine, null);
+                throw e;
+            }
+
+            if (decision.outcome() == Outcome.REPLAY) {
+                release(id, mine, decision.response());
+            } else if (decision.outcome() != Outcome.PROCEED) {
+                release(id, mine, null);
+            }
+            return decision;
+        }
+    }
+
+    private Decision claimDurable(String member, String key, String requestHash, long deadline) {
+        while (true) {
+            Decision decision;
+            try {
+                decision = requiresNew.execute(status -> tryClaim(member, key, requestHash));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 방금 같은 키를 넣음 → 다시 읽음
+                decision = null;
+            }
+
+            if (decision != null) return decision;
+
+            if (System.currentTimeMillis() + pollMs > deadline) {
+                return Decision.of(Outcome.BUSY);
+            }
+            try {
+                Thread.sleep(pollMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Decision.of(Outcome.BUSY);
+            }
+        }
+    }
+
+    // null = 다른 서버가 처리 중 (폴링 계속)
+    private Decision tryClaim(String member, String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyKeyEntity row = repository.findByMemberEmailAndIdemKey(member, key).orElse(null);
+
+        if (row != null && row.getExpiresAt().isBefore(now) && row.getIdemStatus() == IdempotencyStatus.COMPLETED) {
+            // 보관 기한 지난 응답 → 없는 것으로 보고 새로 시작
+            repository.delete(row);
+            repository.flush();
+            row = null;
+        }
+
+        if (row == null) {
+            repository.saveAndFlush(IdempotencyKeyEntity.builder()
+                    .memberEmail(member)
+                    .idemKey(key)
+                    .requestHash(requestHash)
+                    .idemStatus(IdempotencyStatus.IN_PROGRESS)
+                    .expiresAt(now.plusSeconds(inProgressSeconds))
+                    .build());
+            return Decision.of(Outcome.PROCEED);
+        }
+
+        if (!row.getRequestHash().equals(requestHash)) {
+            return Decision.of(Outcome.MISMATCH);
+        }
+
+        if (row.getIdemStatus() == IdempotencyStatus.COMPLETED) {
+            return new Decision(Outcome.REPLAY,
+                    new StoredResponse(row.getResponseStatus(), row.getContentType(), row.getResponseBody()));
+        }
+
+        // IN_PROGRESS: 처리하던 서버가 죽어 제한 시간 지났으면 이어받음
+        if (row.getExpiresAt().isBefore(now)
+                && repository.takeOverStale(row.getIdemNo(), requestHash, now, now.plusSeconds(inProgressSeconds)) == 1) {
+            log.warn("[IDEMPOTENCY] 처리 제한 시간 지난 요청 이어받음 member={} key={}", member, key);
+            return Decision.of(Outcome.PROCEED);
+        }
+        return null;
+    }
+
+    // null = 대기 시간 초과, empty = 첫 요청 실패
+    private Optional<StoredResponse> await(CompletableFuture<StoredResponse> future, long deadline) {
+        long remaining = deadline - System.currentTimeMillis();
+        try {
+            return Optional.ofNullable(future.get(Math.max(0, remaining), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        }
+    }
+
+    // =========================
+    // 종료 (PROCEED 받은 요청만 호출)
+    // =========================
+
+    public void complete(String member, String key, StoredResponse response) {
+        try {
+            requiresNew.executeWithoutResult(status -> repository.complete(member, key,
+                    response.status(), response.contentType(), response.body(),
+                    LocalDateTime.now().plusHours(ttlHours)));
+        } catch (Exception e) {
+            // 같은 서버 대기자에게는 결과를 넘겨줌, DB 는 제한 시간 지나면 정리
+            log.error("[IDEMPOTENCY] 응답 저장 실패 member={} key={}", member, key, e);
+        }
+        String id = member + "\n" + key;
+        Entry entry = hot.get(id);
+        if (entry != null) release(id, entry, response);
+    }
+
+    public void abandon(String member, String key) {
+        try {
+            requiresNew.executeWithoutResult(status -> repository.deleteInProgress(member, key));
+        } catch (Exception e) {
+            log.error("[IDEMPOTENCY] 진행 기록 삭제 실패 member={} key={}", member, key, e);
+        }
+        String id = member + "\n" + key;
+        Entry entry = hot.get(id);
+        if (entry != null) release(id, entry, null);
+    }
+
+    // 결과가 있으면 핫 테이블에 보관(가득 찼으면 DB 에만), 없으면 제거 → 대기자는 깨어나서 다시 시도
+    private void release(String id, Entry entry, StoredResponse response) {
+        if (response != null && hot.size() <= hotMaxEntries) {
+            entry.expiresAtMs = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(ttlHours);
+        } else {
+            hot.remove(id, entry);
+        }
+        entry.done.complete(response);
+    }
+
+    // =========================
+    // 정리
+    // =========================
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-ms:600000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        hot.entrySet().removeIf(e -> e.getValue().expiresAtMs < now);
+        try {
+            Integer deleted = requiresNew.execute(status -> repository.deleteExpired(LocalDateTime.now()));
+            if (deleted != null && deleted > 0) {
+                log.info("[IDEMPOTENCY] 만료 기록 삭제 {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("[IDEMPOTENCY] 만료 기록 삭제 실패", e);
+        }
+    }
+}
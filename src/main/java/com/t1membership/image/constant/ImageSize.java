@@ -0,0 +1,22 @@
+package com.t1membership.image.constant;
+
+// 업로드 이미지 파생본 크기 (긴 변 기준 px)
+public enum ImageSize {
+    THUMB(240),     // 장바구니 / 게시판 목록 / 작은 카드
+    MEDIUM(720),    // 상품 목록 카드 / 스토리 피드 / 배너
+    ORIGINAL(0);    // 상세 화면
+
+    private final int maxEdge;
+
+    ImageSize(int maxEdge) {
+        this.maxEdge = maxEdge;
+    }
+
+    public int maxEdge() {
+        return maxEdge;
+    }
+
+    public String suffix() {
+        return "_" + name().toLowerCase();
+    }
+}
@@ -2,6 +2,7 @@ package com.t1membership.image.domain;
 
 import com.t1membership.board.domain.BoardEntity;
 import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.image.constant.ImageSize;
 import com.t1membership.image.dto.ImageDTO;
 import com.t1membership.item.domain.ItemEntity;
 import com.t1membership.member.domain.MemberEntity;
@@ -13,7 +14,13 @@ import org.hibernate.type.SqlTypes;
 import java.util.UUID;
 
 @Entity
-@Table(name = "t1_image")
+@Table(
+        name = "t1_image",
+        indexes = {
+                // 상품 대표 이미지 (item_no 별 image_order 가장 앞)
+                @Index(name = "idx_image_item_order", columnList = "item_no, image_order")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -36,6 +43,13 @@ public class ImageEntity {
     @Column(name = "image_url")
     private String url;
 
+    // 파생본 URL (업로드 후 ImageDerivativeService 가 채움, 만들 수 없는 형식이면 원본 url)
+    @Column(name = "image_thumb_url")
+    private String thumbUrl;
+
+    @Column(name = "image_medium_url")
+    private String mediumUrl;
+
     @Column(name = "image_contentType")
     private String contentType;
 
@@ -100,6 +114,23 @@ public class ImageEntity {
         }
     }
 
+    // 목록/카드용 크기 선택 (파생본이 아직 없으면 원본)
+    public String urlFor(ImageSize size) {
+        String derived = switch (size) {
+            case THUMB -> thumbUrl;
+            case MEDIUM -> mediumUrl;
+            case ORIGINAL -> null;
+        };
+        return resolveUrl(derived, url, fileName);
+    }
+
+    // 엔티티 없이 컬럼만 조회한 경우(projection)에도 같은 규칙으로
+    public static String resolveUrl(String derivedUrl, String url, String fileName) {
+        if (derivedUrl != null && !derivedUrl.isBlank()) return derivedUrl;
+        if (url != null && !url.isBlank()) return url;
+        return (fileName != null && !fileName.isBlank()) ? "/files/" + fileName : null;
+    }
+
     // 정적 팩토리
     public static ImageEntity forBoard(String fileName, String url, BoardEntity board, Integer order) {
         ImageEntity img = new ImageEntity();
@@ -21,6 +21,9 @@ public class ExistingImageDTO {
     // 클라이언트에서 이미지 src 로 쓸 URL (t1_image.image_url)
     private String url;
 
+    // 작은 썸네일 파생본 (t1_image.image_thumb_url, 아직 없으면 null)
+    private String thumbUrl;
+
     public static ExistingImageDTO from(ImageEntity image) {
         if (image == null) {
             return null;
@@ -30,6 +33,7 @@ public class ExistingImageDTO {
                 .fileName(image.getFileName())      // ✅ 진짜 파일 이름
                 .sortOrder(image.getSortOrder())    // ✅ 정렬 순서
                 .url(image.getUrl())                // ✅ /files/... 또는 /shop/...
+                .thumbUrl(image.getThumbUrl())
                 .build();
     }
 }
@@ -24,6 +24,10 @@ public class ImageDTO {
 
     private String url;          // 접근 가능한 URL  <img src="{thumbnailUrl}">
 
+    private String thumbUrl;     // 목록용 작은 파생본 (없으면 null → url 사용)
+
+    private String mediumUrl;    // 카드/피드용 중간 파생본
+
     private Integer sortOrder;   // 정렬 순서 (옵션)
 
     public ImageDTO(MultipartFile file, Integer sortOrder) {
@@ -41,6 +45,8 @@ public class ImageDTO {
         this.uuid = entity.getUuid();
         this.fileName = entity.getFileName();
         this.url = entity.getUrl();
+        this.thumbUrl = entity.getThumbUrl();
+        this.mediumUrl = entity.getMediumUrl();
         this.sortOrder = entity.getSortOrder();
     }
 
@@ -2,6 +2,7 @@ package com.t1membership.image.repository;
 
 import com.t1membership.image.domain.ImageEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,5 +16,31 @@ public interface ImageRepository extends JpaRepository<ImageEntity, UUID> {
     where i.item.itemNo = :itemId
     """)
     List<String> getFileName(@Param("itemId")Long itemId);
-}
 
+    // 게시글 정리용 - 아래 deleteBatchByBoardNo 와 같은 정렬/limit 이라 같은 행을 가리킴 (같은 트랜잭션에서 호출)
+    // native 라 물리 컬럼명 (네이밍 전략: image_fileName → image_file_name)
+    @Query(value = "select image_file_name from t1_image where board_no = :boardNo order by image_uuid limit :limit",
+            nativeQuery = true)
+    List<String> findFileNamesBatchByBoardNo(@Param("boardNo") Long boardNo, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "delete from t1_image where board_no = :boardNo order by image_uuid limit :limit",
+            nativeQuery = true)
+    int deleteBatchByBoardNo(@Param("boardNo") Long boardNo, @Param("limit") int limit);
+
+    // 파생본 기록 (요청 트랜잭션 커밋 후 워커에서 호출)
+    @Modifying
+    @Query("update ImageEntity i set i.thumbUrl = :thumbUrl, i.mediumUrl = :mediumUrl where i.fileName = :fileName")
+    int updateDerivatives(@Param("fileName") String fileName,
+                          @Param("thumbUrl") String thumbUrl,
+                          @Param("mediumUrl") String mediumUrl);
+
+    // 파생본 기록 후 카탈로그 캐시 무효화 대상 (상품 이미지가 아니면 null)
+    @Query("select i.item.itemNo from ImageEntity i where i.fileName = :fileName")
+    Long findItemNoByFileName(@Param("fileName") String fileName);
+
+    // 파생본 없는 이미지 (도입 전 업로드분 / 큐 초과로 빠진 것 보충)
+    @Query(value = "select image_file_name from t1_image where image_thumb_url is null and image_file_name is not null limit :limit",
+            nativeQuery = true)
+    List<String> findFileNamesWithoutDerivatives(@Param("limit") int limit);
+}
@@ -0,0 +1,263 @@
+package com.t1membership.image.service;
+
+import com.t1membership.image.constant.ImageSize;
+import com.t1membership.image.repository.ImageRepository;
+import com.t1membership.item.service.ItemCatalogCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * 업로드 이미지 파생본(thumb / medium) 생성
+ *
+ * - 업로드 요청 트랜잭션 커밋 후 유한 큐에 등록 → 백그라운드에서 JDK ImageIO 로 리사이즈
+ * - 파일명: {uuid}_thumb.jpg / {uuid}_medium.jpg (투명 이미지는 png)
+ * - 원본이 이미 목표 크기 이하이면 원본 url 그대로 사용
+ * - ImageIO 가 못 읽는 형식(webp, svg 등) / 원본 없음 → "" 로 표시해서 다시 시도하지 않음 (화면은 원본 사용)
+ * - 디코딩 전에 헤더의 가로x세로만 먼저 읽고 max-pixels 초과면 건너뜀 (픽셀 폭탄 → OOM 방지), 역시 "" 표시
+ * - 상품 이미지면 기록 커밋 후 카탈로그 캐시 무효화 (상세/목록에 파생본 url 반영)
+ * - 큐가 넘쳐 빠진 건 주기 스윕에서 다시 채움
+ */
+@Log4j2
+@Component
+public class ImageDerivativeService {
+
+    private static final Set<String> WRITE_ALPHA = Set.of("png", "gif");
+
+    private final ImageRepository imageRepository;
+    private final ItemCatalogCache catalogCache;
+    private final TransactionTemplate tx;
+    private final Path base;
+    private final String urlBase;
+    private final long maxPixels;
+
+    private final ThreadPoolExecutor executor;
+
+    // 큐에 있거나 처리 중인 파일 (중복 등록 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeService(ImageRepository imageRepository,
+                                  ItemCatalogCache catalogCache,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.upload.dir}") String uploadDir,
+                                  @Value("${app.upload.url-base}") String urlBase,
+                                  @Value("${app.image.derivative.threads:2}") int threads,
+                                  @Value("${app.image.derivative.queue-capacity:200}") int queueCapacity,
+                                  @Value("${app.image.derivative.max-pixels:25000000}") long maxPixels) {
+        this.imageRepository = imageRepository;
+        this.catalogCache = catalogCache;
+        this.maxPixels = Math.max(1, maxPixels);
+        this.tx = new TransactionTemplate(transactionManager);
+        this.base = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.urlBase = urlBase;
+        int n = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                n, n, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "image-derivative");
+                    t.setDaemon(true);
+                    t.setPriority(Thread.MIN_PRIORITY);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // =========================
+    // 등록
+    // =========================
+
+    // 이미지 행이 커밋된 뒤에 돌아야 update 가 먹힘
+    public void enqueueAfterCommit(String fileName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(fileName);
+                }
+            });
+        } else {
+            enqueue(fileName);
+        }
+    }
+
+    public void enqueue(String fileName) {
+        if (fileName == null || fileName.isBlank() || !inFlight.add(fileName)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileName);
+                } catch (Exception e) {
+                    log.error("[IMAGE_DERIVATIVE] 생성 실패 file={}", fileName, e);
+                } finally {
+                    inFlight.remove(fileName);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(fileName);
+            log.warn("[IMAGE_DERIVATIVE] 큐 가득 참 file={} → 스윕에서 처리", fileName);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.image.derivative.sweep-ms:300000}")
+    public void sweep() {
+        int room = executor.getQueue().remainingCapacity();
+        if (room <= 0) return;
+        imageRepository.findFileNamesWithoutDerivatives(Math.min(room, 50)).forEach(this::enqueue);
+    }
+
+    // =========================
+    // 생성
+    // =========================
+
+    void generate(String fileName) throws IOException {
+        Path source = base.resolve(fileName).normalize();
+        BufferedImage original = (source.startsWith(base) && Files.isRegularFile(source))
+                ? readCapped(source, fileName)
+                : null;
+
+        if (original == null) {
+            record(fileName, "", "");
+            log.info("[IMAGE_DERIVATIVE] 변환 불가(원본 없음/미지원 형식) file={}", fileName);
+            return;
+        }
+
+        String originalUrl = urlBase + "/" + fileName;
+        String thumb = write(fileName, original, ImageSize.THUMB, originalUrl);
+        String medium = write(fileName, original, ImageSize.MEDIUM, originalUrl);
+        record(fileName, thumb, medium);
+
+        log.info("[IMAGE_DERIVATIVE] file={} {}x{} thumb={} medium={}",
+                fileName, original.getWidth(), original.getHeight(), thumb, medium);
+    }
+
+    // 헤더에서 크기만 먼저 보고, 너무 크면 디코딩하지 않음 (디코딩하면 가로x세로x4 byte 를 한 번에 잡음)
+    private BufferedImage readCapped(Path source, String fileName) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) return null;
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("[IMAGE_DERIVATIVE] 픽셀 수 초과로 건너뜀 file={} {}x{} (max={})",
+                            fileName, reader.getWidth(0), reader.getHeight(0), maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private String write(String fileName, BufferedImage src, ImageSize size, String originalUrl) throws IOException {
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int longest = Math.max(w, h);
+        if (longest <= size.maxEdge()) {
+            return originalUrl;
+        }
+
+        double scale = (double) size.maxEdge() / longest;
+        int tw = Math.max(1, (int) Math.round(w * scale));
+        int th = Math.max(1, (int) Math.round(h * scale));
+
+        boolean alpha = src.getColorModel().hasAlpha() && WRITE_ALPHA.contains(extOf(fileName));
+        String format = alpha ? "png" : "jpg";
+
+        BufferedImage out = new BufferedImage(tw, th, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = out.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                // jpg 는 투명 배경이 검게 나오니 흰 배경
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, tw, th);
+            }
+            g.drawImage(src, 0, 0, tw, th, null);
+        } finally {
+            g.dispose();
+        }
+
+        String name = derivativeName(fileName, size, format);
+        Path temp = base.resolve(name + ".part");
+        Path target = base.resolve(name);
+        if (!ImageIO.write(out, format, temp.toFile())) {
+            Files.deleteIfExists(temp);
+            return originalUrl;
+        }
+        Files.move(temp, target, REPLACE_EXISTING);
+        return urlBase + "/" + name;
+    }
+
+    private void record(String fileName, String thumbUrl, String mediumUrl) {
+        tx.executeWithoutResult(status -> {
+            imageRepository.updateDerivatives(fileName, thumbUrl, mediumUrl);
+            // 캐시된 상품 상세/목록이 옛 url(파생본 없음)을 들고 있음 → 커밋 후 무효화
+            if (imageRepository.findItemNoByFileName(fileName) != null) {
+                catalogCache.bumpAfterCommit();
+            }
+        });
+    }
+
+    // =========================
+    // 이름 규칙 (삭제 시에도 사용)
+    // =========================
+
+    static String derivativeName(String fileName, ImageSize size, String format) {
+        return stem(fileName) + size.suffix() + "." + format;
+    }
+
+    // 원본 삭제 시 같이 지울 후보
+    public static List<String> derivativeNames(String fileName) {
+        return List.of(
+                derivativeName(fileName, ImageSize.THUMB, "jpg"),
+                derivativeName(fileName, ImageSize.THUMB, "png"),
+                derivativeName(fileName, ImageSize.MEDIUM, "jpg"),
+                derivativeName(fileName, ImageSize.MEDIUM, "png")
+        );
+    }
+
+    private static String stem(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return (dot > 0) ? fileName.substring(0, dot) : fileName;
+    }
+
+    private static String extOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return (dot >= 0) ? fileName.substring(dot + 1).toLowerCase() : "";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -20,11 +20,14 @@ public class LocalStorage implements FileService {
     private final String uploadDir;
     private final String urlBase;
     private final Path base;
+    private final ImageDerivativeService derivativeService;
 
     public LocalStorage(@Value("${app.upload.dir}") String uploadDir,
-                        @Value("${app.upload.url-base}") String urlBase) {
+                        @Value("${app.upload.url-base}") String urlBase,
+                        ImageDerivativeService derivativeService) {
         this.uploadDir = uploadDir;
         this.urlBase = urlBase;
+        this.derivativeService = derivativeService;
         this.base = Paths.get(uploadDir).toAbsolutePath().normalize();
     }
 
@@ -61,6 +64,9 @@ public class LocalStorage implements FileService {
             throw new RuntimeException("로컬 업로드 실패: " + e);   // 예외 처리는 후처리로
         }
         log.info("[upload] file={}, url={}", imageDTO.getFileName(), imageDTO.getUrl());
+
+        // thumb / medium 파생본은 커밋 후 백그라운드에서 생성
+        derivativeService.enqueueAfterCommit(imageDTO.getFileName());
         return imageDTO;
     }
 
@@ -83,6 +89,9 @@ public class LocalStorage implements FileService {
             if (!filePath.startsWith(uploadDir)) return; // 경로 안전 체크
 
             Files.deleteIfExists(filePath);
+            for (String derived : ImageDerivativeService.derivativeNames(fileName)) {
+                Files.deleteIfExists(Paths.get(uploadDir).resolve(derived).normalize());
+            }
             log.info("파일 삭제 완료: {}", fileName);
         } catch (IOException e) {
             log.error("파일 삭제 실패: {}", fileName, e);
@@ -0,0 +1,7 @@
+package com.t1membership.inventory.constant;
+
+public enum ReservationStatus {
+    HELD,       // 주문 생성 시 재고 차감 완료, 결제 대기 중 (만료되면 반납)
+    COMMITTED,  // 결제 완료 → 확정
+    RELEASED    // 취소/만료로 재고 반납 완료
+}
@@ -0,0 +1,38 @@
+package com.t1membership.inventory.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.inventory.service.HotStockShards;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin/inventory/hot")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminHotStockController {
+
+    private final HotStockShards hotStockShards;
+
+    // 한정 드랍 상품 핫 모드 켜기 (재고를 샤드로 나눠 빌려옴)
+    @PutMapping("/{itemNo}")
+    public ApiResult<Map<Long, Integer>> enable(@PathVariable Long itemNo) {
+        hotStockShards.enable(itemNo);
+        return new ApiResult<>(hotStockShards.status());
+    }
+
+    // 끄기 (샤드에 남은 재고는 DB 로 반납)
+    @DeleteMapping("/{itemNo}")
+    public ApiResult<Map<Long, Integer>> disable(@PathVariable Long itemNo) {
+        hotStockShards.disable(itemNo);
+        return new ApiResult<>(hotStockShards.status());
+    }
+
+    // itemNo → 샤드에 들고 있는 재고
+    @GetMapping
+    public ApiResult<Map<Long, Integer>> status() {
+        return new ApiResult<>(hotStockShards.status());
+    }
+}
@@ -0,0 +1,46 @@
+package com.t1membership.inventory.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 핫 재고 샤드가 DB 에서 빌려간 재고 (서버 × 상품 1행, HotStockShards)
+ *
+ * - leased_qty = 그 서버가 빌려간 양 - 돌려준 양 (누적)
+ * - 그 서버 샤드에서 나간 양은 t1_stock_reservation.lease_node 로 남음
+ *   → 서버가 죽으면 leased_qty - 예약 수량 합 = 샤드에 남아 있던 재고 → 다른 서버가 DB 로 반납
+ * - heartbeat_at 이 오래된 행 = 죽은 서버 (정상 종료는 전부 반납하고 행 삭제)
+ * - JDBC 로만 씀, 엔티티는 스키마 생성용
+ */
+@Entity
+@Table(
+        name = "t1_stock_lease",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_lease_node_item", columnNames = {"node_id", "item_no"}),
+        indexes = @Index(name = "idx_stock_lease_heartbeat", columnList = "heartbeat_at")
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockLeaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "lease_no")
+    private Long leaseNo;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Column(name = "item_no", nullable = false)
+    private Long itemNo;
+
+    @Column(name = "leased_qty", nullable = false)
+    private int leasedQty;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
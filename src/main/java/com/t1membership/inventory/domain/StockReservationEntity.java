@@ -0,0 +1,61 @@
+package com.t1membership.inventory.domain;
+
+import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.inventory.constant.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 (주문 라인 1건 = 예약 1건)
+ *
+ * - t1_item.item_stock 은 예약 시점에 이미 차감되어 있음
+ * - HELD → COMMITTED (결제 완료) / HELD·COMMITTED → RELEASED (취소·만료, 재고 반납)
+ * - 상태 전이는 repository 의 조건부 update 로만 (같은 예약이 두 번 반납되지 않도록)
+ */
+@Entity
+@Table(
+        name = "t1_stock_reservation",
+        indexes = {
+                @Index(name = "idx_reservation_order", columnList = "order_no"),
+                @Index(name = "idx_reservation_status_expires", columnList = "reservation_status, expires_at"),
+                @Index(name = "idx_reservation_lease", columnList = "lease_node, item_no")
+        }
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockReservationEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_no")
+    private Long reservationNo;
+
+    @Column(name = "order_no", nullable = false)
+    private Long orderNo;
+
+    @Column(name = "order_item_no")
+    private Long orderItemNo;
+
+    @Column(name = "item_no", nullable = false)
+    private Long itemNo;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reservation_status", nullable = false, length = 20)
+    private ReservationStatus reservationStatus;
+
+    // HELD 상태 만료 시각 (PAYMENT_PENDING 유지 가능 시간)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 핫 재고 샤드에서 차감한 경우 그 서버 id (t1_stock_lease.node_id), DB row 에서 차감했으면 null
+    @Column(name = "lease_node", length = 100)
+    private String leaseNode;
+}
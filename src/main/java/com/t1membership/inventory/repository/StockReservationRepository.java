@@ -0,0 +1,51 @@
+package com.t1membership.inventory.repository;
+
+import com.t1membership.inventory.constant.ReservationStatus;
+import com.t1membership.inventory.domain.StockReservationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    List<StockReservationEntity> findByOrderNoAndReservationStatusIn(Long orderNo, Collection<ReservationStatus> statuses);
+
+    List<StockReservationEntity> findByOrderNoInAndReservationStatusIn(Collection<Long> orderNos, Collection<ReservationStatus> statuses);
+
+    // 만료된 HELD 예약의 주문번호 (idx_reservation_status_expires)
+    @Query("""
+            select distinct r.orderNo
+              from StockReservationEntity r
+             where r.reservationStatus = com.t1membership.inventory.constant.ReservationStatus.HELD
+               and r.expiresAt < :now
+            """)
+    List<Long> findExpiredOrderNos(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 상태 전이 (expected 상태일 때만) → 0 이면 다른 쪽이 먼저 처리한 것
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockReservationEntity r
+               set r.reservationStatus = :to
+             where r.reservationNo = :reservationNo
+               and r.reservationStatus = :expected
+            """)
+    int transition(@Param("reservationNo") Long reservationNo,
+                   @Param("expected") ReservationStatus expected,
+                   @Param("to") ReservationStatus to);
+
+    // 결제 완료: 주문의 HELD 전부 확정
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update StockReservationEntity r
+               set r.reservationStatus = com.t1membership.inventory.constant.ReservationStatus.COMMITTED
+             where r.orderNo = :orderNo
+               and r.reservationStatus = com.t1membership.inventory.constant.ReservationStatus.HELD
+            """)
+    int commitByOrderNo(@Param("orderNo") Long orderNo);
+}
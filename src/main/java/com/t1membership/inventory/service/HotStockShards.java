@@ -0,0 +1,317 @@
+package com.t1membership.inventory.service;
+
+import com.t1membership.item.dto.ItemStockView;
+import com.t1membership.item.repository.ItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핫 상품(한정 POP / 저지 드랍) 재고 샤드 관리
+ *
+ * - 관리자가 켠 상품만 대상 (opt-in), 꺼지면 남은 샤드 재고는 DB 로 반납
+ * - 샤드가 DB 에서 빌려오는(lease) / 돌려주는(giveBack) 건 요청 트랜잭션과 분리된 별도 트랜잭션
+ *   → 주문이 롤백돼도 lease 는 유지되고, 주문이 가져간 수량만 샤드로 되돌림
+ * - 화면 재고 = DB 재고 + 샤드에 빌려온 재고 (ItemStockOverlay 에서 합산)
+ * - 빌려간 양은 서버별 t1_stock_lease 행에 lease / giveBack 과 같은 트랜잭션으로 기록
+ *   → 서버가 반납 없이 죽으면 heartbeat 가 끊긴 행을 다른 서버(또는 재기동한 서버)가 회수
+ *     (leased_qty - 그 서버 샤드에서 나간 예약 수량 = 샤드에 남아 있던 재고 → DB 로)
+ */
+@Log4j2
+@Component
+public class HotStockShards {
+
+    private static final int RECLAIM_BATCH = 100;
+
+    // ===== 서버별 lease 원장 (t1_stock_lease) =====
+    private static final String LEASE_ADD_SQL =
+            "update t1_stock_lease set leased_qty = leased_qty + ?, heartbeat_at = ? where node_id = ? and item_no = ?";
+    private static final String LEASE_INSERT_SQL =
+            "insert into t1_stock_lease (node_id, item_no, leased_qty, heartbeat_at) values (?, ?, ?, ?)";
+    private static final String LEASE_GIVE_BACK_SQL =
+            "update t1_stock_lease set leased_qty = leased_qty - ? where node_id = ? and item_no = ?";
+    private static final String LEASE_HEARTBEAT_SQL =
+            "update t1_stock_lease set heartbeat_at = ? where node_id = ?";
+    private static final String LEASE_ITEMS_SQL =
+            "select item_no from t1_stock_lease where node_id = ?";
+    private static final String LEASE_RELEASE_SQL =
+            "delete from t1_stock_lease where node_id = ?";
+    private static final String LEASE_STALE_SQL =
+            "select node_id, item_no from t1_stock_lease where heartbeat_at < ? and node_id <> ? limit " + RECLAIM_BATCH;
+    private static final String LEASE_LOCK_SQL =
+            "select leased_qty, heartbeat_at from t1_stock_lease where node_id = ? and item_no = ? for update";
+    private static final String LEASE_DELETE_SQL =
+            "delete from t1_stock_lease where node_id = ? and item_no = ?";
+    // 그 서버 샤드에서 나간 양 (상태 무관: 취소/만료 반납은 샤드가 아니라 DB 로 감)
+    private static final String LEASE_TAKEN_SQL =
+            "select coalesce(sum(quantity), 0) from t1_stock_reservation where lease_node = ? and item_no = ?";
+
+    private final ItemRepository itemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final int shardCount;
+    private final int leaseChunk;
+    private final long leaseStaleSeconds;
+
+    // 서버(JVM) 기동마다 새로 → 재기동 전 lease 는 죽은 서버 것으로 회수됨
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Long, ShardedStockCounter> counters = new ConcurrentHashMap<>();
+
+    // 이 서버의 lease 행이 있는 상품 (회수 감지용)
+    private final Set<Long> leaseRows = ConcurrentHashMap.newKeySet();
+
+    public HotStockShards(ItemRepository itemRepository,
+                          JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${app.inventory.hot.shards:8}") int shardCount,
+                          @Value("${app.inventory.hot.lease-chunk:20}") int leaseChunk,
+                          @Value("${app.inventory.hot.lease-stale-seconds:60}") long leaseStaleSeconds) {
+        this.itemRepository = itemRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardCount = Math.max(1, shardCount);
+        this.leaseChunk = Math.max(1, leaseChunk);
+        this.leaseStaleSeconds = Math.max(10, leaseStaleSeconds);
+    }
+
+    // 예약(t1_stock_reservation.lease_node)에 남길 이 서버 id
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // =========================
+    // 핫 모드 on/off
+    // =========================
+
+    public void enable(Long itemNo) {
+        counters.computeIfAbsent(itemNo, no -> new ShardedStockCounter(shardCount, leaseChunk, ledger(no)));
+        log.info("[HOT_STOCK] ON itemNo={} shards={} chunk={}", itemNo, shardCount, leaseChunk);
+    }
+
+    public void disable(Long itemNo) {
+        ShardedStockCounter c = counters.remove(itemNo);
+        if (c != null) {
+            int returned = c.close();
+            log.info("[HOT_STOCK] OFF itemNo={} returned={}", itemNo, returned);
+        }
+    }
+
+    public boolean isHot(Long itemNo) {
+        return itemNo != null && counters.containsKey(itemNo);
+    }
+
+    // 샤드에 빌려온 재고 (핫 모드가 아니면 0)
+    public int leased(Long itemNo) {
+        ShardedStockCounter c = (itemNo == null) ? null : counters.get(itemNo);
+        return (c == null) ? 0 : c.available();
+    }
+
+    // 주문 가능 재고 = DB 재고 + 샤드에 빌려온 재고
+    // (핫 상품은 DB row 가 샤드로 빠져 있어서 row 만 보면 남은 재고가 있어도 품절로 보임)
+    public int available(Long itemNo, int rowStock) {
+        return rowStock + leased(itemNo);
+    }
+
+    public Map<Long, Integer> status() {
+        Map<Long, Integer> out = new LinkedHashMap<>();
+        counters.forEach((k, v) -> out.put(k, v.available()));
+        return out;
+    }
+
+    // =========================
+    // 차감 / 반납
+    // =========================
+
+    /**
+     * 샤드에서 차감, 요청 트랜잭션이 롤백되면 같은 수량을 샤드로 되돌림
+     * @return false = 재고 부족 (DB 까지 바닥) 또는 핫 모드 아님
+     */
+    public boolean take(Long itemNo, int qty) {
+        ShardedStockCounter c = counters.get(itemNo);
+        if (c == null || !c.tryTake(qty)) return false;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        c.put(qty);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    // =========================
+    // 재분배 / 종료
+    // =========================
+
+    // 샤드 쏠림 정리 + 너무 많이 빌려온 건 DB 로 반납 (샤드당 chunk 2배까지만 보유)
+    // + lease heartbeat / 죽은 서버 lease 회수
+    @Scheduled(fixedDelayString = "${app.inventory.hot.rebalance-ms:5000}")
+    public void rebalance() {
+        heartbeat();
+        reclaimStale();
+        counters.forEach((itemNo, c) -> {
+            try {
+                int returned = c.rebalance(shardCount * leaseChunk * 2);
+                if (returned > 0) {
+                    log.info("[HOT_STOCK] rebalance itemNo={} returned={}", itemNo, returned);
+                }
+            } catch (Exception e) {
+                log.error("[HOT_STOCK] rebalance 실패 itemNo={}", itemNo, e);
+            }
+        });
+    }
+
+    // 정상 종료: 전부 반납했으니 남은 leased_qty 는 예약으로 다 설명됨 → 행 삭제
+    @PreDestroy
+    public void shutdown() {
+        counters.keySet().forEach(this::disable);
+        try {
+            requiresNew.executeWithoutResult(status -> jdbcTemplate.update(LEASE_RELEASE_SQL, nodeId));
+            leaseRows.clear();
+        } catch (Exception e) {
+            log.warn("[HOT_STOCK] lease 행 정리 실패 node={} → 다른 서버가 회수", nodeId, e);
+        }
+    }
+
+    // =========================
+    // lease heartbeat / 회수
+    // =========================
+
+    private void heartbeat() {
+        if (leaseRows.isEmpty()) return;
+        // 조회 전에 복사 (조회 뒤에 커밋된 새 lease 를 회수된 것으로 보지 않도록)
+        Set<Long> expected = new HashSet<>(leaseRows);
+        try {
+            List<Long> alive = requiresNew.execute(status -> {
+                jdbcTemplate.update(LEASE_HEARTBEAT_SQL, Timestamp.valueOf(LocalDateTime.now()), nodeId);
+                return jdbcTemplate.queryForList(LEASE_ITEMS_SQL, Long.class, nodeId);
+            });
+            expected.removeAll(alive);
+            for (Long itemNo : expected) {
+                // heartbeat 가 늦어서 다른 서버가 이미 회수함 → 샤드 재고는 DB 로 돌아간 상태, 반납하면 두 번 더해짐
+                leaseRows.remove(itemNo);
+                ShardedStockCounter c = counters.remove(itemNo);
+                int dropped = (c == null) ? 0 : c.abandon();
+                log.error("[HOT_STOCK] lease 가 회수됨 → 핫 모드 해제 itemNo={} dropped={} node={}", itemNo, dropped, nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("[HOT_STOCK] lease heartbeat 실패 node={}", nodeId, e);
+        }
+    }
+
+    // 기동 시 한 번 (재기동 전 자기 lease 포함) + rebalance 주기마다
+    @EventListener(ApplicationReadyEvent.class)
+    public void reclaimStale() {
+        try {
+            LocalDateTime before = LocalDateTime.now().minusSeconds(leaseStaleSeconds);
+            List<Map<String, Object>> stale = jdbcTemplate.queryForList(LEASE_STALE_SQL, Timestamp.valueOf(before), nodeId);
+            for (Map<String, Object> row : stale) {
+                String node = (String) row.get("node_id");
+                Long itemNo = ((Number) row.get("item_no")).longValue();
+                try {
+                    reclaim(node, itemNo, before);
+                } catch (Exception e) {
+                    log.error("[HOT_STOCK] lease 회수 실패 node={} itemNo={}", node, itemNo, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[HOT_STOCK] lease 회수 조회 실패", e);
+        }
+    }
+
+    private void reclaim(String node, Long itemNo, LocalDateTime before) {
+        Integer returned = requiresNew.execute(status -> {
+            // 행 잠금 후 다시 확인 (다른 서버가 먼저 회수 / 그 사이 heartbeat)
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(LEASE_LOCK_SQL, node, itemNo);
+            if (rows.isEmpty()) return null;
+            Map<String, Object> row = rows.get(0);
+            LocalDateTime heartbeat = ((Timestamp) row.get("heartbeat_at")).toLocalDateTime();
+            if (!heartbeat.isBefore(before)) return null;
+
+            int leased = ((Number) row.get("leased_qty")).intValue();
+            Number taken = jdbcTemplate.queryForObject(LEASE_TAKEN_SQL, Number.class, node, itemNo);
+            int unsold = leased - ((taken == null) ? 0 : taken.intValue());
+            if (unsold > 0) {
+                itemRepository.increaseStock(itemNo, unsold);
+            }
+            jdbcTemplate.update(LEASE_DELETE_SQL, node, itemNo);
+            return Math.max(0, unsold);
+        });
+        if (returned != null) {
+            log.info("[HOT_STOCK] lease 회수 node={} itemNo={} returned={}", node, itemNo, returned);
+        }
+    }
+
+    // =========================
+    // DB 원장
+    // =========================
+
+    private ShardedStockCounter.Ledger ledger(Long itemNo) {
+        return new ShardedStockCounter.Ledger() {
+            @Override
+            public int lease(int want) {
+                Integer got = requiresNew.execute(status -> {
+                    // 남은 재고가 want 보다 적으면 남은 만큼만 (동시 차감과 경합하면 몇 번 재시도)
+                    for (int attempt = 0; attempt < 3; attempt++) {
+                        int current = itemRepository.findStocks(List.of(itemNo)).stream()
+                                .findFirst().map(ItemStockView::getItemStock).orElse(0);
+                        int take = Math.min(want, current);
+                        if (take <= 0) return 0;
+                        if (itemRepository.tryDecreaseStock(itemNo, take) == 1) {
+                            recordLease(itemNo, take);
+                            return take;
+                        }
+                    }
+                    return 0;
+                });
+                if (got == null || got <= 0) return 0;
+                leaseRows.add(itemNo);
+                return got;
+            }
+
+            @Override
+            public void giveBack(int qty) {
+                requiresNew.executeWithoutResult(status -> {
+                    itemRepository.increaseStock(itemNo, qty);
+                    jdbcTemplate.update(LEASE_GIVE_BACK_SQL, qty, nodeId, itemNo);
+                });
+            }
+        };
+    }
+
+    // lease 와 같은 트랜잭션 (상품 재고 차감과 lease 기록이 같이 커밋)
+    // 상품당 lease 는 ShardedStockCounter 의 lease 락 안에서만 → 이 서버 안에서 insert 가 겹치지 않음
+    private void recordLease(Long itemNo, int qty) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(LEASE_ADD_SQL, qty, now, nodeId, itemNo) == 0) {
+            jdbcTemplate.update(LEASE_INSERT_SQL, nodeId, itemNo, qty, now);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.t1membership.inventory.service;
+
+import com.t1membership.inventory.constant.ReservationStatus;
+import com.t1membership.inventory.domain.StockReservationEntity;
+import com.t1membership.inventory.repository.StockReservationRepository;
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.repository.ItemRepository;
+import com.t1membership.item.service.ItemStockOverlay;
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.domain.OrderItemEntity;
+import com.t1membership.order.repository.OrderRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 굿즈 재고 예약
+ *
+ * 흐름
+ *  1) 주문 생성(PAYMENT_PENDING) → reserve: 상품별 조건부 차감 (stock >= qty 일 때만) + 라인별 HELD 예약
+ *  2) 결제 승인(PAID)          → commit: HELD → COMMITTED
+ *  3) 취소                     → release: HELD/COMMITTED → RELEASED + 재고 반납
+ *  4) TTL 지나도록 결제 안 됨   → PaymentExpiryService(타이밍 휠)에서 주문 PAYMENT_EXPIRED + releaseAll
+ *                                (아래 예약 만료 스윕은 안전망)
+ *
+ * - 여러 상품 주문은 itemNo 오름차순으로 차감 → 주문끼리 row lock 순서가 같아서 데드락 없음
+ * - 한 상품이라도 부족하면 409 → 요청 트랜잭션 롤백으로 앞에서 차감한 것도 같이 원복
+ * - 예약이 없는 주문(예약 도입 전 주문, 멤버십/POP)은 차감한 적이 없으니 반납도 안 함
+ * - 핫 모드 상품은 DB row 대신 HotStockShards 에서 차감 (반납은 DB 로)
+ */
+@Log4j2
+@Service
+public class InventoryReservationService {
+
+    private static final int SWEEP_BATCH = 100;
+
+    private final StockReservationRepository reservationRepository;
+    private final ItemRepository itemRepository;
+    private final OrderRepository orderRepository;
+    private final ItemStockOverlay stockOverlay;
+    private final HotStockShards hotStockShards;
+    private final TransactionTemplate tx;
+
+    private final long ttlMinutes;
+
+    public InventoryReservationService(StockReservationRepository reservationRepository,
+                                       ItemRepository itemRepository,
+                                       OrderRepository orderRepository,
+                                       ItemStockOverlay stockOverlay,
+                                       HotStockShards hotStockShards,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${app.inventory.reservation-ttl-minutes:30}") long ttlMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.itemRepository = itemRepository;
+        this.orderRepository = orderRepository;
+        this.stockOverlay = stockOverlay;
+        this.hotStockShards = hotStockShards;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.ttlMinutes = Math.max(1, ttlMinutes);
+    }
+
+    // =========================
+    // 예약 (주문 생성)
+    // =========================
+
+    /**
+     * 저장된 주문(orderNo, orderItemNo 있음)의 라인 기준으로 재고 차감 + HELD 예약
+     */
+    @Transactional
+    public void reserve(OrderEntity order) {
+        List<OrderItemEntity> lines = order.getOrderItems().stream()
+                .filter(oi -> oi.getItem() != null && oi.getQuantity() > 0)
+                .toList();
+        if (lines.isEmpty()) return;
+
+        // 같은 상품 여러 라인 → 합쳐서 한 번에, itemNo 오름차순 (락 순서 고정)
+        Map<Long, Integer> perItem = new TreeMap<>();
+        Map<Long, String> names = new HashMap<>();
+        for (OrderItemEntity oi : lines) {
+            ItemEntity item = oi.getItem();
+            perItem.merge(item.getItemNo(), oi.getQuantity(), Integer::sum);
+            names.putIfAbsent(item.getItemNo(), item.getItemName());
+        }
+
+        Set<Long> fromShards = new HashSet<>();
+        for (Map.Entry<Long, Integer> e : perItem.entrySet()) {
+            // 핫 상품은 메모리 샤드에서 차감 (롤백 시 샤드로 자동 반납)
+            if (hotStockShards.isHot(e.getKey())) {
+                if (!hotStockShards.take(e.getKey(), e.getValue())) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "재고가 부족한 상품이 있습니다: " + names.get(e.getKey()));
+                }
+                fromShards.add(e.getKey());
+                continue;
+            }
+            if (itemRepository.tryDecreaseStock(e.getKey(), e.getValue()) == 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "재고가 부족한 상품이 있습니다: " + names.get(e.getKey()));
+            }
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+        List<StockReservationEntity> reservations = lines.stream()
+                .map(oi -> StockReservationEntity.builder()
+                        .orderNo(order.getOrderNo())
+                        .orderItemNo(oi.getOrderItemNo())
+                        .itemNo(oi.getItem().getItemNo())
+                        .quantity(oi.getQuantity())
+                        .reservationStatus(ReservationStatus.HELD)
+                        .expiresAt(expiresAt)
+                        // 서버가 죽었을 때 lease 회수 계산용 (HotStockShards.reclaimStale)
+                        .leaseNode(fromShards.contains(oi.getItem().getItemNo()) ? hotStockShards.nodeId() : null)
+                        .build())
+                .toList();
+        reservationRepository.saveAll(reservations);
+
+        syncOverlay(perItem.keySet());
+
+        log.info("[INVENTORY] reserve orderNo={} items={} expiresAt={}", order.getOrderNo(), perItem, expiresAt);
+    }
+
+    // =========================
+    // 확정 (결제 승인)
+    // =========================
+
+    @Transactional
+    public int commit(Long orderNo) {
+        int n = reservationRepository.commitByOrderNo(orderNo);
+        if (n > 0) {
+            log.info("[INVENTORY] commit orderNo={} lines={}", orderNo, n);
+        }
+        return n;
+    }
+
+    // =========================
+    // 반납 (취소 / 만료)
+    // =========================
+
+    /**
+     * @param orderItemNos null 이면 주문 전체, 아니면 해당 라인만 (부분 취소)
+     * @return 반납한 예약 건수
+     */
+    @Transactional
+    public int release(Long orderNo, Collection<Long> orderItemNos) {
+        Set<Long> targets = (orderItemNos == null) ? null : new HashSet<>(orderItemNos);
+
+        List<StockReservationEntity> rows = reservationRepository
+                .findByOrderNoAndReservationStatusIn(orderNo, List.of(ReservationStatus.HELD, ReservationStatus.COMMITTED))
+                .stream()
+                .filter(r -> targets == null || targets.contains(r.getOrderItemNo()))
+                .sorted(Comparator.comparing(StockReservationEntity::getItemNo)
+                        .thenComparing(StockReservationEntity::getReservationNo))
+                .toList();
+
+        int released = releaseRows(rows);
+        if (released == 0) {
+            log.info("[INVENTORY] release orderNo={} → 반납할 예약 없음", orderNo);
+        }
+        return released;
+    }
+
+    /**
+     * 여러 주문 전체 반납 (결제 만료 배치) - 예약 조회 한 번, 상품 순서로 반납
+     */
+    @Transactional
+    public int releaseAll(Collection<Long> orderNos) {
+        if (orderNos == null || orderNos.isEmpty()) return 0;
+        List<StockReservationEntity> rows = reservationRepository
+                .findByOrderNoInAndReservationStatusIn(orderNos, List.of(ReservationStatus.HELD, ReservationStatus.COMMITTED))
+                .stream()
+                .sorted(Comparator.comparing(StockReservationEntity::getItemNo)
+                        .thenComparing(StockReservationEntity::getReservationNo))
+                .toList();
+        return releaseRows(rows);
+    }
+
+    // rows 는 itemNo 오름차순 (락 순서 고정)
+    private int releaseRows(List<StockReservationEntity> rows) {
+        Set<Long> touched = new TreeSet<>();
+        Set<Long> orders = new TreeSet<>();
+        int released = 0;
+        for (StockReservationEntity r : rows) {
+            // 상태 전이에 성공한 쪽만 재고 반납 (취소/만료 동시 진입해도 한 번만)
+            if (reservationRepository.transition(r.getReservationNo(), r.getReservationStatus(), ReservationStatus.RELEASED) == 1) {
+                itemRepository.increaseStock(r.getItemNo(), r.getQuantity());
+                touched.add(r.getItemNo());
+                orders.add(r.getOrderNo());
+                released++;
+            }
+        }
+
+        if (released > 0) {
+            syncOverlay(touched);
+            log.info("[INVENTORY] release orderNo={} lines={} items={}", orders, released, touched);
+        }
+        return released;
+    }
+
+    // =========================
+    // 만료 스윕
+    // =========================
+
+    // 결제창 생성 실패 보상이 안 된 주문(PAYMENT_PENDING 그대로)도 여기서 같이 정리됨
+    @Scheduled(fixedDelayString = "${app.inventory.expire-sweep-ms:60000}")
+    public void expireSweep() {
+        List<Long> orderNos = reservationRepository.findExpiredOrderNos(LocalDateTime.now(), PageRequest.of(0, SWEEP_BATCH));
+        for (Long orderNo : orderNos) {
+            try {
+                tx.executeWithoutResult(status -> expire(orderNo));
+            } catch (Exception e) {
+                log.error("[INVENTORY] 만료 처리 실패 orderNo={}", orderNo, e);
+            }
+        }
+    }
+
+    void expire(Long orderNo) {
+        // 결제 취소와 같은 주문 행 잠금 (승인 결과 반영도 조건부 update 라 이 잠금과 직렬화됨)
+        OrderStatus status = orderRepository.lockOrderStatus(orderNo)
+                .map(OrderStatus::valueOf)
+                .orElse(null);
+
+        if (status == OrderStatus.PAYMENT_PENDING) {
+            orderRepository.expireIfPending(orderNo);
+            release(orderNo, null);
+            return;
+        }
+
+        // 결제 승인 중 → 결과가 나올 때까지 예약 유지 (다음 스윕에서 다시 봄)
+        if (status == OrderStatus.PAYMENT_CONFIRMING) {
+            return;
+        }
+
+        // 이미 결제대기가 아님 → 주문 상태에 맞춰 예약만 정리
+
+        if (status == null
+                || status == OrderStatus.PAYMENT_EXPIRED
+                || status == OrderStatus.PAYMENT_FAILED
+                || status == OrderStatus.CANCELED) {
+            release(orderNo, null);
+        } else {
+            commit(orderNo);
+        }
+    }
+
+    // 변경된 상품 재고를 DB 에서 다시 읽어 오버레이에 반영 (커밋 후)
+    private void syncOverlay(Collection<Long> itemNos) {
+        itemRepository.findStocks(new ArrayList<>(itemNos))
+                .forEach(v -> stockOverlay.set(v.getItemNo(), v.getItemStock()));
+    }
+}
@@ -0,0 +1,198 @@
+package com.t1membership.inventory.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 1개의 메모리 재고 샤드
+ *
+ * - DB 재고(t1_item.item_stock)에서 chunk 단위로 미리 빌려와(lease) N 개 샤드에 나눠 둠
+ * - 주문은 임의 샤드에서 CAS 로 차감 → 대부분 DB row lock 없이 끝남
+ * - 샤드가 비면 lease 락 하나만 잡고 DB 에서 다시 빌려오거나, 흩어진 샤드를 모아서 처리
+ * - 샤드 값은 절대 음수가 되지 않음 → "빌려온 양 - 나간 양" 을 넘어서 팔 수 없음 (oversell 없음)
+ */
+final class ShardedStockCounter {
+
+    /**
+     * DB 쪽 재고 원장
+     * - lease: 최대 want 만큼 DB 재고를 차감하고 실제 차감량 반환 (없으면 0)
+     * - giveBack: 쓰지 않은 재고를 DB 로 반납
+     */
+    interface Ledger {
+        int lease(int want);
+
+        void giveBack(int qty);
+    }
+
+    private final AtomicInteger[] shards;
+    private final int chunk;
+    private final Ledger ledger;
+    private final ReentrantLock leaseLock = new ReentrantLock();
+
+    private volatile boolean closed = false;
+    private volatile boolean abandoned = false;
+
+    ShardedStockCounter(int shardCount, int chunk, Ledger ledger) {
+        this.shards = new AtomicInteger[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new AtomicInteger();
+        }
+        this.chunk = Math.max(1, chunk);
+        this.ledger = ledger;
+    }
+
+    // =========================
+    // 차감
+    // =========================
+
+    boolean tryTake(int qty) {
+        if (qty <= 0) throw new IllegalArgumentException("qty must be positive: " + qty);
+        if (closed) return false;
+
+        // 1) 빠른 경로: 임의 샤드부터 한 바퀴
+        int start = ThreadLocalRandom.current().nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            if (decrement(shards[(start + i) % shards.length], qty)) return true;
+        }
+
+        // 2) 느린 경로: lease 락 안에서 샤드를 모으고 부족하면 DB 에서 빌려옴
+        leaseLock.lock();
+        try {
+            if (closed) return false;
+
+            int pooled = drainShards();
+            if (pooled < qty) {
+                pooled += ledger.lease(Math.max(chunk, qty - pooled));
+            }
+
+            if (pooled < qty) {
+                // DB 까지 바닥 → 모은 건 다시 샤드로
+                spread(pooled);
+                return false;
+            }
+
+            spread(pooled - qty);
+            return true;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private static boolean decrement(AtomicInteger shard, int qty) {
+        while (true) {
+            int v = shard.get();
+            if (v < qty) return false;
+            if (shard.compareAndSet(v, v - qty)) return true;
+        }
+    }
+
+    // =========================
+    // 반납 (주문 롤백 등)
+    // =========================
+
+    void put(int qty) {
+        if (qty <= 0) return;
+        if (closed) {
+            if (!abandoned) ledger.giveBack(qty);
+            return;
+        }
+        shards[ThreadLocalRandom.current().nextInt(shards.length)].addAndGet(qty);
+
+        // close 와 경합했으면 방금 넣은 것까지 DB 로
+        if (closed) {
+            leaseLock.lock();
+            try {
+                int left = drainShards();
+                if (left > 0 && !abandoned) ledger.giveBack(left);
+            } finally {
+                leaseLock.unlock();
+            }
+        }
+    }
+
+    // =========================
+    // 재분배 / 종료
+    // =========================
+
+    /**
+     * 샤드 재분배: 한쪽으로 몰린 재고를 고르게 나누고 keepMax 초과분은 DB 로 반납
+     * @return DB 로 반납한 양
+     */
+    int rebalance(int keepMax) {
+        leaseLock.lock();
+        try {
+            if (closed) return 0;
+            int pooled = drainShards();
+            int excess = Math.max(0, pooled - Math.max(0, keepMax));
+            if (excess > 0) ledger.giveBack(excess);
+            spread(pooled - excess);
+            return excess;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * 핫 모드 해제 / 서버 종료: 남은 샤드 재고 전부 DB 로 반납
+     * @return 반납한 양
+     */
+    int close() {
+        leaseLock.lock();
+        try {
+            closed = true;
+            int left = drainShards();
+            if (left > 0) ledger.giveBack(left);
+            return left;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 서버가 이 lease 를 이미 DB 로 반납(회수)한 경우: 반납 없이 버림
+     * @return 버린 양
+     */
+    int abandon() {
+        leaseLock.lock();
+        try {
+            abandoned = true;
+            closed = true;
+            return drainShards();
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    // 샤드에 들고 있는 재고 합 (조회용, 근사치)
+    int available() {
+        int sum = 0;
+        for (AtomicInteger s : shards) sum += s.get();
+        return sum;
+    }
+
+    int shardCount() {
+        return shards.length;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // getAndSet(0) 이라 동시에 CAS 차감 중인 스레드와 겹쳐도 같은 재고를 두 번 쓰지 않음
+    private int drainShards() {
+        int sum = 0;
+        for (AtomicInteger s : shards) sum += s.getAndSet(0);
+        return sum;
+    }
+
+    private void spread(int total) {
+        if (total <= 0) return;
+        int per = total / shards.length;
+        int rest = total % shards.length;
+        for (int i = 0; i < shards.length; i++) {
+            int add = per + (i < rest ? 1 : 0);
+            if (add > 0) shards[i].addAndGet(add);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
 import com.t1membership.item.dto.searchAllItem.SearchAllItemRes;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemReq;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemRes;
+import com.t1membership.item.dto.suggestItem.SuggestItemRes;
 import com.t1membership.item.service.ItemService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -62,6 +63,14 @@ public class ItemController {
     }
 
 
+    // 상품명 자동완성 (검색창 타이핑용)
+    @GetMapping("/autocomplete")
+    public ApiResult<List<SuggestItemRes>> suggestItem(@RequestParam("q") String q,
+                                                       @RequestParam(value = "k", defaultValue = "10") int k) {
+        return new ApiResult<>(itemService.suggestItem(q, k));
+    }
+
+
     @GetMapping({"/{itemNo}", "/{itemNo}/edit"})
     public ApiResult<SearchOneItemRes> searchOneItem(@PathVariable Long itemNo) {
         SearchOneItemReq searchReq = SearchOneItemReq.builder()
@@ -0,0 +1,7 @@
+package com.t1membership.item.dto;
+
+// 최근 판매 수량 집계 (ItemSearchIndex 정렬 점수용)
+public interface ItemSalesView {
+    Long getItemNo();
+    Long getSold();
+}
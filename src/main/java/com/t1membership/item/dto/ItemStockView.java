@@ -0,0 +1,7 @@
+package com.t1membership.item.dto;
+
+// 재고만 가볍게 조회 (ItemStockOverlay refresh 용)
+public interface ItemStockView {
+    Long getItemNo();
+    int getItemStock();
+}
@@ -1,6 +1,7 @@
 package com.t1membership.item.dto.searchAllItem;
 
 import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.ItemSellStatus;
 import com.t1membership.item.constant.Player;
 import com.t1membership.item.constant.PopPlanType;
 import lombok.*;
@@ -8,6 +9,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import java.math.BigDecimal;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +37,14 @@ public class SearchAllItemReq {
 
     private PopPlanType popPlanType;
 
+    // 🔥 추가 필터 (null 이면 조건 없음)
+    private ItemSellStatus itemSellStatus;
+
+    private Boolean membershipOnly;
+
+    private BigDecimal minPrice;
+
+    private BigDecimal maxPrice;
 
     public Pageable toPageable() {
         Sort sort = direction.equalsIgnoreCase("ASC") ?
@@ -1,5 +1,6 @@
 package com.t1membership.item.dto.searchAllItem;
 
+import com.t1membership.image.constant.ImageSize;
 import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.item.constant.ItemSellStatus;
 import com.t1membership.item.constant.PopPlanType;
@@ -33,8 +34,8 @@ public class SearchAllItemRes {
         // ★ 첫 번째 이미지의 imageUrl을 썸네일로 사용
         String thumbnailUrl = null;
         if (entity.getImages() != null && !entity.getImages().isEmpty()) {
-            // ImageEntity 필드명이 imageUrl 이라고 가정 (컬럼: image_url)
-            thumbnailUrl = entity.getImages().get(0).getUrl();
+            // 목록 카드는 중간 크기 파생본 (없으면 원본)
+            thumbnailUrl = entity.getImages().get(0).urlFor(ImageSize.MEDIUM);
         }
 
         return SearchAllItemRes.builder()
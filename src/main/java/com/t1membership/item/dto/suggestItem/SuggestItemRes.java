@@ -0,0 +1,21 @@
+package com.t1membership.item.dto.suggestItem;
+
+import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.Player;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestItemRes {
+
+    private Long itemNo;
+    private String itemName;
+    private ItemCategory itemCategory;
+    private Player popPlayer;
+
+    // 최근 판매 수량 (정렬 기준)
+    private long score;
+}
@@ -2,16 +2,23 @@ package com.t1membership.item.repository;
 
 import com.t1membership.item.constant.*;
 import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.dto.ItemSalesView;
+import com.t1membership.item.dto.ItemStockView;
+import com.t1membership.order.constant.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
+public interface ItemRepository extends JpaRepository<ItemEntity, Long>, ItemRepositoryCustom {
     // 나중에 커스텀 조건 붙이고 싶으면 이런 것도 가능:
     // Page<ItemEntity> findAllByItemCategory(ItemCategory category, Pageable pageable);
 
@@ -24,33 +31,35 @@ public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
             Pageable pageable
     );
 
-    // POP 전체 (예: 'POP 리스트 탭' 같은 데서)
-    List<ItemEntity> findByItemCategory(ItemCategory itemCategory);
-
-    // 선수별 POP
-    List<ItemEntity> findByItemCategoryAndPopPlayer(
-            ItemCategory itemCategory,
-            Player popPlayer
-    );
-
-    // ItemRepository
-    Page<ItemEntity> findAllByItemCategory(ItemCategory itemCategory, Pageable pageable);
-
     // 멤버십 기본 결제 타입 + 카테고리로 조회
     Optional<ItemEntity> findByMembershipPayTypeAndItemCategory(
             MembershipPayType membershipPayType,
             ItemCategory itemCategory);
 
-    List<ItemEntity> findByItemCategoryAndPopPlanTypeAndPopPlayer(
-            ItemCategory itemCategory,
-            PopPlanType popPlanType,
-            Player popPlayer
-    );
+    // 목록 검색(카테고리/POP/선수/판매상태/가격 조합)은 ItemRepositoryCustom.search 로 통합
 
-    List<ItemEntity> findByItemCategoryAndPopPlanType(
-            ItemCategory itemCategory,
-            PopPlanType popPlanType
-    );
+    // 재고 오버레이 refresh 용 (재고 컬럼만)
+    @Query("select i.itemNo as itemNo, i.itemStock as itemStock from ItemEntity i where i.itemNo in :itemNos")
+    List<ItemStockView> findStocks(@Param("itemNos") List<Long> itemNos);
+
+    // 자동완성 정렬용 최근 판매 수량 (상품별 합계)
+    @Query("""
+            select oi.item.itemNo as itemNo, sum(oi.quantity) as sold
+              from OrderItemEntity oi
+             where oi.order.createDate >= :since
+               and oi.order.orderStatus in :statuses
+             group by oi.item.itemNo
+            """)
+    List<ItemSalesView> sumRecentSales(@Param("since") LocalDateTime since,
+                                       @Param("statuses") List<OrderStatus> statuses);
 
+    // 재고 예약: 남은 재고가 충분할 때만 원자적으로 차감 (0 이면 재고 부족)
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemEntity i set i.itemStock = i.itemStock - :qty where i.itemNo = :itemNo and i.itemStock >= :qty")
+    int tryDecreaseStock(@Param("itemNo") Long itemNo, @Param("qty") int qty);
 
+    // 재고 반납 (취소/만료)
+    @Modifying(flushAutomatically = true)
+    @Query("update ItemEntity i set i.itemStock = i.itemStock + :qty where i.itemNo = :itemNo")
+    int increaseStock(@Param("itemNo") Long itemNo, @Param("qty") int qty);
 }
@@ -0,0 +1,12 @@
+package com.t1membership.item.repository;
+
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ItemRepositoryCustom {
+
+    // 카테고리 / POP 플랜 / 선수 / 판매상태 / 멤버십전용 / 가격범위 동적 조건 + DB 페이징/정렬
+    Page<ItemEntity> search(SearchAllItemReq cond, Pageable pageable);
+}
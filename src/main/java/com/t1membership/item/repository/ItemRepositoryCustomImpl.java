@@ -0,0 +1,106 @@
+package com.t1membership.item.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.t1membership.item.constant.*;
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 동적 검색 (QueryDSL)
+ *
+ * - 빌드에 Q클래스 생성(apt)이 없어서 PathBuilder 로 경로를 직접 지정
+ *   → 필드명 문자열이라 ItemEntity 필드명 바꾸면 여기도 같이 바꿀 것
+ * - where 조건은 값이 있는 것만 붙임 (null = 조건 없음)
+ * - limit/offset + count 모두 DB 에서 (기존 POP 전체 로딩 + PageImpl 제거)
+ */
+@RequiredArgsConstructor
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+
+    // 정렬 허용 컬럼 (화이트리스트)
+    private static final Set<String> SORTABLE = Set.of("itemNo", "itemName", "itemPrice", "itemStock");
+
+    private final JPAQueryFactory queryFactory;
+
+    private final PathBuilder<ItemEntity> item = new PathBuilder<>(ItemEntity.class, "item");
+
+    @Override
+    public Page<ItemEntity> search(SearchAllItemReq cond, Pageable pageable) {
+        BooleanBuilder where = buildWhere(cond);
+
+        List<ItemEntity> content = queryFactory
+                .selectFrom(item)
+                .where(where)
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 마지막 페이지 등 content 만으로 total 을 알 수 있으면 count 쿼리 생략
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = queryFactory
+                    .select(item.count())
+                    .from(item)
+                    .where(where)
+                    .fetchOne();
+            return total == null ? 0L : total;
+        });
+    }
+
+    private BooleanBuilder buildWhere(SearchAllItemReq cond) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (cond == null) return where;
+
+        ItemCategory category = cond.getItemCategory();
+        if (category != null && category != ItemCategory.ALL) {
+            where.and(item.getEnum("itemCategory", ItemCategory.class).eq(category));
+        }
+        if (cond.getPopPlanType() != null) {
+            where.and(item.getEnum("popPlanType", PopPlanType.class).eq(cond.getPopPlanType()));
+        }
+        if (cond.getPopPlayer() != null) {
+            where.and(item.getEnum("popPlayer", Player.class).eq(cond.getPopPlayer()));
+        }
+        if (cond.getItemSellStatus() != null) {
+            where.and(item.getEnum("itemSellStatus", ItemSellStatus.class).eq(cond.getItemSellStatus()));
+        }
+        if (cond.getMembershipOnly() != null) {
+            where.and(item.getBoolean("membershipOnly").eq(cond.getMembershipOnly()));
+        }
+        if (cond.getMinPrice() != null) {
+            where.and(item.getNumber("itemPrice", BigDecimal.class).goe(cond.getMinPrice()));
+        }
+        if (cond.getMaxPrice() != null) {
+            where.and(item.getNumber("itemPrice", BigDecimal.class).loe(cond.getMaxPrice()));
+        }
+        return where;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            if (!SORTABLE.contains(o.getProperty())) continue;
+            Order dir = o.isAscending() ? Order.ASC : Order.DESC;
+            orders.add(new OrderSpecifier(dir, item.getComparable(o.getProperty(), Comparable.class)));
+        }
+        // 같은 값일 때 페이지 간 순서 흔들리지 않도록 PK 로 마무리
+        if (orders.stream().noneMatch(os -> os.getTarget().toString().endsWith(".itemNo"))) {
+            orders.add(new OrderSpecifier(Order.DESC, item.getNumber("itemNo", Long.class)));
+        }
+        return orders.toArray(new OrderSpecifier[0]);
+    }
+}
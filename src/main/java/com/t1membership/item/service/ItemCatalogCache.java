@@ -0,0 +1,179 @@
+package com.t1membership.item.service;
+
+import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
+import com.t1membership.item.dto.searchAllItem.SearchAllItemRes;
+import com.t1membership.item.dto.searchOneItem.SearchOneItemRes;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 상품 카탈로그 캐시 (/item, /item/{itemNo} 공개 조회용)
+ *
+ * - 상세 스냅샷(itemNo별) + 목록 슬라이스(필터/페이지/정렬 조합별)를 메모리에 보관
+ * - 전역 catalogVersion: 등록/수정/삭제 커밋 후 +1 → 이전 버전 엔트리는 전부 무효
+ *   (적재 시작 시점의 버전을 같이 저장해서, 적재 도중 버전이 바뀌면 다음 조회 때 다시 적재)
+ * - 재고는 ItemStockOverlay 에서 덮어써서 내려줌 → 캐시 히트 시 DB 안 탐
+ * - 내려줄 때는 항상 복사본 (호출 쪽에서 DTO 를 바꿔도 캐시는 그대로)
+ */
+@Log4j2
+@Component
+public class ItemCatalogCache {
+
+    private final ItemStockOverlay stockOverlay;
+    private final TransactionTemplate readTx;
+    private final int maxListSlices;
+
+    private final AtomicLong version = new AtomicLong(1);
+
+    private final Map<Long, Versioned<SearchOneItemRes>> details = new ConcurrentHashMap<>();
+    private final Map<String, Versioned<ListSlice>> lists = new ConcurrentHashMap<>();
+
+    public ItemCatalogCache(ItemStockOverlay stockOverlay,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.item.catalog.max-list-slices:1000}") int maxListSlices) {
+        this.stockOverlay = stockOverlay;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.maxListSlices = Math.max(1, maxListSlices);
+    }
+
+    private record Versioned<T>(long version, T value) {
+    }
+
+    // 목록 한 페이지 (total 포함)
+    public record ListSlice(List<SearchAllItemRes> items, long total) {
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // =========================
+    // 무효화
+    // =========================
+
+    public void bumpAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump();
+                }
+            });
+        } else {
+            bump();
+        }
+    }
+
+    public void bump() {
+        long v = version.incrementAndGet();
+        details.clear();
+        lists.clear();
+        log.info("[CATALOG] version → {}", v);
+    }
+
+    // =========================
+    // 상세
+    // =========================
+
+    public SearchOneItemRes getDetail(Long itemNo, Supplier<SearchOneItemRes> loader) {
+        long current = version.get();
+        Versioned<SearchOneItemRes> hit = details.get(itemNo);
+
+        SearchOneItemRes snapshot;
+        if (hit != null && hit.version() == current) {
+            snapshot = hit.value();
+        } else {
+            snapshot = readTx.execute(status -> loader.get());
+            details.put(itemNo, new Versioned<>(current, snapshot));
+            stockOverlay.seed(itemNo, snapshot.getItemStock());
+        }
+        return withStock(snapshot);
+    }
+
+    // =========================
+    // 목록
+    // =========================
+
+    public ListSlice getList(SearchAllItemReq req, Supplier<ListSlice> loader) {
+        String key = keyOf(req);
+        long current = version.get();
+        Versioned<ListSlice> hit = lists.get(key);
+
+        ListSlice slice;
+        if (hit != null && hit.version() == current) {
+            slice = hit.value();
+        } else {
+            slice = readTx.execute(status -> loader.get());
+            // 가격 범위 등으로 키가 무한히 늘어나는 것 방지
+            if (lists.size() >= maxListSlices) {
+                lists.clear();
+            }
+            lists.put(key, new Versioned<>(current, slice));
+            slice.items().forEach(i -> stockOverlay.seed(i.getItemNo(), i.getItemStock()));
+        }
+
+        List<SearchAllItemRes> items = slice.items().stream()
+                .map(this::withStock)
+                .toList();
+        return new ListSlice(items, slice.total());
+    }
+
+    private static String keyOf(SearchAllItemReq r) {
+        return String.join("|",
+                String.valueOf(r.getItemCategory()),
+                String.valueOf(r.getPopPlanType()),
+                String.valueOf(r.getPopPlayer()),
+                String.valueOf(r.getItemSellStatus()),
+                String.valueOf(r.getMembershipOnly()),
+                String.valueOf(r.getMinPrice()),
+                String.valueOf(r.getMaxPrice()),
+                String.valueOf(r.getPage()),
+                String.valueOf(r.getSize()),
+                String.valueOf(r.getSortBy()),
+                String.valueOf(r.getDirection()).toUpperCase());
+    }
+
+    // =========================
+    // 재고 오버레이 + 복사
+    // =========================
+
+    private SearchOneItemRes withStock(SearchOneItemRes s) {
+        return SearchOneItemRes.builder()
+                .itemNo(s.getItemNo())
+                .itemName(s.getItemName())
+                .itemPrice(s.getItemPrice())
+                .itemStock(stockOverlay.get(s.getItemNo(), s.getItemStock()))
+                .itemCategory(s.getItemCategory())
+                .itemSellStatus(s.getItemSellStatus())
+                // 캐시 스냅샷과 리스트를 공유하지 않게 복사 (요소 DTO 는 setter 없음)
+                .images(s.getImages() == null ? null : new ArrayList<>(s.getImages()))
+                .build();
+    }
+
+    private SearchAllItemRes withStock(SearchAllItemRes s) {
+        return SearchAllItemRes.builder()
+                .itemNo(s.getItemNo())
+                .itemName(s.getItemName())
+                .itemPrice(s.getItemPrice())
+                .itemStock(stockOverlay.get(s.getItemNo(), s.getItemStock()))
+                .itemCategory(s.getItemCategory())
+                .itemSellStatus(s.getItemSellStatus())
+                .thumbnailUrl(s.getThumbnailUrl())
+                .membershipOnly(s.getMembershipOnly())
+                .popPlanType(s.getPopPlanType())
+                .build();
+    }
+}
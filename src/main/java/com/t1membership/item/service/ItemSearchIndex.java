@@ -0,0 +1,282 @@
+package com.t1membership.item.service;
+
+import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.Player;
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.item.dto.suggestItem.SuggestItemRes;
+import com.t1membership.item.repository.ItemRepository;
+import com.t1membership.order.constant.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명 자동완성 / 키워드 검색 인덱스 (메모리)
+ *
+ * - 대상: 상품명 + POP 프로그램 코드 + POP 선수명
+ * - 단어 접두사(prefix trie) 로 먼저 찾고, 없으면 글자 2-gram 으로 부분 일치 검색
+ *   ("Faker jersey" → faker* ∩ jersey*, "저지" 처럼 붙어 있는 한글 부분 검색은 2-gram)
+ * - 정렬: 최근 판매량 점수 desc → itemNo desc
+ * - 시작 시 t1_item 전체로 빌드, 등록/수정/삭제는 커밋 후 반영
+ * - 조회는 불변 스냅샷(volatile) 하나만 읽음 → 락 없음
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ItemSearchIndex {
+
+    private static final int MAX_K = 20;
+
+    // 판매 점수에 넣을 주문 상태
+    private static final List<OrderStatus> SOLD_STATUSES = List.of(
+            OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.SHIPMENT_READY,
+            OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.PARTIALLY_CANCELED
+    );
+
+    private final ItemRepository itemRepository;
+
+    @Value("${app.item.search.sales-days:30}")
+    private int salesDays;
+
+    // 인덱스 원본 (itemNo → 문서)
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+
+    // 최근 판매량 (itemNo → 점수)
+    private volatile Map<Long, Long> salesScore = Map.of();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private record Doc(Long itemNo, String itemName, ItemCategory category, Player popPlayer,
+                       List<String> words, String compact) {
+    }
+
+    // =========================
+    // 빌드 / 갱신
+    // =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            long started = System.currentTimeMillis();
+            itemRepository.findAll().forEach(i -> docs.put(i.getItemNo(), toDoc(i)));
+            refreshSalesScore();
+            log.info("[ITEM_INDEX] 빌드 완료 items={} ({}ms)", docs.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("[ITEM_INDEX] 시작 시 빌드 실패 (자동완성 비어 있음)", e);
+        }
+    }
+
+    // 판매 점수는 자주 안 바뀌어도 되니 주기적으로만
+    @Scheduled(fixedDelayString = "${app.item.search.score-refresh-ms:600000}",
+            initialDelayString = "${app.item.search.score-refresh-ms:600000}")
+    public void refreshSalesScore() {
+        Map<Long, Long> scores = new HashMap<>();
+        itemRepository.sumRecentSales(LocalDateTime.now().minusDays(salesDays), SOLD_STATUSES)
+                .forEach(v -> scores.put(v.getItemNo(), v.getSold() == null ? 0L : v.getSold()));
+        this.salesScore = Map.copyOf(scores);
+        rebuild();
+    }
+
+    // 엔티티 값은 지금 캡처, 반영은 커밋 후
+    public void upsertAfterCommit(ItemEntity item) {
+        Doc doc = toDoc(item);
+        afterCommit(() -> {
+            docs.put(doc.itemNo(), doc);
+            rebuild();
+        });
+    }
+
+    public void removeAfterCommit(Long itemNo) {
+        afterCommit(() -> {
+            docs.remove(itemNo);
+            rebuild();
+        });
+    }
+
+    private void afterCommit(Runnable r) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    r.run();
+                }
+            });
+        } else {
+            r.run();
+        }
+    }
+
+    // 상품 수가 많지 않아서 변경 때마다 스냅샷 통째로 재생성 (copy-on-write)
+    private synchronized void rebuild() {
+        this.snapshot = Snapshot.build(docs.values(), salesScore);
+    }
+
+    // =========================
+    // 조회
+    // =========================
+
+    public List<SuggestItemRes> suggest(String query, int k) {
+        int limit = Math.min(Math.max(1, k), MAX_K);
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) return List.of();
+
+        Snapshot s = this.snapshot;
+
+        // 1) 단어 접두사 교집합
+        Set<Long> hits = null;
+        for (String t : terms) {
+            Set<Long> ids = s.prefix(t);
+            hits = (hits == null) ? new HashSet<>(ids) : retain(hits, ids);
+            if (hits.isEmpty()) break;
+        }
+
+        // 2) 없으면 공백 무시 2-gram 부분 일치
+        if (hits == null || hits.isEmpty()) {
+            hits = s.ngram(String.join("", terms));
+        }
+
+        return hits.stream()
+                .map(s.docs::get)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong((Doc d) -> s.score(d.itemNo())).reversed()
+                        .thenComparing(Doc::itemNo, Comparator.reverseOrder()))
+                .limit(limit)
+                .map(d -> SuggestItemRes.builder()
+                        .itemNo(d.itemNo())
+                        .itemName(d.itemName())
+                        .itemCategory(d.category())
+                        .popPlayer(d.popPlayer())
+                        .score(s.score(d.itemNo()))
+                        .build())
+                .toList();
+    }
+
+    private static Set<Long> retain(Set<Long> acc, Set<Long> other) {
+        acc.retainAll(other);
+        return acc;
+    }
+
+    // =========================
+    // 토큰화
+    // =========================
+
+    private static Doc toDoc(ItemEntity i) {
+        StringBuilder text = new StringBuilder(Objects.toString(i.getItemName(), ""));
+        if (i.getPopProgramCode() != null) text.append(' ').append(i.getPopProgramCode());
+        if (i.getPopPlayer() != null) text.append(' ').append(i.getPopPlayer().playerName());
+
+        List<String> words = tokenize(text.toString());
+        return new Doc(i.getItemNo(), i.getItemName(), i.getItemCategory(), i.getPopPlayer(),
+                words, String.join("", words));
+    }
+
+    // 소문자 + 글자/숫자 외에는 구분자 (한글 포함)
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) return List.of();
+        List<String> out = new ArrayList<>();
+        for (String w : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!w.isEmpty()) out.add(w);
+        }
+        return out;
+    }
+
+    // =========================
+    // 불변 스냅샷
+    // =========================
+
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), new TrieNode(), Map.of(), Map.of());
+
+        final Map<Long, Doc> docs;
+        final TrieNode trie;
+        final Map<String, Set<Long>> bigrams;
+        final Map<Long, Long> scores;
+
+        Snapshot(Map<Long, Doc> docs, TrieNode trie, Map<String, Set<Long>> bigrams, Map<Long, Long> scores) {
+            this.docs = docs;
+            this.trie = trie;
+            this.bigrams = bigrams;
+            this.scores = scores;
+        }
+
+        static Snapshot build(Collection<Doc> source, Map<Long, Long> scores) {
+            Map<Long, Doc> docs = new HashMap<>();
+            TrieNode root = new TrieNode();
+            Map<String, Set<Long>> bigrams = new HashMap<>();
+
+            for (Doc d : source) {
+                docs.put(d.itemNo(), d);
+                for (String w : d.words()) {
+                    root.insert(w, d.itemNo());
+                }
+                String c = d.compact();
+                if (c.length() == 1) {
+                    bigrams.computeIfAbsent(c, x -> new HashSet<>()).add(d.itemNo());
+                }
+                for (int i = 0; i + 2 <= c.length(); i++) {
+                    bigrams.computeIfAbsent(c.substring(i, i + 2), x -> new HashSet<>()).add(d.itemNo());
+                }
+            }
+            return new Snapshot(docs, root, bigrams, scores);
+        }
+
+        long score(Long itemNo) {
+            return scores.getOrDefault(itemNo, 0L);
+        }
+
+        Set<Long> prefix(String term) {
+            TrieNode n = trie.find(term);
+            return (n == null) ? Set.of() : n.ids;
+        }
+
+        Set<Long> ngram(String compact) {
+            if (compact.isEmpty()) return Set.of();
+            if (compact.length() == 1) {
+                // 한 글자는 단어 접두사로만 (2-gram 불가)
+                return new HashSet<>(prefix(compact));
+            }
+            Set<Long> acc = null;
+            for (int i = 0; i + 2 <= compact.length(); i++) {
+                Set<Long> ids = bigrams.getOrDefault(compact.substring(i, i + 2), Set.of());
+                acc = (acc == null) ? new HashSet<>(ids) : retain(acc, ids);
+                if (acc.isEmpty()) return acc;
+            }
+            // 2-gram 은 후보일 뿐이라 실제 부분 문자열인지 한 번 더 확인
+            acc.removeIf(id -> !docs.get(id).compact().contains(compact));
+            return acc;
+        }
+    }
+
+    // 각 노드에 "이 접두사로 시작하는 단어를 가진 상품" 집합을 미리 저장 → 조회는 글자 수만큼만
+    private static final class TrieNode {
+        final Map<Character, TrieNode> children = new HashMap<>();
+        final Set<Long> ids = new HashSet<>();
+
+        void insert(String word, Long itemNo) {
+            TrieNode n = this;
+            for (int i = 0; i < word.length(); i++) {
+                n = n.children.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+                n.ids.add(itemNo);
+            }
+        }
+
+        TrieNode find(String prefix) {
+            TrieNode n = this;
+            for (int i = 0; i < prefix.length() && n != null; i++) {
+                n = n.children.get(prefix.charAt(i));
+            }
+            return n;
+        }
+    }
+}
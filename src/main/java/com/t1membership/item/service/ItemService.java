@@ -12,6 +12,7 @@ import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
 import com.t1membership.item.dto.searchAllItem.SearchAllItemRes;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemReq;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemRes;
+import com.t1membership.item.dto.suggestItem.SuggestItemRes;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -28,4 +29,6 @@ public interface ItemService {
 
     SearchOneItemRes searchOneItem(SearchOneItemReq searchOneItemReq);
 
+    List<SuggestItemRes> suggestItem(String q, int k);
+
 }
@@ -17,19 +17,20 @@ import com.t1membership.item.dto.searchAllItem.SearchAllItemReq;
 import com.t1membership.item.dto.searchAllItem.SearchAllItemRes;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemReq;
 import com.t1membership.item.dto.searchOneItem.SearchOneItemRes;
+import com.t1membership.item.dto.suggestItem.SuggestItemRes;
 import com.t1membership.item.repository.ItemRepository;
 import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.item.constant.ItemSellStatus;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,6 +47,9 @@ public class ItemServiceImpl implements ItemService {
     private final FileService fileService;
     private final ItemRepository itemRepository;
     private final ModelMapper modelMapper;
+    private final ItemCatalogCache catalogCache;
+    private final ItemStockOverlay stockOverlay;
+    private final ItemSearchIndex searchIndex;
 
     // =========================
     // 등록 (ADMIN 전용)
@@ -98,6 +102,10 @@ public class ItemServiceImpl implements ItemService {
             }
         }
 
+        // 카탈로그 캐시 무효화 (커밋 후)
+        catalogCache.bumpAfterCommit();
+        searchIndex.upsertAfterCommit(saved);
+
         return RegisterItemRes.from(saved);
     }
 
@@ -140,6 +148,7 @@ public class ItemServiceImpl implements ItemService {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "재고가 올바르지 않습니다.");
             }
             item.setItemStock(req.getItemStock());
+            stockOverlay.set(item.getItemNo(), req.getItemStock());
         }
 
         if (req.getItemCategory() != null) {
@@ -195,6 +204,9 @@ public class ItemServiceImpl implements ItemService {
 
         ItemEntity saved = itemRepository.save(item);
 
+        catalogCache.bumpAfterCommit();
+        searchIndex.upsertAfterCommit(saved);
+
         return ModifyItemRes.from(saved);
     }
 
@@ -217,86 +229,35 @@ public class ItemServiceImpl implements ItemService {
         // (운영 정책상 중단처리로 대체하려면 itemSellStatus를 DISCONTINUED 등으로 바꾸는 방식도 가능)
         itemRepository.delete(item);
 
+        stockOverlay.remove(req.getItemNo());
+        catalogCache.bumpAfterCommit();
+        searchIndex.removeAfterCommit(req.getItemNo());
+
         return DeleteItemRes.success(req.getItemNo());
     }
 
     // =========================
 // 전체 조회(페이지)
 // =========================
+    // 캐시 히트면 DB 안 탐 → 트랜잭션(커넥션)도 캐시 미스일 때만 ItemCatalogCache 안에서 시작
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PageResponseDTO<SearchAllItemRes> searchAllItem(SearchAllItemReq req) {
 
-        var pageable = req.toPageable();
-
-        // 🔥 필터 파라미터
-        var category    = req.getItemCategory();  // MD / MEMBERSHIP / POP / ALL
-        var popPlayer   = req.getPopPlayer();     // POP일 때만 의미
-        var popPlanType = req.getPopPlanType();   // GENERAL / MEMBERSHIP_ONLY ...
-
-        Page<ItemEntity> page;
-
-        // 1) 카테고리가 지정된 경우
-        if (category != null && category != ItemCategory.ALL) {
-
-            // 1-1) 멤버십 전용: 지금은 그냥 MEMBERSHIP 카테고리 전체
-            if (category == ItemCategory.MEMBERSHIP) {
-
-                page = itemRepository.findAllByItemCategory(
-                        ItemCategory.MEMBERSHIP,
-                        pageable
-                );
-
-            } else if (category == ItemCategory.POP) {
-
-                // 🔥 POP 카테고리일 때는 popPlanType / popPlayer 조합으로 세분화
-
-                // 1) POP + PlanType + Player
-                if (popPlanType != null && popPlayer != null) {
-                    var list = itemRepository.findByItemCategoryAndPopPlanTypeAndPopPlayer(
-                            ItemCategory.POP,
-                            popPlanType,
-                            popPlayer
-                    );
-                    page = new PageImpl<>(list, pageable, list.size());
-                }
-
-                // 2) POP + PlanType만 (예: [멤버십]POP 탭 vs 일반 POP 탭)
-                else if (popPlanType != null) {
-                    var list = itemRepository.findByItemCategoryAndPopPlanType(
-                            ItemCategory.POP,
-                            popPlanType
-                    );
-                    page = new PageImpl<>(list, pageable, list.size());
-                }
-
-                // 3) POP + Player만 (기존 로직)
-                else if (popPlayer != null) {
-                    var list = itemRepository.findByItemCategoryAndPopPlayer(
-                            ItemCategory.POP,
-                            popPlayer
-                    );
-                    page = new PageImpl<>(list, pageable, list.size());
-                }
-
-                // 4) POP 전체
-                else {
-                    var list = itemRepository.findByItemCategory(ItemCategory.POP);
-                    page = new PageImpl<>(list, pageable, list.size());
-                }
-
-            } else {
-                // 1-3) MD 같은 나머지 카테고리
-                page = itemRepository.findAllByItemCategory(category, pageable);
-            }
+        var slice = catalogCache.getList(req, () -> {
+            var pageable = req.toPageable();
 
-            // 2) 카테고리 필터 없거나 ALL인 경우 → 전체 조회
-        } else {
-            page = itemRepository.findAll(pageable);
-        }
+            // 🔥 카테고리 / POP 플랜 / 선수 / 판매상태 / 멤버십전용 / 가격범위
+            //    값 있는 조건만 where 에 붙고, 페이징·정렬은 DB 에서
+            Page<ItemEntity> page = itemRepository.search(req, pageable);
 
-        // 엔티티 → 응답 DTO 매핑
-        var content = page.map(SearchAllItemRes::from).getContent();
+            // 엔티티 → 응답 DTO 매핑
+            return new ItemCatalogCache.ListSlice(
+                    page.map(SearchAllItemRes::from).getContent(),
+                    page.getTotalElements()
+            );
+        });
+        var content = slice.items();
 
         // SearchAllItemReq → PageRequestDTO 변환(어댑터)
         PageRequestDTO pr = PageRequestDTO.builder()
@@ -308,7 +269,7 @@ public class ItemServiceImpl implements ItemService {
         return PageResponseDTO.<SearchAllItemRes>withAll()
                 .pageRequestDTO(pr)
                 .dtoList(content)
-                .total((int) page.getTotalElements())
+                .total((int) slice.total())
                 .build();
     }
 
@@ -319,14 +280,28 @@ public class ItemServiceImpl implements ItemService {
     // 단건 조회
     // =========================
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public SearchOneItemRes searchOneItem(SearchOneItemReq req) {
         if (req.getItemNo() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "아이템 ID가 필요합니다.");
         }
-        ItemEntity item = itemRepository.findById(req.getItemNo())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "아이템을 찾을 수 없습니다."));
 
-        return SearchOneItemRes.from(item);
+        return catalogCache.getDetail(req.getItemNo(), () -> {
+            ItemEntity item = itemRepository.findById(req.getItemNo())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "아이템을 찾을 수 없습니다."));
+            return SearchOneItemRes.from(item);
+        });
+    }
+
+    // =========================
+    // 자동완성 (메모리 인덱스, DB 조회 없음)
+    // =========================
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<SuggestItemRes> suggestItem(String q, int k) {
+        if (!StringUtils.hasText(q)) {
+            return List.of();
+        }
+        return searchIndex.suggest(q, k);
     }
 }
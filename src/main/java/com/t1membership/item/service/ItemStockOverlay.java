@@ -0,0 +1,98 @@
+package com.t1membership.item.service;
+
+import com.t1membership.inventory.service.HotStockShards;
+import com.t1membership.item.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 재고 오버레이
+ *
+ * - 카탈로그 캐시(ItemCatalogCache)는 가격/설명 같은 "잘 안 바뀌는" 값만 들고 있고
+ *   재고는 자주 바뀌니 여기서 따로 관리 → 재고 변경 때문에 카탈로그 버전을 올리지 않음
+ * - 재고를 바꾸는 쪽(주문 취소, 상품 수정 등)은 커밋 후 set 으로 반영
+ * - 놓친 변경이 있어도 refresh 주기마다 DB 값으로 다시 맞춤
+ *   → 지난 refresh 이후 조회된 상품만 (안 보이는 상품까지 매번 전부 다시 읽지 않음)
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ItemStockOverlay {
+
+    private static final int REFRESH_CHUNK = 500;
+
+    private final ItemRepository itemRepository;
+    private final HotStockShards hotStockShards;
+
+    private final Map<Long, Integer> stocks = new ConcurrentHashMap<>();
+
+    // 지난 refresh 이후 get 으로 읽힌 상품 → 다음 refresh 대상
+    private final Set<Long> readSinceRefresh = ConcurrentHashMap.newKeySet();
+
+    // 오버레이에 없으면 fallback (카탈로그 스냅샷 시점 재고)
+    // 핫 상품은 샤드에 빌려간 재고까지 더해서 보여줌
+    public int get(Long itemNo, int fallback) {
+        readSinceRefresh.add(itemNo);
+        Integer v = stocks.get(itemNo);
+        return ((v != null) ? v : fallback) + hotStockShards.leased(itemNo);
+    }
+
+    // 캐시 적재 시: 이미 더 최신 값이 있으면 유지
+    public void seed(Long itemNo, int stock) {
+        if (itemNo != null) stocks.putIfAbsent(itemNo, stock);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에 반영 (롤백된 재고가 보이지 않도록)
+    public void set(Long itemNo, int stock) {
+        if (itemNo == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stocks.put(itemNo, stock);
+                }
+            });
+        } else {
+            stocks.put(itemNo, stock);
+        }
+    }
+
+    public void remove(Long itemNo) {
+        if (itemNo != null) stocks.remove(itemNo);
+    }
+
+    // 지난 refresh 이후 조회된 상품만 DB 재고로 다시 맞춤 (IN 절 chunk 단위)
+    @Scheduled(fixedDelayString = "${app.item.stock-refresh-ms:2000}")
+    public void refresh() {
+        if (readSinceRefresh.isEmpty()) return;
+
+        List<Long> ids = new ArrayList<>(readSinceRefresh);
+        readSinceRefresh.removeAll(ids);
+        for (int i = 0; i < ids.size(); i += REFRESH_CHUNK) {
+            List<Long> chunk = ids.subList(i, Math.min(i + REFRESH_CHUNK, ids.size()));
+            try {
+                Map<Long, Integer> fresh = new ConcurrentHashMap<>();
+                itemRepository.findStocks(chunk)
+                        .forEach(v -> fresh.put(v.getItemNo(), v.getItemStock()));
+
+                for (Long id : chunk) {
+                    Integer s = fresh.get(id);
+                    if (s == null) stocks.remove(id); // 삭제된 상품
+                    else stocks.put(id, s);
+                }
+            } catch (Exception e) {
+                log.warn("[STOCK_OVERLAY] refresh 실패 size={}", chunk.size(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.t1membership.member.service;
+
+import com.t1membership.member.constant.MemberRole;
+import com.t1membership.member.domain.MemberEntity;
+import com.t1membership.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+/**
+ * 요청 1건 동안 공유하는 "현재 로그인 회원" 컨텍스트
+ *
+ * - 게시판/댓글/장바구니/스토리 좋아요/주문 생성에서 각자 memberRepository 로 같은 회원을
+ *   몇 번씩 다시 조회하던 걸 여기 한 곳으로 모음
+ * - 회원 조회는 처음 필요할 때 1번만 (lazy), 이후엔 같은 요청 안에서 재사용
+ * - 관리자 / 멤버십 / 선수 / 컨텐츠 담당자 플래그도 같이 계산해서 들고 있음
+ *
+ * ⚠️ open-in-view=false 라서 member 는 조회한 트랜잭션이 끝나면 detached 상태
+ *    → 연관관계(FK) 세팅용으로만 쓰고, 회원 정보 수정은 repository 로 다시 조회해서 할 것
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class MemberContext {
+
+    private final MemberRepository memberRepository;
+
+    // 인증 정보 (SecurityContext 기준)
+    private boolean authResolved = false;
+    private String email;
+    private boolean admin;
+
+    // 회원 스냅샷 + 플래그 (DB 기준)
+    private boolean memberResolved = false;
+    private MemberEntity member;
+    private boolean membershipActive;
+    private boolean player;
+    private boolean contentManager;
+
+    // =========================
+    // 인증
+    // =========================
+
+    private void resolveAuth() {
+        if (authResolved) return;
+        authResolved = true;
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            return;
+        }
+
+        String name = auth.getName();
+        if (name == null || name.isBlank()) {
+            return;
+        }
+
+        this.email = name;
+        this.admin = auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(r -> r.equals("ROLE_ADMIN") || r.equals("ADMIN") || r.equals("ROLE_MANAGER") || r.equals("MANAGER"));
+    }
+
+    public boolean isLoggedIn() {
+        resolveAuth();
+        return email != null;
+    }
+
+    // 로그인 안 했으면 null
+    public String getEmail() {
+        resolveAuth();
+        return email;
+    }
+
+    public String getEmailOrThrow() {
+        if (!isLoggedIn()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return email;
+    }
+
+    // 권한(authorities) 기준 관리자 - 회원 조회 없이 판단
+    public boolean isAdmin() {
+        resolveAuth();
+        return admin;
+    }
+
+    // =========================
+    // 회원 스냅샷
+    // =========================
+
+    private void resolveMember() {
+        if (memberResolved) return;
+        memberResolved = true;
+
+        if (!isLoggedIn()) return;
+
+        this.member = memberRepository.findByMemberEmail(email).orElse(null);
+        if (member == null) return;
+
+        MemberRole role = member.getMemberRole();
+        this.player = role != null && role.name().startsWith("PLAYER_");
+        this.membershipActive = member.getMembershipType() != null
+                && !"NO_MEMBERSHIP".equalsIgnoreCase(member.getMembershipType().name());
+        this.contentManager = member.isContentManager();
+    }
+
+    public Optional<MemberEntity> getMember() {
+        resolveMember();
+        return Optional.ofNullable(member);
+    }
+
+    public MemberEntity getMemberOrThrow() {
+        getEmailOrThrow();
+        resolveMember();
+        if (member == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원 정보를 찾을 수 없습니다.");
+        }
+        return member;
+    }
+
+    /**
+     * 이메일을 파라미터로 받는 서비스용
+     * - 현재 로그인 회원이면 캐시된 스냅샷, 아니면 DB 조회
+     */
+    public Optional<MemberEntity> findMember(String memberEmail) {
+        if (memberEmail == null) return Optional.empty();
+        if (memberEmail.equalsIgnoreCase(getEmail())) {
+            return getMember();
+        }
+        return memberRepository.findByMemberEmail(memberEmail);
+    }
+
+    public MemberRole getMemberRole() {
+        return getMember().map(MemberEntity::getMemberRole).orElse(null);
+    }
+
+    public boolean hasRole(MemberRole... roles) {
+        MemberRole role = getMemberRole();
+        if (role == null) return false;
+        for (MemberRole r : roles) {
+            if (r == role) return true;
+        }
+        return false;
+    }
+
+    // =========================
+    // 플래그
+    // =========================
+
+    public boolean isMembershipActive() {
+        resolveMember();
+        return membershipActive;
+    }
+
+    // PLAYER_* 역할
+    public boolean isPlayer() {
+        resolveMember();
+        return player;
+    }
+
+    // 컨텐츠 담당자: DB 회원 기준 MemberEntity.isContentManager 그대로
+    // → memberRole 이 ADMIN / ADMIN_CONTENT 이거나 content_manager 컬럼이 true
+    // → authorities(ROLE_ADMIN) 는 안 봄 (그건 isAdmin), 회원 행이 없으면 false
+    public boolean isContentManager() {
+        resolveMember();
+        return contentManager;
+    }
+
+    // 멤버십 전용 페이지 접근: 관리자 OR 멤버십 OR 선수
+    public boolean hasMembershipPrivilege() {
+        return isAdmin() || isMembershipActive() || isPlayer();
+    }
+}
@@ -2,6 +2,7 @@ package com.t1membership.order.constant;
 
 public enum OrderStatus {
     PAYMENT_PENDING,  // 결제대기(주문서만 생성)
+    PAYMENT_CONFIRMING, // 결제승인 중(토스 승인 요청 보냄, 결과 반영 전) - 만료/취소 대상 아님
     PAID,             // 결제완료(승인 성공)
     PAYMENT_FAILED,   // 결제실패(승인 실패)
     PAYMENT_EXPIRED,  // 결제만료(이탈/시간초과)
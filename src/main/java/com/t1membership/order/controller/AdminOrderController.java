@@ -1,24 +1,31 @@
 package com.t1membership.order.controller;
 
+import com.t1membership.order.dto.req.admin.AdminBulkOrderStatusReq;
+import com.t1membership.order.dto.req.admin.AdminSearchOrderReq;
 import com.t1membership.order.dto.req.admin.AdminUpdateOrderAddressReq;
 import com.t1membership.order.dto.req.admin.AdminUpdateOrderStatusReq;
 import com.t1membership.order.dto.req.common.CancelOrderReq;
+import com.t1membership.order.dto.res.admin.AdminBulkOrderStatusRes;
 import com.t1membership.order.dto.res.admin.AdminDetailOrderRes;
+import com.t1membership.order.dto.res.admin.AdminSearchOrderRes;
 import com.t1membership.order.dto.res.common.CancelOrderRes;
 import com.t1membership.order.dto.res.common.SummaryOrderRes;
 import com.t1membership.order.dto.res.common.UpdateOrderAddressRes;
 import com.t1membership.order.service.AdminOrderService;
 import com.t1membership.order.service.OrderCancelService;
 import com.t1membership.order.service.OrderQueryService;
+import com.t1membership.order.service.OrderShipmentBulkService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -31,6 +38,7 @@ public class AdminOrderController {
     private final AdminOrderService adminOrderService;
     private final OrderQueryService orderQueryService;
     private final OrderCancelService orderCancelService;
+    private final OrderShipmentBulkService orderShipmentBulkService;
     //관리자용
     //주문 검색, 상세 조회, 상태 변경(승인/취소)
 
@@ -45,6 +53,18 @@ public class AdminOrderController {
         return ResponseEntity.ok(res);
     }
 
+    //관리자 주문 조건 검색 (기간 / 상품 / 선수 / 결제 상태 / 금액 등, 값 있는 조건만 적용)
+    //대량 목록은 estimateCount=true → 전체 건수 추정 (totalEstimated)
+    @GetMapping("/search")
+    public ResponseEntity<AdminSearchOrderRes> searchOrders(
+            @ModelAttribute AdminSearchOrderReq req,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        AdminSearchOrderRes res = orderQueryService.searchOrders(req, PageRequest.of(Math.max(0, page), Math.max(1, size)));
+        return ResponseEntity.ok(res);
+    }
+
     //관리자 주문 상세
     @GetMapping("/{orderNo}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -73,6 +93,26 @@ public class AdminOrderController {
         return ResponseEntity.ok(res);
     }
 
+    //배송 상태 일괄 변경 (JSON) - 행마다 결과 리포트
+    @PatchMapping(value = "/status/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminBulkOrderStatusRes> updateStatusBulk(
+            @RequestBody @Valid AdminBulkOrderStatusReq req) {
+
+        AdminBulkOrderStatusRes res = orderShipmentBulkService.updateFromJson(req);
+        return ResponseEntity.ok(res);
+    }
+
+    //배송 상태 일괄 변경 (택배사 CSV: 주문번호,상태)
+    @PatchMapping(value = "/status/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AdminBulkOrderStatusRes> updateStatusBulkCsv(
+            @RequestPart("file") MultipartFile file) {
+
+        AdminBulkOrderStatusRes res = orderShipmentBulkService.updateFromCsv(file);
+        return ResponseEntity.ok(res);
+    }
+
     // 관리자 전체 취소
     @PatchMapping("/cancel/all")
     @PreAuthorize("hasRole('ADMIN')")
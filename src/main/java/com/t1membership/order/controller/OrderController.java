@@ -11,16 +11,17 @@ import com.t1membership.order.dto.req.user.CreatePopOrderReq;
 import com.t1membership.order.dto.res.common.CancelOrderRes;
 import com.t1membership.order.dto.res.common.SummaryOrderRes;
 import com.t1membership.order.dto.res.user.CreateOrderRes;
+import com.t1membership.order.dto.res.user.MyOrderSliceRes;
 import com.t1membership.order.dto.res.user.UserDetailOrderRes;
 import com.t1membership.order.service.OrderCancelService;
 import com.t1membership.order.service.OrderQueryService;
 import com.t1membership.order.service.OrderService;
+import com.t1membership.queue.service.WaitingRoomService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -39,6 +40,7 @@ public class OrderController {
     private final OrderQueryService orderQueryService;
     private final OrderService orderService;
     private final OrderCancelService orderCancelService;
+    private final WaitingRoomService waitingRoomService;
 
     //유저용
     //주문 생성,주문 조회, 주문 취소(환불)
@@ -49,12 +51,21 @@ public class OrderController {
                                              @RequestParam(defaultValue = "10") int size) {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createDate"));
+        // 정렬은 쿼리에서 주문번호 역순(= 최신순) 고정
+        Pageable pageable = PageRequest.of(page, size);
         Page<SummaryOrderRes> res = orderQueryService.getMyOrders(email, pageable);
 
         return ResponseEntity.ok(res);
     }
 
+    // 내 주문 목록 (커서) - 첫 페이지는 cursor 없이, 이후엔 응답의 nextCursor 그대로
+    @GetMapping("/my_orders/scroll")
+    public ApiResult<MyOrderSliceRes> scrollMyOrders(@AuthenticationPrincipal String email,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "10") int size) {
+        return new ApiResult<>(orderQueryService.scrollMyOrders(email, cursor, size));
+    }
+
     // 내 주문 상세
     @GetMapping("/{orderNo}")
     public UserDetailOrderRes getMyOrderDetail(@AuthenticationPrincipal String email,
@@ -81,17 +92,33 @@ public class OrderController {
     // 주문 생성 (멤버십)
     @PostMapping("/membership")
     public ApiResult<CreateOrderRes> createMembershipOrders(@AuthenticationPrincipal String email,
+                                                 @RequestHeader(value = WaitingRoomService.TICKET_HEADER, required = false) String ticket,
                                                  @RequestBody @Valid CreateMembershipOrderReq req) {
-        CreateOrderRes res = orderService.createMembershipOrder(email, req);
-        return new ApiResult<>(res);
+        // 대기실 열려 있으면 입장된 대기표 필수 (주문 1건에만 사용, 실패하면 되돌림)
+        waitingRoomService.claimTicket(WaitingRoomService.MEMBERSHIP, email, ticket);
+        try {
+            CreateOrderRes res = orderService.createMembershipOrder(email, req);
+            return new ApiResult<>(res);
+        } catch (RuntimeException e) {
+            waitingRoomService.releaseTicket(WaitingRoomService.MEMBERSHIP, email, ticket);
+            throw e;
+        }
     }
 
     // 주문 생성 (POP)
     @PostMapping("/POP")
     public ApiResult<CreateOrderRes> createPopOrders(@AuthenticationPrincipal String email,
+                                          @RequestHeader(value = WaitingRoomService.TICKET_HEADER, required = false) String ticket,
                                           @RequestBody @Valid CreatePopOrderReq req) {
-        CreateOrderRes res = orderService.createPopOrder(email, req);
-        return new ApiResult<>(res);
+        String target = WaitingRoomService.popTarget(req.getPopId());
+        waitingRoomService.claimTicket(target, email, ticket);
+        try {
+            CreateOrderRes res = orderService.createPopOrder(email, req);
+            return new ApiResult<>(res);
+        } catch (RuntimeException e) {
+            waitingRoomService.releaseTicket(target, email, ticket);
+            throw e;
+        }
     }
 
     // 회원 전체 취소
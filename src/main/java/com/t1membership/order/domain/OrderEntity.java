@@ -1,5 +1,6 @@
 package com.t1membership.order.domain;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.item.constant.MembershipPayType;
 import com.t1membership.member.domain.MemberEntity;
 import com.t1membership.coreDomain.BaseEntity;
@@ -8,13 +9,23 @@ import com.t1membership.pay.domain.TossPaymentEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "t1_order")
+@Table(
+        name = "t1_order",
+        indexes = {
+                @Index(name = "idx_order_member_created", columnList = "member_email, create_date"),
+                @Index(name = "idx_order_status_created", columnList = "order_status, create_date"),
+                @Index(name = "idx_order_member_no", columnList = "member_email, order_no DESC"),
+                // 관리자 검색 (OrderRepositoryCustomImpl): 조건 컬럼 + order_no → 주문번호 페이지를 인덱스만으로
+                @Index(name = "idx_order_status_no", columnList = "order_status, order_no"),
+                @Index(name = "idx_order_created_no", columnList = "create_date, order_no"),
+                @Index(name = "idx_order_total_no", columnList = "order_total_price, order_no")
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -87,17 +98,12 @@ public class OrderEntity extends BaseEntity {
     public void addItem(OrderItemEntity item) {
         item.setOrder(this);//orderItem 쪽에도 order연결(양방향)
         this.orderItems.add(item);//order > orderItem 리스트에 추가
-        recalcTotal();//총 금액 다시 계산
-    }
-    public void recalcTotal() {
-        this.orderTotalPrice = orderItems.stream()
-                .map(OrderItemEntity::getLineTotal)          // Stream<BigDecimal>
-                .reduce(BigDecimal.ZERO, BigDecimal::add);   // BigDecimal 합산
+        // 총 금액은 Creator 가 주문 생성 시 한 번만 세팅 (여기서 재계산 안 함)
     }
 
-    //전체금액결제
+    //전체금액결제 (주문 생성 시 한 번 확정, 이후 재계산 안 함)
     @Column(name = "order_total_price",nullable = false)
-    private BigDecimal orderTotalPrice;
+    private Money orderTotalPrice;
 
 }
 /* === GPT COMMENT START =====================================
@@ -105,7 +111,7 @@ public class OrderEntity extends BaseEntity {
 핵심 개념:
 - 헤더/라인 분리: OrderEntity(헤더) ↔ OrderItemEntity(라인, 여러 개). 장바구니·여러 상품 주문·부분 반품/환불을 위해 필수 구조.
 - 양방향 연관관계: @OneToMany(mappedBy="order") / @ManyToOne(order). addItem() 편의 메서드로 양쪽 참조를 동기화하세요.
-- 합계 계산: recalcTotal()에서 모든 라인의 lineTotal 합으로 orderTotalPrice를 계산(클라이언트 계산 금지).
+- 합계 계산: 주문 생성 시 라인의 lineTotal 합으로 orderTotalPrice를 한 번 확정(클라이언트 계산 금지, 이후 재계산 없음).
 - 상태 흐름: ORDERED → PAID → PROCESSING → SHIPPED → DELIVERED / (CANCELED, RETURNED, REFUNDED)
 - t1.fan 스타일의 쇼핑 흐름을 가정할 때: 회원 주문 내역/상세/배송지 변경/취소 기능과 자연스럽게 연결됩니다.
 권장 필드 체크리스트(부족 시 추가 권장):
@@ -113,11 +119,10 @@ public class OrderEntity extends BaseEntity {
 - MemberEntity member (주문자)  // 현재 email FK 사용 시, 추후 member_id로 전환 권장
 - OrderStatus orderStatus
 - 배송지: receiverName/Phone/Address/DetailAddress/ZipCode/memo
-- int orderTotalPrice  // recalcTotal()로 관리
+- Money orderTotalPrice  // 생성 시 확정
 - List<OrderItemEntity> orderItems  // cascade=ALL, orphanRemoval=true
 편의 메서드:
-- addItem(OrderItemEntity item): item.setOrder(this) + this.orderItems.add(item) + recalcTotal()
-- recalcTotal(): this.orderTotalPrice = orderItems.stream().mapToInt(OrderItemEntity::getLineTotal).sum()
+- addItem(OrderItemEntity item): item.setOrder(this) + this.orderItems.add(item) (총액은 Creator 에서 한 번 세팅)
 주의:
 - 합계/상태/연관관계는 서비스 계층에서 일관되게 갱신.
 - 결제/환불 이벤트에 맞춰 상태를 변경하고, 회계 데이터(스냅샷)는 라인 단위에서 보존하세요.
@@ -1,16 +1,23 @@
 package com.t1membership.order.domain;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.item.constant.Player;
 import com.t1membership.item.domain.ItemEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
-@Table(name = "t1_order_item")
+@Table(
+        name = "t1_order_item",
+        indexes = {
+                // 관리자 주문 검색 exists 서브쿼리 (상품 / 선수 → 주문번호)
+                @Index(name = "idx_order_item_item_order", columnList = "item_no, order_no"),
+                @Index(name = "idx_order_item_player_order", columnList = "player_snapshot, order_no")
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -52,16 +59,16 @@ public class OrderItemEntity {
     private String itemImageSnapshot;
 
     @Column(name = "item_price_snapshot")
-    private BigDecimal itemPriceSnapshot;
+    private Money itemPriceSnapshot;
 
     @Column(name = "price_at_order", nullable = false)
-    private BigDecimal priceAtOrder;              // 당시 단가
+    private Money priceAtOrder;              // 당시 단가
 
     @Column(name = "quantity", nullable = false)
     private int quantity;                  // 주문 수량
 
     @Column(name = "line_total", nullable = false)
-    private BigDecimal lineTotal;                 // 단가 * 수량
+    private Money lineTotal;                 // 단가 * 수량 (of 에서 한 번만 계산)
 
     // 팩토리/계산 보조
     public static OrderItemEntity of(ItemEntity item, int quantity) {
@@ -69,18 +76,15 @@ public class OrderItemEntity {
         oi.setItem(item);
         oi.setQuantity(quantity);
 
-        BigDecimal priceAtOrder = item.getItemPrice();
-        if (priceAtOrder == null) {
-            priceAtOrder = BigDecimal.ZERO; // NPE 방지(선택사항)
-        }
+        // 상품 가격(BigDecimal) → Money 변환은 여기서 한 번만 (null 이면 0원)
+        Money priceAtOrder = Money.of(item.getItemPrice());
 
         // 주문 시점 단가
         oi.setPriceAtOrder(priceAtOrder);
 
         //스냅샷
-        oi.setPriceAtOrder(priceAtOrder);
         oi.setItemNameSnapshot(item.getItemName());
-        oi.setItemPriceSnapshot(item.getItemPrice());
+        oi.setItemPriceSnapshot(priceAtOrder);
         //oi.setItemImageSnapshot(item.getIImage());
 
         // 🔥🔥 여기 추가: 카테고리 스냅샷 저장
@@ -95,8 +99,7 @@ public class OrderItemEntity {
         // oi.setPlayerSnapshot(item.getPopPlayer());  // ItemEntity 에 맞게 필드명 수정
 
         //라인 합계
-        BigDecimal lineTotal = priceAtOrder.multiply(BigDecimal.valueOf(quantity));
-        oi.setLineTotal(lineTotal);
+        oi.setLineTotal(priceAtOrder.times(quantity));
 
         return oi;
     }
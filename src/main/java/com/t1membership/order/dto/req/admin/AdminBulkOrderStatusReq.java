@@ -0,0 +1,31 @@
+package com.t1membership.order.dto.req.admin;
+
+import com.t1membership.order.constant.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminBulkOrderStatusReq {
+    //관리자 주문 상태 일괄 변경 요청 (택배사 파일 → JSON)
+
+    @NotEmpty
+    @Builder.Default
+    private List<Row> rows = new ArrayList<>();
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private Long orderNo;             // 주문 번호
+        private OrderStatus orderStatus;  // SHIPMENT_READY / SHIPPED / DELIVERED
+    }
+}
@@ -1,7 +1,10 @@
 package com.t1membership.order.dto.req.admin;
 
+import com.t1membership.item.constant.Player;
 import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.pay.constant.TossPaymentStatus;
 import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDateTime;
 
@@ -11,10 +14,26 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class AdminSearchOrderReq {
-    //관리자 주문 검색 필터(기간,결제 타입, 상태 등)
+    //관리자 주문 검색 필터(기간,결제 타입, 상태 등) - 값이 있는 것만 조건으로 붙음
     private String memberEmail;//회원아이디
-    private LocalDateTime orderFrom;//주문시간(기간 시작)
-    private LocalDateTime orderTo;//주문시간(기간 종료)
-    private String keyword;// 주문명 등
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime orderFrom;//주문시간(기간 시작, 포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime orderTo;//주문시간(기간 종료, 미포함)
+    private String keyword;// 주문 상품명(스냅샷) 부분 일치
     private OrderStatus orderStatus;//주문상태
+
+    // 주문 라인 조건
+    private Long itemNo;//주문에 포함된 상품
+    private Player player;//선수 스냅샷
+
+    // 결제 조건
+    private TossPaymentStatus paymentStatus;//토스 결제 상태
+
+    // 총 결제 금액 범위 (원)
+    private Long minAmount;
+    private Long maxAmount;
+
+    // true 면 전체 건수를 정확히 세지 않고 추정 (대량 목록용)
+    private Boolean estimateCount;
 }
@@ -0,0 +1,50 @@
+package com.t1membership.order.dto.res.admin;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.t1membership.order.constant.OrderStatus;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminBulkOrderStatusRes {
+    //관리자 주문 상태 일괄 변경 결과 (요청 행 순서 그대로)
+
+    private int total;
+    private int updated;
+    private int unchanged;
+    private int failed;
+
+    private List<RowResult> results;
+
+    public enum Result {
+        UPDATED,            // 변경됨
+        UNCHANGED,          // 이미 같은 상태 (재업로드 등)
+        INVALID_ROW,        // 주문번호/상태 형식 오류
+        DUPLICATE,          // 같은 파일 안에서 중복된 주문번호 (앞의 행만 처리)
+        NOT_FOUND,          // 없는 주문
+        NOT_SHIPPABLE,      // 배송 대상 아님 (멤버십 주문)
+        INVALID_TRANSITION, // 현재 상태에서 바꿀 수 없음
+        CONFLICT,           // 검증 뒤 다른 요청이 먼저 상태를 바꿈
+        ERROR               // DB 오류로 이 묶음 반영 실패 (같은 파일 다시 올리면 됨)
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowResult {
+        private int line;                 // CSV 줄 번호 / JSON 배열 순번 (1부터)
+        private Long orderNo;
+        private OrderStatus fromStatus;
+        private OrderStatus toStatus;
+        private Result result;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.t1membership.order.dto.res.admin;
+
+import com.t1membership.order.dto.res.common.SummaryOrderRes;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AdminSearchOrderRes {
+
+    private List<SummaryOrderRes> orders;
+
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    // totalEstimated = true 면 totalCount 는 추정값 (테이블 통계 또는 상한까지만 센 값)
+    private long totalCount;
+    private boolean totalEstimated;
+}
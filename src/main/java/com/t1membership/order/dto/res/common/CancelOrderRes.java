@@ -1,10 +1,10 @@
 package com.t1membership.order.dto.res.common;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -17,7 +17,7 @@ public class CancelOrderRes {
     private Long orderNo;             // 주문 번호
     private OrderStatus orderStatus;  // 최종 상태 (CANCELLED 등)
 
-    private BigDecimal cancelAmount;         // 취소/환불 금액
+    private Money cancelAmount;         // 취소/환불 금액
     private String cancelReason;      // 취소 사유
 
     private String paymentKey;        // 토스 결제 고유키 (있으면)
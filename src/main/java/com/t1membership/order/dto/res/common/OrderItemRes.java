@@ -1,9 +1,8 @@
 package com.t1membership.order.dto.res.common;
 
+import com.t1membership.coreDomain.Money;
 import lombok.*;
 
-import java.math.BigDecimal;
-
 @Getter
 @Setter
 @Builder
@@ -17,9 +16,9 @@ public class OrderItemRes {
     private String itemNameSnapshot;         // 주문 당시 상품명(스냅샷)
     private String itemOptionSnapshot;       // 주문 당시 옵션(색/사이즈 등)
     private String itemImageSnapshot;        // 주문 당시 대표 이미지
-    private BigDecimal priceAtOrder;                // 당시 단가
+    private Money priceAtOrder;                // 당시 단가
     private int quantity;                    // 주문 수량
-    private BigDecimal lineTotal;                   // 단가 * 수량
+    private Money lineTotal;                   // 단가 * 수량
 
     // 🔥 주문 당시 상품 카테고리 스냅샷 (MD / POP / MEMBERSHIP ...)
     private String itemCategorySnapshot;
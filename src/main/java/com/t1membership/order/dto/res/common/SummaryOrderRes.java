@@ -1,13 +1,14 @@
 package com.t1membership.order.dto.res.common;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
+import com.t1membership.order.repository.OrderRepository;
 import com.t1membership.item.constant.ItemCategory; // 🔥 ItemCategory enum import
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -22,7 +23,7 @@ public class SummaryOrderRes {
     private Long orderNo;                // 주문번호
     private String memberEmail;          // 주문회원
     private LocalDateTime orderDate;     // 주문시각
-    private BigDecimal orderTotalPrice;  // 총 결제 금액(KRW)
+    private Money orderTotalPrice;  // 총 결제 금액(KRW)
     private OrderStatus orderStatus;     // 주문 상태
     private Integer itemCount;           // 상품개수
     private String itemName;             // 대표 상품 이름
@@ -82,6 +83,39 @@ public class SummaryOrderRes {
                 .build();
     }
 
+    // 요약 projection 용 (OrderRepository.OrderSummaryRow, 대표 상품 규칙은 from(OrderEntity) 와 같음)
+    public static SummaryOrderRes from(OrderRepository.OrderSummaryRow row) {
+
+        String itemName;
+        int itemCount;
+        ItemCategory itemCategory;
+
+        if (row.getItemCount() != null && row.getItemCount() > 0) {
+            itemName = row.getItemName();
+            itemCount = row.getItemCount().intValue();
+            itemCategory = row.getItemCategory();
+        } else if (row.getMembershipPlanCode() != null) {
+            itemName = toMembershipDisplayName(row.getMembershipPlanCode());
+            itemCount = 1;
+            itemCategory = ItemCategory.MEMBERSHIP;
+        } else {
+            itemName = "상품명 정보 없음";
+            itemCount = 0;
+            itemCategory = null;
+        }
+
+        return SummaryOrderRes.builder()
+                .orderNo(row.getOrderNo())
+                .memberEmail(row.getMemberEmail())
+                .orderDate(row.getOrderDate())
+                .orderStatus(row.getOrderStatus())
+                .orderTotalPrice(row.getOrderTotalPrice())
+                .itemCount(itemCount)
+                .itemName(itemName)
+                .itemCategory(itemCategory)
+                .build();
+    }
+
     /**
      * membership_plan_code → 화면에 보여줄 멤버십 이름으로 변환
      * 필요하면 코드/이름은 언제든지 여기서만 수정하면 됩니다.
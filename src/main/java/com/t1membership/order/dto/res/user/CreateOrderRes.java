@@ -1,10 +1,10 @@
 package com.t1membership.order.dto.res.user;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter
@@ -17,7 +17,7 @@ public class CreateOrderRes {//주문생성결과
     private String memberEmail;//회원아이디
     private LocalDateTime orderDate;//주문시간
     private OrderStatus orderStatus;//상태
-    private BigDecimal orderTotalPrice;//총 금액
+    private Money orderTotalPrice;//총 금액
     private String checkoutUrl;        // 토스 결제창 URL
 
     public static CreateOrderRes from(OrderEntity orderEntity) {
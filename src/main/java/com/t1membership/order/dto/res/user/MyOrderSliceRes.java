@@ -0,0 +1,20 @@
+package com.t1membership.order.dto.res.user;
+
+import com.t1membership.order.dto.res.common.SummaryOrderRes;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MyOrderSliceRes {
+
+    private List<SummaryOrderRes> orders;
+
+    // 다음 요청에 그대로 넘기는 커서 (없으면 마지막 페이지)
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,12 +1,12 @@
 package com.t1membership.order.dto.res.user;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
 import com.t1membership.order.dto.res.common.OrderItemRes;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -25,7 +25,7 @@ public class UserDetailOrderRes {
     private OrderStatus orderStatus;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    private BigDecimal orderTotalPrice;
+    private Money orderTotalPrice;
 
     // ======================
     // 결제 관련 (선택)
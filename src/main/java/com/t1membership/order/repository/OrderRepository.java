@@ -1,19 +1,26 @@
 package com.t1membership.order.repository;
 
+import com.t1membership.coreDomain.Money;
+import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
-import com.t1membership.order.dto.req.admin.AdminSearchOrderReq;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
+public interface OrderRepository extends JpaRepository<OrderEntity, Long>, OrderRepositoryCustom {
     // 주문 + 라인 한번에
     @EntityGraph(attributePaths = {"orderItems"})
     Optional<OrderEntity> findByOrderNoAndMember_MemberEmail(Long orderNo, String memberEmail);
@@ -30,17 +37,196 @@ public interface OrderRepository extends JpaRepository<OrderEntity, Long> {
 
     Page<OrderEntity> findAllByOrderByCreateDateDesc(Pageable pageable);
 
+    Optional<OrderEntity> findByTossPayment_OrderTossId(String orderTossId);
+
+    // ===== 주문 목록 요약 조회 (my_orders / 관리자 검색, 엔티티/lazy 로딩 없이 한 번에) =====
+
+    interface OrderSummaryRow {
+        Long getOrderNo();
+        String getMemberEmail();
+        LocalDateTime getOrderDate();
+        Money getOrderTotalPrice();
+        OrderStatus getOrderStatus();
+        String getMembershipPlanCode();
+        Long getItemCount();             // 라인 없으면 null
+        String getItemName();            // 첫 라인 상품명
+        ItemCategory getItemCategory();  // 첫 라인 스냅샷, 없으면 원본 상품 카테고리
+    }
+
+    // 주문별 (첫 라인 번호, 라인 수) 는 group by 서브쿼리 하나로 → 첫 라인 / 상품만 join
+    // 인덱스: idx_order_member_no (member_email, order_no desc) → 회원 범위 + 최신순 스캔
+    String MY_ORDER_ROWS = """
+            select o.orderNo as orderNo, o.member.memberEmail as memberEmail, o.createDate as orderDate,
+                   o.orderTotalPrice as orderTotalPrice, o.orderStatus as orderStatus,
+                   o.membershipPlanCode as membershipPlanCode,
+                   g.itemCount as itemCount, fi.itemNameSnapshot as itemName,
+                   coalesce(fi.itemCategorySnapshot, fit.itemCategory) as itemCategory
+              from OrderEntity o
+              left join (
+                    select oi.order.orderNo as orderNo, min(oi.orderItemNo) as firstItemNo, count(oi) as itemCount
+                      from OrderItemEntity oi
+                     where oi.order.member.memberEmail = :email
+                       and oi.order.orderNo < :beforeNo
+                     group by oi.order.orderNo
+              ) g on g.orderNo = o.orderNo
+              left join OrderItemEntity fi on fi.orderItemNo = g.firstItemNo
+              left join fi.item fit
+             where o.member.memberEmail = :email
+               and o.orderNo < :beforeNo
+             order by o.orderNo desc
+            """;
+
+    // 관리자 검색: 조건 검색(OrderRepositoryCustom)으로 고른 주문번호만 요약 조회
     @Query("""
-    select o
-      from OrderEntity o
-     where (:#{#req.memberEmail} is null or o.member.memberEmail = :#{#req.memberEmail})
-       and (:#{#req.orderStatus} is null or o.orderStatus = :#{#req.orderStatus})
-     order by o.orderNo desc
-""")
-    Page<OrderEntity> searchOrders(AdminSearchOrderReq req, Pageable pageable);
+            select o.orderNo as orderNo, o.member.memberEmail as memberEmail, o.createDate as orderDate,
+                   o.orderTotalPrice as orderTotalPrice, o.orderStatus as orderStatus,
+                   o.membershipPlanCode as membershipPlanCode,
+                   g.itemCount as itemCount, fi.itemNameSnapshot as itemName,
+                   coalesce(fi.itemCategorySnapshot, fit.itemCategory) as itemCategory
+              from OrderEntity o
+              left join (
+                    select oi.order.orderNo as orderNo, min(oi.orderItemNo) as firstItemNo, count(oi) as itemCount
+                      from OrderItemEntity oi
+                     where oi.order.orderNo in :orderNos
+                     group by oi.order.orderNo
+              ) g on g.orderNo = o.orderNo
+              left join OrderItemEntity fi on fi.orderItemNo = g.firstItemNo
+              left join fi.item fit
+             where o.orderNo in :orderNos
+             order by o.orderNo desc
+            """)
+    List<OrderSummaryRow> findSummaryRows(@Param("orderNos") Collection<Long> orderNos);
 
-    Optional<OrderEntity> findByTossPayment_OrderTossId(String orderTossId);
+    // 조건 없는 관리자 목록의 대략 건수 (InnoDB 통계, count(*) 전체 스캔 회피)
+    @Query(value = """
+            select table_rows from information_schema.tables
+             where table_schema = database() and table_name = 't1_order'
+            """, nativeQuery = true)
+    Long estimateOrderRows();
+
+    // 페이지 번호 방식 (기존 /my_orders)
+    @Query(value = MY_ORDER_ROWS,
+            countQuery = "select count(o) from OrderEntity o where o.member.memberEmail = :email and o.orderNo < :beforeNo")
+    Page<OrderSummaryRow> findMyOrderRows(@Param("email") String email,
+                                     @Param("beforeNo") Long beforeNo,
+                                     Pageable pageable);
+
+    // keyset 커서 방식: orderNo < 커서, count 쿼리 없음 (size+1 로 다음 페이지 판단)
+    @Query(MY_ORDER_ROWS)
+    Slice<OrderSummaryRow> scrollMyOrderRows(@Param("email") String email,
+                                        @Param("beforeNo") Long beforeNo,
+                                        Pageable pageable);
+
+    // 취소 / 예약 만료 처리 전에 주문 행 잠금 (FOR UPDATE) 후 현재 상태
+    // → 이미 영속성 컨텍스트에 올라온 엔티티 상태는 갱신되지 않으니 값만 native 로 읽음
+    @Query(value = "select order_status from t1_order where order_no = :orderNo for update", nativeQuery = true)
+    Optional<String> lockOrderStatus(@Param("orderNo") Long orderNo);
+
+    // 결제대기 → 결제만료 (아직 결제대기일 때만)
+    // 결제 승인 중(PAYMENT_CONFIRMING)인 주문은 조건에서 빠짐 → 승인 결과 반영을 기다림
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_EXPIRED
+             where o.orderNo = :orderNo
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+            """)
+    int expireIfPending(@Param("orderNo") Long orderNo);
+
+    // ===== 결제 승인 (PaymentConfirmService) =====
+
+    // 결제대기 → 결제승인 중 (토스 호출 전 짧은 트랜잭션, 이미 다른 상태면 0)
+    // bulk update 라 auditing 이 안 돌아서 latest_date 직접 → 멈춘 승인 복구 기준 시각
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_CONFIRMING,
+                   o.latestDate = :now
+             where o.orderNo = :orderNo
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+            """)
+    int startConfirmIfPending(@Param("orderNo") Long orderNo, @Param("now") LocalDateTime now);
+
+    // 결제승인 중 → 결과 상태 (PAID / PAYMENT_FAILED), 승인 중이 아니면 0
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.orderStatus = :to,
+                   o.latestDate = :now
+             where o.orderNo = :orderNo
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_CONFIRMING
+            """)
+    int finishConfirm(@Param("orderNo") Long orderNo, @Param("to") OrderStatus to, @Param("now") LocalDateTime now);
 
-    // ✅ my_orders 용: 회원 이메일로 주문 페이징 조회
-    Page<OrderEntity> findByMember_MemberEmail(String memberEmail, Pageable pageable);
+    // 승인 결과를 반영하지 못하고 멈춘 주문 (토스 호출 중 서버 종료 / 응답 불명)
+    @Query("""
+            select o.orderNo from OrderEntity o
+             where o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_CONFIRMING
+               and o.latestDate < :before
+             order by o.orderNo asc
+            """)
+    List<Long> findStuckConfirming(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 결제대기 → 결제실패 (결제창 생성 실패 보상, 이미 다른 상태면 0)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_FAILED
+             where o.orderNo = :orderNo
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+            """)
+    int failIfPending(@Param("orderNo") Long orderNo);
+
+    // ===== 결제대기 만료 (PaymentExpiryService) =====
+
+    interface PendingOrderRow {
+        Long getOrderNo();
+        LocalDateTime getCreateDate();
+    }
+
+    // 시작 시 휠 복구: 결제대기 주문을 (create_date, order_no) keyset 으로 (idx_order_status_created)
+    @Query("""
+            select o.orderNo as orderNo, o.createDate as createDate
+              from OrderEntity o
+             where o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+               and (o.createDate > :afterDate or (o.createDate = :afterDate and o.orderNo > :afterNo))
+             order by o.createDate asc, o.orderNo asc
+            """)
+    List<PendingOrderRow> findPendingAfter(@Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterNo") Long afterNo,
+                                           Pageable pageable);
+
+    // 만료 대상 중 아직 결제대기인 주문 잠금 (결제 승인과 경합 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select o from OrderEntity o
+             where o.orderNo in :orderNos
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+            """)
+    List<OrderEntity> lockPending(@Param("orderNos") Collection<Long> orderNos);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update OrderEntity o
+               set o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_EXPIRED
+             where o.orderNo in :orderNos
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.PAYMENT_PENDING
+            """)
+    int expireAllIfPending(@Param("orderNos") Collection<Long> orderNos);
+
+    // ===== 배송 상태 일괄 변경 (OrderShipmentBulkService) =====
+
+    interface ShipmentStatusRow {
+        Long getOrderNo();
+        OrderStatus getOrderStatus();
+        String getMembershipPlanCode();
+    }
+
+    // 검증용 현재 상태만 (PK in 조회, 주문 라인 안 읽음)
+    @Query("""
+            select o.orderNo as orderNo, o.orderStatus as orderStatus, o.membershipPlanCode as membershipPlanCode
+              from OrderEntity o
+             where o.orderNo in :orderNos
+            """)
+    List<ShipmentStatusRow> findShipmentStatusRows(@Param("orderNos") Collection<Long> orderNos);
 }
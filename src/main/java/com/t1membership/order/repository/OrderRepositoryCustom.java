@@ -0,0 +1,21 @@
+package com.t1membership.order.repository;
+
+import com.t1membership.order.dto.req.admin.AdminSearchOrderReq;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+
+    // 조건에 맞는 주문번호만 (주문번호 역순 페이지) → 요약은 OrderRepository.findSummaryRows
+    List<Long> searchOrderNos(AdminSearchOrderReq cond, Pageable pageable);
+
+    // 정확한 건수
+    long countOrders(AdminSearchOrderReq cond);
+
+    // cap 건까지만 셈 (cap 초과면 cap + 1 반환)
+    long countOrdersUpTo(AdminSearchOrderReq cond, int cap);
+
+    // 조건이 하나라도 있는지 (없으면 테이블 통계로 건수 추정)
+    boolean hasCondition(AdminSearchOrderReq cond);
+}
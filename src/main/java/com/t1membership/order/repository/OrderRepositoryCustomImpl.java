@@ -0,0 +1,158 @@
+package com.t1membership.order.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import com.querydsl.jpa.impl.JPAUtil;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.t1membership.coreDomain.Money;
+import com.t1membership.item.constant.Player;
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.domain.OrderItemEntity;
+import com.t1membership.order.dto.req.admin.AdminSearchOrderReq;
+import com.t1membership.pay.constant.TossPaymentStatus;
+import com.t1membership.pay.domain.TossPaymentEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 주문 동적 검색 (QueryDSL)
+ *
+ * - ItemRepositoryCustomImpl 과 같이 Q클래스 없이 PathBuilder 로 경로 지정
+ * - 1단계: 조건 → 주문번호만 (order_no desc) limit/offset
+ *   → 보조 인덱스에 PK(order_no) 가 들어 있어서 인덱스만 읽고 끝남 (covering)
+ * - 2단계: 고른 주문번호만 OrderRepository.findSummaryRows 로 요약 조회
+ * - 주문 라인 / 결제 조건은 join 대신 exists → 주문 행이 중복되지 않고 distinct 불필요
+ * - cap 까지 세기(countOrdersUpTo): count(*) from (... limit cap+1) 로 주문번호를 가져오지 않음
+ *   → 같은 buildWhere 로 만든 서브쿼리를 HQL 로 감쌈 (Hibernate 6 from 절 서브쿼리 + limit)
+ *
+ * 인덱스 (엔티티 @Index)
+ *  - t1_order      : (order_status, order_no), (create_date, order_no), (order_total_price, order_no), (member_email, order_no desc)
+ *  - t1_order_item : (item_no, order_no), (player_snapshot, order_no)
+ *  - toss_payment  : (toss_payment_status, order_id)
+ */
+@RequiredArgsConstructor
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    // "order" 는 JPQL 예약어 → alias o
+    private final PathBuilder<OrderEntity> order = new PathBuilder<>(OrderEntity.class, "o");
+    private final PathBuilder<OrderItemEntity> line = new PathBuilder<>(OrderItemEntity.class, "oi");
+    private final PathBuilder<TossPaymentEntity> pay = new PathBuilder<>(TossPaymentEntity.class, "pay");
+
+    private final NumberPath<Long> orderNo = order.getNumber("orderNo", Long.class);
+
+    @Override
+    public List<Long> searchOrderNos(AdminSearchOrderReq cond, Pageable pageable) {
+        return queryFactory
+                .select(orderNo)
+                .from(order)
+                .where(buildWhere(cond))
+                .orderBy(orderNo.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+    }
+
+    @Override
+    public long countOrders(AdminSearchOrderReq cond) {
+        Long total = queryFactory
+                .select(order.count())
+                .from(order)
+                .where(buildWhere(cond))
+                .fetchOne();
+        return total == null ? 0L : total;
+    }
+
+    @Override
+    public long countOrdersUpTo(AdminSearchOrderReq cond, int cap) {
+        // 인덱스 cap+1 건 읽고 멈춤, 건수만 돌려받음
+        QueryMetadata inner = queryFactory
+                .select(orderNo)
+                .from(order)
+                .where(buildWhere(cond))
+                .getMetadata();
+
+        JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT, entityManager);
+        serializer.serialize(inner, false, null);
+        List<Object> constants = serializer.getConstants();
+        int limitParam = constants.size() + 1;
+
+        Query query = entityManager.createQuery(
+                "select count(*) from (" + serializer + " limit ?" + limitParam + ") capped");
+        JPAUtil.setConstants(query, constants, inner.getParams());
+        query.setParameter(limitParam, cap + 1);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Override
+    public boolean hasCondition(AdminSearchOrderReq cond) {
+        return buildWhere(cond).hasValue();
+    }
+
+    private BooleanBuilder buildWhere(AdminSearchOrderReq cond) {
+        BooleanBuilder where = new BooleanBuilder();
+        if (cond == null) return where;
+
+        // ===== 주문 헤더 =====
+        if (StringUtils.hasText(cond.getMemberEmail())) {
+            where.and(order.get("member").getString("memberEmail").eq(cond.getMemberEmail().trim()));
+        }
+        if (cond.getOrderStatus() != null) {
+            where.and(order.getEnum("orderStatus", OrderStatus.class).eq(cond.getOrderStatus()));
+        }
+        if (cond.getOrderFrom() != null) {
+            where.and(order.getDateTime("createDate", LocalDateTime.class).goe(cond.getOrderFrom()));
+        }
+        if (cond.getOrderTo() != null) {
+            where.and(order.getDateTime("createDate", LocalDateTime.class).lt(cond.getOrderTo()));
+        }
+        if (cond.getMinAmount() != null) {
+            where.and(order.getComparable("orderTotalPrice", Money.class).goe(Money.of(cond.getMinAmount())));
+        }
+        if (cond.getMaxAmount() != null) {
+            where.and(order.getComparable("orderTotalPrice", Money.class).loe(Money.of(cond.getMaxAmount())));
+        }
+
+        // ===== 주문 라인 (같은 라인이 조건을 모두 만족) =====
+        BooleanBuilder lineWhere = new BooleanBuilder();
+        if (cond.getItemNo() != null) {
+            lineWhere.and(line.get("item").getNumber("itemNo", Long.class).eq(cond.getItemNo()));
+        }
+        if (cond.getPlayer() != null) {
+            lineWhere.and(line.getEnum("playerSnapshot", Player.class).eq(cond.getPlayer()));
+        }
+        if (StringUtils.hasText(cond.getKeyword())) {
+            lineWhere.and(line.getString("itemNameSnapshot").contains(cond.getKeyword().trim()));
+        }
+        if (lineWhere.hasValue()) {
+            where.and(JPAExpressions.selectOne()
+                    .from(line)
+                    .where(line.get("order").getNumber("orderNo", Long.class).eq(orderNo), lineWhere)
+                    .exists());
+        }
+
+        // ===== 결제 =====
+        if (cond.getPaymentStatus() != null) {
+            where.and(JPAExpressions.selectOne()
+                    .from(pay)
+                    .where(pay.get("order").getNumber("orderNo", Long.class).eq(orderNo),
+                            pay.getEnum("tossPaymentStatus", TossPaymentStatus.class).eq(cond.getPaymentStatus()))
+                    .exists());
+        }
+        return where;
+    }
+}
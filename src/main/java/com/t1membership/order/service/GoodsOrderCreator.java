@@ -2,11 +2,13 @@ package com.t1membership.order.service;
 
 import com.t1membership.cart.domain.CartEntity;
 import com.t1membership.cart.repository.CartRepository;
+import com.t1membership.coreDomain.Money;
+import com.t1membership.inventory.service.HotStockShards;
 import com.t1membership.item.constant.ItemSellStatus;
 import com.t1membership.item.domain.ItemEntity;
 import com.t1membership.item.repository.ItemRepository;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
@@ -18,7 +20,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -26,9 +27,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
 
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
     private final ItemRepository itemRepository;
     private final CartRepository cartRepository;
+    private final HotStockShards hotStockShards;
     //주문 한 건을 생성해서 결제 준비값을 돌려줌
     //생성만 여기서 코드를 만듦(서비스 계층의 세부 구현체
     //**Creator는 생성(Create)**에만 집중
@@ -41,7 +43,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
     public OrderEntity create(String memberEmail, CreateGoodsOrderReq req) {
 
         // 1) 회원 검증
-        MemberEntity member = memberRepository.findByMemberEmail(memberEmail)
+        MemberEntity member = memberContext.findMember(memberEmail)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원이 존재하지 않습니다."));
 
         // 2) 주문 엔티티 생성 + 공통 정보 세팅
@@ -60,7 +62,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
             order.setOrderItems(new ArrayList<>());
         }
 
-        BigDecimal totalAmount;
+        Money totalAmount;
 
         // 3) 단건 vs 장바구니 분기
         boolean hasSingle =
@@ -79,7 +81,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
             );
         }
 
-        // 4) 총 금액 세팅 (recalcTotal 도 있지만, 명시적으로 맞춰줌)
+        // 4) 총 금액 세팅 (라인 합계로 여기서 한 번만 확정)
         order.setOrderTotalPrice(totalAmount);
 
         // ❌ 여기서 save 금지: Creator는 "엔티티 조립"만 담당
@@ -91,7 +93,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
     // ==========================
     // 단건 주문 처리
     // ==========================
-    private BigDecimal createFromSingleItem(OrderEntity order, CreateGoodsOrderReq req) {
+    private Money createFromSingleItem(OrderEntity order, CreateGoodsOrderReq req) {
 
         if (req.getItemId() == null || req.getQuantity() == null) {
             throw new ResponseStatusException(
@@ -127,7 +129,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
     // ==========================
     // 장바구니 선택 주문 처리 (여러 개 지원)
     // ==========================
-    private BigDecimal createFromCartItems(
+    private Money createFromCartItems(
             OrderEntity order,
             String memberEmail,
             CreateGoodsOrderReq req
@@ -149,7 +151,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
                     HttpStatus.BAD_REQUEST, "유효하지 않은 장바구니 항목이 있습니다.");
         }
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        Money totalAmount = Money.ZERO;
         boolean first = true;
 
         for (CartEntity cartItem : cartItems) {
@@ -179,7 +181,7 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
             }
 
             // 라인 합계는 orderItem 안에 있음
-            totalAmount = totalAmount.add(orderItem.getLineTotal());
+            totalAmount = totalAmount.plus(orderItem.getLineTotal());
         }
 
         return totalAmount;
@@ -188,8 +190,8 @@ public class GoodsOrderCreator implements OrderCreator<CreateGoodsOrderReq> {
 
     //상품 재고 + 판매 상태 검증
     private void validateItemStock(ItemEntity item, int quantity) {
-        // 재고 체크
-        if (item.getItemStock() < quantity) {
+        // 재고 체크 (핫 상품은 샤드 재고 포함, 실제 차감은 InventoryReservationService.reserve)
+        if (hotStockShards.available(item.getItemNo(), item.getItemStock()) < quantity) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
                     "재고가 부족한 상품이 있습니다: " + item.getItemName());
@@ -0,0 +1,128 @@
+package com.t1membership.order.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 (주문번호 → 만료 tick)
+ *
+ * - level k 의 슬롯 하나 = wheelSize^k tick, 슬롯 wheelSize 개
+ * - 추가 O(1): 남은 tick 수로 level 을 고르고 해당 슬롯에 넣음
+ * - 진행: tick 마다 level 0 슬롯 하나를 꺼냄, 상위 level 경계에서는 슬롯을 꺼내 아래 level 로 다시 나눔
+ * - 만료는 tick 단위로 늦을 수는 있어도 이르지는 않음 (deadline 올림)
+ * - 스레드 안전 (synchronized), 호출은 주문 생성 스레드 + 스케줄러
+ */
+final class HierarchicalTimingWheel {
+
+    private record Entry(long id, long tick) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+
+    // levels.get(k)[slot]
+    private final List<List<Entry>[]> levels = new ArrayList<>();
+    // 추가 시점에 이미 지난 것
+    private final List<Long> overdue = new ArrayList<>();
+
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMs, int wheelSize, long nowMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.wheelSize = Math.max(2, wheelSize);
+        this.currentTick = nowMs / this.tickMs;
+    }
+
+    synchronized void add(long id, long deadlineMs) {
+        long tick = Math.floorDiv(deadlineMs + tickMs - 1, tickMs);
+        size++;
+        place(new Entry(id, tick));
+    }
+
+    /**
+     * nowMs 까지 진행하고 만료된 id 반환
+     */
+    synchronized List<Long> advance(long nowMs) {
+        List<Long> due = new ArrayList<>(overdue);
+        overdue.clear();
+
+        long target = nowMs / tickMs;
+        while (currentTick < target) {
+            currentTick++;
+
+            // 상위 level 부터: 경계에 걸린 슬롯을 아래로 내림
+            long span = pow(levels.size() - 1);
+            for (int k = levels.size() - 1; k >= 1; k--, span /= wheelSize) {
+                if (currentTick % span != 0) continue;
+                List<Entry>[] slots = levels.get(k);
+                int idx = (int) ((currentTick / span) % wheelSize);
+                List<Entry> bucket = slots[idx];
+                if (bucket == null) continue;
+                slots[idx] = null;
+                for (Entry e : bucket) {
+                    place(e);
+                }
+            }
+
+            // level 0 현재 슬롯 = 이번 tick 만료분
+            if (!levels.isEmpty()) {
+                List<Entry>[] slots = levels.get(0);
+                int idx = (int) (currentTick % wheelSize);
+                List<Entry> bucket = slots[idx];
+                if (bucket != null) {
+                    slots[idx] = null;
+                    for (Entry e : bucket) {
+                        due.add(e.id());
+                    }
+                }
+            }
+
+            // place 로 overdue 에 떨어진 것 (tick == currentTick 인데 level 0 슬롯이 이미 지나간 경우는 없음, 안전장치)
+            if (!overdue.isEmpty()) {
+                due.addAll(overdue);
+                overdue.clear();
+            }
+        }
+
+        size -= due.size();
+        return due;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    private void place(Entry e) {
+        long delta = e.tick() - currentTick;
+        if (delta <= 0) {
+            overdue.add(e.id());
+            return;
+        }
+
+        int level = 0;
+        long span = 1;
+        while (delta >= span * wheelSize) {
+            span *= wheelSize;
+            level++;
+        }
+        List<Entry>[] slots = level(level);
+        int idx = (int) ((e.tick() / span) % wheelSize);
+        if (slots[idx] == null) slots[idx] = new ArrayList<>();
+        slots[idx].add(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Entry>[] level(int k) {
+        while (levels.size() <= k) {
+            levels.add(new List[wheelSize]);
+        }
+        return levels.get(k);
+    }
+
+    private long pow(int k) {
+        long span = 1;
+        for (int i = 0; i < k; i++) span *= wheelSize;
+        return span;
+    }
+}
@@ -1,12 +1,13 @@
 package com.t1membership.order.service;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.item.constant.MembershipAllowedType;
 import com.t1membership.item.constant.MembershipPayType;
 import com.t1membership.item.domain.ItemEntity;
 import com.t1membership.item.repository.ItemRepository;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
@@ -16,13 +17,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrderReq> {
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
     private final ItemRepository itemRepository;
     //멤버쉽 생성 세부 구현체
     //**Creator는 생성(Create)**에만 집중
@@ -42,7 +42,7 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
         // ============================
         // 1) 회원 조회
         // ============================
-        MemberEntity member = memberRepository.findByMemberEmail(memberEmail)
+        MemberEntity member = memberContext.findMember(memberEmail)
                 .orElseThrow(() ->
                         new ResponseStatusException(HttpStatus.UNAUTHORIZED, "회원 정보를 찾을 수 없습니다."));
 
@@ -99,7 +99,7 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
         // 5) 가격 계산
         //    - ItemEntity.membership_*_price 필드 활용
         // ============================
-        BigDecimal totalPrice = computeMembershipPrice(membershipItem, reqPayType, req.getMonths());
+        Money totalPrice = computeMembershipPrice(membershipItem, reqPayType, req.getMonths());
 
         // ============================
         // 6) 이용 기간 계산
@@ -165,6 +165,7 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
                 .itemPriceSnapshot(totalPrice)  // 멤버십은 한 줄짜리라 totalPrice를 스냅샷으로 사용
                 .priceAtOrder(totalPrice)
                 .quantity(1)
+                .lineTotal(totalPrice)
                 .build();
 
         if (order.getOrderItems() != null) {
@@ -211,7 +212,7 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
      * - ItemEntity.membership_*_price 필드를 우선 사용
      * - 값이 없으면 itemPrice 를 fallback 으로 사용
      */
-    private BigDecimal computeMembershipPrice(ItemEntity item,
+    private Money computeMembershipPrice(ItemEntity item,
                                               MembershipPayType payType,
                                               Integer months) {
 
@@ -221,31 +222,29 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
 
         // 기본 단가: membership_*_price 가 없을 때 fallback 으로 쓸 값
         // (지금 형님 DB는 item_price 만 채워져 있으니까 이걸 많이 쓰게 될 거)
-        BigDecimal baseItemPrice = item.getItemPrice() != null
-                ? item.getItemPrice()
-                : BigDecimal.ZERO;
+        Money baseItemPrice = Money.of(item.getItemPrice());
 
         switch (payType) {
             case RECURRING -> {
                 // 정기결제: membership_monthly_price 우선
                 Integer monthly = item.getMembershipMonthlyPrice();
-                BigDecimal monthlyPrice;
+                Money monthlyPrice;
 
                 if (monthly != null) {
-                    monthlyPrice = BigDecimal.valueOf(monthly.longValue());
+                    monthlyPrice = Money.ofNullable(monthly);
                 } else {
                     // 설정 안 돼 있으면 item_price 사용
                     monthlyPrice = baseItemPrice;
                 }
 
-                return monthlyPrice.multiply(BigDecimal.valueOf(months));
+                return monthlyPrice.times(months);
             }
 
             case YEARLY -> {
                 // 연간 결제: membership_yearly_price 우선
                 Integer yearly = item.getMembershipYearlyPrice();
                 if (yearly != null) {
-                    return BigDecimal.valueOf(yearly.longValue());
+                    return Money.ofNullable(yearly);
                 }
 
                 // 설정 안 돼 있으면
@@ -253,19 +252,19 @@ public class MembershipOrderCreator implements OrderCreator<CreateMembershipOrde
                 // 2) months 기준으로 곱해서 쓰기
                 // 형님이 예전에 "item_price 를 월 구독료"라고 보셨으니까,
                 // 여기서는 item_price * months 로 맞춰놓을게요.
-                return baseItemPrice.multiply(BigDecimal.valueOf(months));
+                return baseItemPrice.times(months);
             }
 
             case ONE_TIME -> {
                 // 단건 결제: membership_one_time_price 우선
                 Integer oneTime = item.getMembershipOneTimePrice();
                 if (oneTime != null) {
-                    return BigDecimal.valueOf(oneTime.longValue());
+                    return Money.ofNullable(oneTime);
                 }
 
                 // 🔥 지금 형님은 membership_one_time_price 를 안 쓰고 있을 가능성이 높으니까,
                 // 설정 안 돼 있으면 "item_price * months" 로 계산
-                return baseItemPrice.multiply(BigDecimal.valueOf(months));
+                return baseItemPrice.times(months);
             }
 
             default -> throw new ResponseStatusException(
@@ -1,13 +1,16 @@
 package com.t1membership.order.service;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.item.constant.ItemCategory;
-import com.t1membership.item.domain.ItemEntity;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
 import com.t1membership.order.dto.req.common.CancelOrderReq;
 import com.t1membership.order.dto.res.common.CancelOrderRes;
 import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.dto.OrderCanceledPayload;
+import com.t1membership.outbox.service.OutboxPublisher;
 import com.t1membership.pay.service.TossPaymentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -17,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
@@ -31,6 +33,7 @@ public class OrderCancelServiceImpl implements OrderCancelService {
 
     private final OrderRepository orderRepository;
     private final TossPaymentService tossPaymentService;
+    private final OutboxPublisher outboxPublisher;
 
     // ====================================
     //  회원 - 취소/환불
@@ -46,13 +49,16 @@ public class OrderCancelServiceImpl implements OrderCancelService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "취소 사유는 필수입니다.");
         }
 
+        // 0) 주문 행 잠금 → 결제 승인(confirm)/만료와 직렬화
+        //    잠근 뒤에 엔티티를 읽어야 최신 상태를 봄 (잠금 전에 읽은 상태로 판단하면 승인과 엇갈림)
+        OrderStatus status = lockStatus(req.getOrderNo());
+
         // 1) 주문 + 라인 조회 (본인 주문인지까지 한 번에 검증)
         OrderEntity order = orderRepository
                 .findByOrderNoAndMember_MemberEmail(req.getOrderNo(), memberEmail)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다.")); // 소유자 아니면 조회 안됨
 
-        // 2) 상태 검증 - 사용자 취소 가능 상태인지
-        OrderStatus status = order.getOrderStatus();
+        // 2) 상태 검증 - 사용자 취소 가능 상태인지 (잠금 아래에서 읽은 상태 기준)
         if (!status.isCancelableByUser()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "현재 상태(" + status + ")에서는 회원이 직접 취소할 수 없습니다.");
@@ -82,13 +88,15 @@ public class OrderCancelServiceImpl implements OrderCancelService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "취소 사유는 필수입니다.");
         }
 
+        // 0) 주문 행 잠금 → 결제 승인(confirm)/만료와 직렬화
+        OrderStatus status = lockStatus(req.getOrderNo());
+
         // 1) 주문 + 라인 조회 (관리자는 소유자 상관없이 조회 가능)
         OrderEntity order = orderRepository
                 .findByIdFetchItems(req.getOrderNo())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."));
 
-        // 2) 상태 검증 - 관리자 취소 가능 상태인지
-        OrderStatus status = order.getOrderStatus();
+        // 2) 상태 검증 - 관리자 취소 가능 상태인지 (잠금 아래에서 읽은 상태 기준)
         if (!status.isCancelableByAdmin()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "현재 상태(" + status + ")에서는 관리자가 취소할 수 없습니다.");
@@ -103,14 +111,22 @@ public class OrderCancelServiceImpl implements OrderCancelService {
             return doFullCancel(order, req, false);
         }
     }
+
+    // 주문 행을 select ... for update 로 잠그고 그 시점 상태 반환 (트랜잭션 끝까지 잠금 유지)
+    private OrderStatus lockStatus(Long orderNo) {
+        return orderRepository.lockOrderStatus(orderNo)
+                .map(OrderStatus::valueOf)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "주문을 찾을 수 없습니다."));
+    }
+
     // ====================================
 //  헬퍼 메서드(내부 공통 로직 - 전체 취소)
 // ====================================
     private CancelOrderRes doFullCancel(OrderEntity order, CancelOrderReq req, boolean fromUser) {
 
         // 1) 전체 취소 금액 = 주문 총액
-        BigDecimal cancelAmount = order.getOrderTotalPrice();
-        if (cancelAmount == null || cancelAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        Money cancelAmount = order.getOrderTotalPrice();
+        if (cancelAmount == null || !cancelAmount.isPositive()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "취소할 금액이 없습니다. (orderTotalPrice <= 0)");
         }
@@ -163,17 +179,8 @@ public class OrderCancelServiceImpl implements OrderCancelService {
         // 7) 취소 시각 기록
         LocalDateTime canceledAt = LocalDateTime.now();
 
-        // 8) 재고 롤백
-        for (OrderItemEntity orderItem : order.getOrderItems()) {
-            ItemEntity item = orderItem.getItem();
-            int qty = orderItem.getQuantity();
-
-            int newStock = item.getItemStock() + qty;
-            item.setItemStock(newStock);
-
-            log.info("[InventoryRollback] 상품 ID={} 재고 복구: +{} → 현재 재고={}",
-                    item.getItemNo(), qty, newStock);
-        }
+        // 8) 재고 롤백은 아웃박스로 (커밋 후 디스패처가 예약된 만큼만 반납)
+        outboxPublisher.append(OutboxEventType.ORDER_CANCELED, order.getOrderNo(), new OrderCanceledPayload(null));
 
         // 9) 응답 DTO 조립
         CancelOrderRes res = new CancelOrderRes();
@@ -235,18 +242,18 @@ public class OrderCancelServiceImpl implements OrderCancelService {
         }
 
         // 2) 부분 취소 금액 계산
-        BigDecimal cancelAmount = BigDecimal.ZERO;
+        Money cancelAmount = Money.ZERO;
 
         for (OrderItemEntity oi : targetLines) {
-            BigDecimal lineTotal = oi.getLineTotal();
-            if (lineTotal == null || lineTotal.compareTo(BigDecimal.ZERO) <= 0) {
+            Money lineTotal = oi.getLineTotal();
+            if (lineTotal == null || !lineTotal.isPositive()) {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                         "취소 대상 상품의 금액이 0 이하입니다. (orderItemNo=" + oi.getOrderItemNo() + ")");
             }
-            cancelAmount = cancelAmount.add(lineTotal);
+            cancelAmount = cancelAmount.plus(lineTotal);
         }
 
-        if (cancelAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (!cancelAmount.isPositive()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "부분 취소 금액이 0원입니다. (계산 결과)");
         }
@@ -288,12 +295,9 @@ public class OrderCancelServiceImpl implements OrderCancelService {
         order.setOrderStatus(OrderStatus.PARTIALLY_CANCELED);
         LocalDateTime canceledAt = LocalDateTime.now();
 
-        // 5) 재고 롤백 (부분 취소 대상 라인만)
-        for (OrderItemEntity oi : targetLines) {
-            ItemEntity item = oi.getItem();
-            int qty = oi.getQuantity();
-            item.setItemStock(item.getItemStock() + qty);
-        }
+        // 5) 재고 롤백 (부분 취소 대상 라인만, 아웃박스로)
+        outboxPublisher.append(OutboxEventType.ORDER_CANCELED, order.getOrderNo(),
+                new OrderCanceledPayload(List.copyOf(targetSet)));
 
         // 6) 응답 조립
         CancelOrderRes res = new CancelOrderRes();
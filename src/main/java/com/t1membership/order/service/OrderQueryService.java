@@ -5,15 +5,20 @@ import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
 import com.t1membership.order.dto.req.admin.AdminSearchOrderReq;
 import com.t1membership.order.dto.res.admin.AdminDetailOrderRes;
+import com.t1membership.order.dto.res.admin.AdminSearchOrderRes;
 import com.t1membership.order.dto.res.common.SummaryOrderRes;
+import com.t1membership.order.dto.res.user.MyOrderSliceRes;
 import com.t1membership.order.dto.res.user.UserDetailOrderRes;
 import com.t1membership.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -23,17 +28,50 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class OrderQueryService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int ESTIMATE_CAP = 10_000;
+
     private final OrderRepository orderRepository;
 
     //내 주문 목록 조회 (회원
     //loginEmail 은 반드시 SecurityContext / @AuthenticationPrincipal 에서 받은 값만 사용
+    //요약 projection 한 번으로 조회 (주문 라인 / 회원 lazy 로딩 없음), 최신 주문번호순
     public Page<SummaryOrderRes> getMyOrders(String memberEmail, Pageable pageable) {
-        // ✅ 최신순 정렬까지 같이 하고 싶으면 Repository 메서드를 바꾸는 게 정석
-        // 지금은 pageable sort로 처리 가능하게 해두고, 컨트롤러에서 sort=createdDate,desc 넣으면 됩니다.
-        Page<OrderEntity> page = orderRepository.findByMember_MemberEmail(memberEmail, pageable);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return orderRepository.findMyOrderRows(memberEmail, Long.MAX_VALUE, unsorted)
+                .map(SummaryOrderRes::from);
+    }
 
-        // 🔥 핵심: 내 주문도 SummaryOrderRes.from()을 타게 만든다
-        return page.map(SummaryOrderRes::from);
+    //내 주문 목록 (keyset 커서) - 커서 = 마지막으로 받은 orderNo, 깊은 페이지도 offset 없이 인덱스 범위 스캔
+    public MyOrderSliceRes scrollMyOrders(String memberEmail, String cursor, int size) {
+        int limit = Math.min(Math.max(1, size), MAX_SCROLL_SIZE);
+        long beforeNo = parseCursor(cursor);
+
+        Slice<OrderRepository.OrderSummaryRow> slice =
+                orderRepository.scrollMyOrderRows(memberEmail, beforeNo, PageRequest.of(0, limit));
+        List<SummaryOrderRes> orders = slice.map(SummaryOrderRes::from).getContent();
+
+        String nextCursor = (slice.hasNext() && !orders.isEmpty())
+                ? String.valueOf(orders.get(orders.size() - 1).getOrderNo())
+                : null;
+
+        return MyOrderSliceRes.builder()
+                .orders(orders)
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    private static long parseCursor(String cursor) {
+        if (!StringUtils.hasText(cursor)) return Long.MAX_VALUE;
+        try {
+            long orderNo = Long.parseLong(cursor.trim());
+            if (orderNo <= 0) throw new NumberFormatException();
+            return orderNo;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
     }
 
     //관리자용 주문 목록 조회 (전체 페이징
@@ -60,9 +98,49 @@ public class OrderQueryService {
         return AdminDetailOrderRes.from(orderEntity);
     }
 
-    //조건 검색
-    public Page<SummaryOrderRes> searchOrders(AdminSearchOrderReq req, Pageable pageable) {
-        Page<OrderEntity> page = orderRepository.searchOrders(req, pageable);
-        return page.map(SummaryOrderRes::from);
+    //조건 검색 (관리자)
+    //1) 조건 → 주문번호 페이지 (인덱스만)  2) 그 주문번호만 요약 projection
+    //estimateCount=true 면 전체 건수를 정확히 세지 않음: 조건 없으면 테이블 통계, 있으면 ESTIMATE_CAP 건까지만
+    public AdminSearchOrderRes searchOrders(AdminSearchOrderReq req, Pageable pageable) {
+        AdminSearchOrderReq cond = (req != null) ? req : new AdminSearchOrderReq();
+        int size = Math.min(Math.max(1, pageable.getPageSize()), MAX_SEARCH_SIZE);
+        Pageable page = PageRequest.of(pageable.getPageNumber(), size);
+
+        List<Long> orderNos = orderRepository.searchOrderNos(cond, page);
+        List<SummaryOrderRes> orders = orderNos.isEmpty()
+                ? List.of()
+                : orderRepository.findSummaryRows(orderNos).stream().map(SummaryOrderRes::from).toList();
+
+        long seen = page.getOffset() + orderNos.size();
+        long total;
+        boolean estimated = false;
+
+        if (orderNos.size() < size && (page.getOffset() == 0 || !orderNos.isEmpty())) {
+            // 마지막 페이지 → 건수 쿼리 필요 없음
+            total = seen;
+        } else if (!Boolean.TRUE.equals(cond.getEstimateCount())) {
+            total = orderRepository.countOrders(cond);
+        } else {
+            Long stats = orderRepository.hasCondition(cond) ? null : orderRepository.estimateOrderRows();
+            if (stats != null) {
+                total = stats;
+                estimated = true;
+            } else {
+                long counted = orderRepository.countOrdersUpTo(cond, ESTIMATE_CAP);
+                estimated = counted > ESTIMATE_CAP;
+                total = Math.min(counted, ESTIMATE_CAP);
+            }
+            // 추정값이 이미 본 건수보다 작으면 화면 페이지가 깨짐 → 최소 보정
+            total = Math.max(total, orderNos.size() == size ? seen + 1 : seen);
+        }
+
+        return AdminSearchOrderRes.builder()
+                .orders(orders)
+                .page(page.getPageNumber())
+                .size(size)
+                .hasNext(page.getOffset() + size < total)
+                .totalCount(total)
+                .totalEstimated(estimated)
+                .build();
     }
 }
@@ -1,6 +1,8 @@
 package com.t1membership.order.service;
 
 import com.t1membership.cart.repository.CartRepository;
+import com.t1membership.cart.service.CartMemoryStore;
+import com.t1membership.inventory.service.InventoryReservationService;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
 import com.t1membership.order.dto.req.user.CreateGoodsOrderReq;
@@ -12,45 +14,58 @@ import com.t1membership.pay.constant.TossPaymentMethod;
 import com.t1membership.pay.constant.TossPaymentStatus;
 import com.t1membership.pay.domain.TossPaymentEntity;
 import com.t1membership.pay.repository.TossPaymentRepository;
-import com.t1membership.pay.service.TossPaymentService;
-import lombok.RequiredArgsConstructor;
+import com.t1membership.pay.service.TossCheckoutClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class OrderServiceImpl implements OrderService {
     //주문 서비스 구현체(유저용
     private final OrderRepository orderRepository;
     private final GoodsOrderCreator goodsOrderCreator;
-    private final TossPaymentService tossPaymentService;
+    private final TossCheckoutClient tossCheckoutClient;
     private final MembershipOrderCreator membershipOrderCreator;
     private final PopOrderCreator popOrderCreator;
     private final CartRepository cartRepository;
+    private final CartMemoryStore cartMemoryStore;
     private final TossPaymentRepository tossPaymentRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final PaymentExpiryService paymentExpiryService;
+    private final TransactionTemplate tx;
 
-    // ===========================
-    // BigDecimal → int 변환 (토스 amount용)
-    // ===========================
-    private int toKrwInt(BigDecimal amount) {
-        if (amount == null) {
-            throw new IllegalArgumentException("금액이 비어 있습니다.");
-        }
-        try {
-            return amount.intValueExact();
-        } catch (ArithmeticException e) {
-            throw new IllegalArgumentException(
-                    "금액(BigDecimal)을 int로 변환할 수 없습니다. amount=" + amount, e);
-        }
+    public OrderServiceImpl(OrderRepository orderRepository,
+                            GoodsOrderCreator goodsOrderCreator,
+                            TossCheckoutClient tossCheckoutClient,
+                            MembershipOrderCreator membershipOrderCreator,
+                            PopOrderCreator popOrderCreator,
+                            CartRepository cartRepository,
+                            CartMemoryStore cartMemoryStore,
+                            TossPaymentRepository tossPaymentRepository,
+                            InventoryReservationService inventoryReservationService,
+                            PaymentExpiryService paymentExpiryService,
+                            PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.goodsOrderCreator = goodsOrderCreator;
+        this.tossCheckoutClient = tossCheckoutClient;
+        this.membershipOrderCreator = membershipOrderCreator;
+        this.popOrderCreator = popOrderCreator;
+        this.cartRepository = cartRepository;
+        this.cartMemoryStore = cartMemoryStore;
+        this.tossPaymentRepository = tossPaymentRepository;
+        this.inventoryReservationService = inventoryReservationService;
+        this.paymentExpiryService = paymentExpiryService;
+        this.tx = new TransactionTemplate(transactionManager);
     }
 
     // ===========================
@@ -74,18 +89,27 @@ public class OrderServiceImpl implements OrderService {
     }
 
     /**
-     * 공통 처리
-     *  1) 주문 저장
-     *  2) 토스 결제창 URL 생성
-     *  3) CreateOrderRes 생성
+     * 주문 생성 흐름
+     *  1) 짧은 트랜잭션: 주문 저장 (+ 재고 예약) + 결제 준비 레코드(PENDING) 저장 → 커밋
+     *  2) 트랜잭션 밖: 토스 결제창 URL 생성 (TossCheckoutClient 전용 스레드, 제한 시간)
+     *  3) 2) 가 실패하면 보상: 주문 PAYMENT_FAILED + 결제 FAILED + 예약 재고 반납
+     *
+     *  - 토스 왕복 동안 DB 커넥션을 잡고 있지 않음 → 토스 지연이 커넥션 풀 고갈로 번지지 않음
+     *  - 보상까지 실패해도 주문은 PAYMENT_PENDING 으로 남아 결제 만료(PaymentExpiryService)에서 정리됨
      */
-    private CreateOrderRes processOrder(OrderEntity order) {
+    private record PendingCheckout(Long orderNo, LocalDateTime createdAt, String orderTossId, int amount,
+                                   String orderName, CreateOrderRes res) {
+    }
+
+    // 1) 트랜잭션 안에서 호출
+    private PendingCheckout prepareCheckout(OrderEntity order) {
 
-        // 1) 주문 저장 (PK 생성 + orderItems cascade)
+        // 주문 저장 (PK 생성 + orderItems cascade)
         orderRepository.save(order);
 
-        // 2) 토스에 보낼 값 준비
-        int amount = toKrwInt(order.getOrderTotalPrice());
+        // 토스에 보낼 값 준비
+        // 총액은 Creator 에서 확정된 값 그대로 (토스 amount 는 int)
+        int amount = order.getOrderTotalPrice().intValueExact();
         String orderName = buildOrderName(order);
 
         // ✅ [핵심] 토스 orderId는 "DB에 저장되는 결제 준비 레코드"의 키여야 한다
@@ -108,59 +132,106 @@ public class OrderServiceImpl implements OrderService {
 
         log.info("[PAY READY] orderNo={}, orderTossId={}, amount={}", order.getOrderNo(), orderTossId, amount);
 
+        // 응답은 트랜잭션 안에서 만들어 둠 (OSIV 꺼져 있음 → 밖에서 연관 조회 안 하게)
+        // createDate 는 save(persist) 때 auditing 으로 채워짐 → 만료 휠 / 스윕이 같은 기준 시각 사용
+        return new PendingCheckout(order.getOrderNo(), order.getCreateDate(), orderTossId, amount, orderName,
+                CreateOrderRes.from(order));
+    }
+
+    // 2) 트랜잭션 밖에서 호출
+    private CreateOrderRes checkout(PendingCheckout pending) {
+        // 커밋된 결제대기 주문 → 만료 휠에 등록 (결제/실패로 끝나면 만료 시점에 그냥 지나감)
+        paymentExpiryService.schedule(pending.orderNo(), pending.createdAt());
         try {
-            // 3) 토스 결제창 URL 생성 (orderId = orderTossId로!)
-            String checkoutUrl = tossPaymentService.createPaymentUrl(
-                    orderTossId,
-                    amount,
-                    orderName
+            // 토스 결제창 URL 생성 (orderId = orderTossId로!)
+            String checkoutUrl = tossCheckoutClient.createPaymentUrl(
+                    pending.orderTossId(),
+                    pending.amount(),
+                    pending.orderName()
             );
 
-            // 4) 응답 DTO 생성
-            return CreateOrderRes.from(order, checkoutUrl);
+            CreateOrderRes res = pending.res();
+            res.setCheckoutUrl(checkoutUrl);
+            return res;
 
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("[Order] Toss createPaymentUrl 실패: status={}, body={}",
-                    e.getStatusCode(), e.getResponseBodyAsString(), e);
+        } catch (RuntimeException e) {
+            compensate(pending);
+            throw toPaymentError(e);
+        }
+    }
+
+    // 3) 보상: 결제창을 못 만든 주문은 결제 불가 → 실패 처리 + 재고 반납 (아직 결제대기일 때만)
+    private void compensate(PendingCheckout pending) {
+        try {
+            tx.executeWithoutResult(status -> {
+                if (orderRepository.failIfPending(pending.orderNo()) != 1) return;
+                tossPaymentRepository.findByOrderTossId(pending.orderTossId())
+                        .ifPresent(pay -> pay.setTossPaymentStatus(TossPaymentStatus.FAILED));
+                inventoryReservationService.release(pending.orderNo(), null);
+            });
+            log.info("[Order] 결제창 생성 실패 → PAYMENT_FAILED orderNo={}", pending.orderNo());
+        } catch (Exception e) {
+            // 주문은 PAYMENT_PENDING 그대로 → 결제 만료(PaymentExpiryService)에서 정리
+            log.error("[Order] 결제창 생성 실패 보상 처리 실패 orderNo={}", pending.orderNo(), e);
+        }
+    }
 
-            throw new ResponseStatusException(
+    private ResponseStatusException toPaymentError(RuntimeException e) {
+        if (e instanceof ResponseStatusException rse) {
+            return rse;   // 대기열 초과(503) / 시간 초과(504)
+        }
+        if (e instanceof HttpClientErrorException || e instanceof HttpServerErrorException) {
+            HttpStatusCodeException he = (HttpStatusCodeException) e;
+            log.error("[Order] Toss createPaymentUrl 실패: status={}, body={}",
+                    he.getStatusCode(), he.getResponseBodyAsString(), e);
+            return new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
-                    "결제정보 생성 오류 : http=" + e.getStatusCode()
+                    "결제정보 생성 오류 : http=" + he.getStatusCode()
             );
-
-        } catch (RestClientException e) {
+        }
+        if (e instanceof RestClientException) {
             log.error("[Order] Toss 통신 오류", e);
-            throw new ResponseStatusException(
+            return new ResponseStatusException(
                     HttpStatus.SERVICE_UNAVAILABLE,
                     "결제 서버와 통신 중 오류가 발생했습니다."
             );
-
-        } catch (Exception e) {
-            log.error("[Order] 알 수 없는 결제 오류", e);
-            throw new ResponseStatusException(
-                    HttpStatus.INTERNAL_SERVER_ERROR,
-                    "결제정보 생성 중 알 수 없는 오류가 발생했습니다."
-            );
         }
+        log.error("[Order] 알 수 없는 결제 오류", e);
+        return new ResponseStatusException(
+                HttpStatus.INTERNAL_SERVER_ERROR,
+                "결제정보 생성 중 알 수 없는 오류가 발생했습니다."
+        );
     }
 
     // ======================
     // 1) 굿즈 주문 생성
     // ======================
     @Override
-    @Transactional
     public CreateOrderRes createGoodsOrder(String memberEmail, CreateGoodsOrderReq req) {
 
-        // 1) 주문 도메인 생성 (Creator가 담당)
-        OrderEntity order = goodsOrderCreator.create(memberEmail, req);
+        // 0) 메모리 장바구니 변경분 먼저 저장 → Creator 는 DB 기준 수량으로 주문 생성
+        cartMemoryStore.flush(memberEmail);
+
+        PendingCheckout pending = tx.execute(status -> {
+            // 1) 주문 도메인 생성 (Creator가 담당)
+            OrderEntity order = goodsOrderCreator.create(memberEmail, req);
+
+            // 1-1) 저장(orderNo/orderItemNo 생성) 후 재고 예약 (부족하면 409 → 전체 롤백)
+            orderRepository.save(order);
+            inventoryReservationService.reserve(order);
+
+            return prepareCheckout(order);
+        });
 
-        // 2) 공통 처리 + 토스 결제 URL 생성
-        CreateOrderRes res = processOrder(order);
+        // 2) 토스 결제 URL 생성 (트랜잭션 밖, 실패하면 보상 후 예외)
+        CreateOrderRes res = checkout(pending);
 
-        // 3) 🔥 장바구니 기반 주문이었다면, 장바구니 비우기
+        // 3) 🔥 장바구니 기반 주문이었다면, 장바구니 비우기 (결제창까지 만들어진 경우에만)
         if (req.getCartItemIds() != null && !req.getCartItemIds().isEmpty()) {
-            cartRepository.deleteAllByIdInBatch(req.getCartItemIds());
-            // 또는 cartRepository.deleteAllById(req.getCartItemIds());
+            tx.executeWithoutResult(status -> {
+                cartRepository.deleteAllByIdInBatch(req.getCartItemIds());
+                cartMemoryStore.forgetAfterCommit(memberEmail, req.getCartItemIds());
+            });
         }
 
         return res;
@@ -170,23 +241,23 @@ public class OrderServiceImpl implements OrderService {
     // 2) 멤버십 주문 생성
     // ======================
     @Override
-    @Transactional
     public CreateOrderRes createMembershipOrder(String memberEmail, CreateMembershipOrderReq req) {
 
-        OrderEntity order = membershipOrderCreator.create(memberEmail, req);
+        PendingCheckout pending = tx.execute(status ->
+                prepareCheckout(membershipOrderCreator.create(memberEmail, req)));
 
-        return processOrder(order);
+        return checkout(pending);
     }
 
     // ======================
     // 3) POP 주문 생성
     // ======================
     @Override
-    @Transactional
     public CreateOrderRes createPopOrder(String memberEmail, CreatePopOrderReq req) {
 
-        OrderEntity order = popOrderCreator.create(memberEmail, req);
+        PendingCheckout pending = tx.execute(status ->
+                prepareCheckout(popOrderCreator.create(memberEmail, req)));
 
-        return processOrder(order);
+        return checkout(pending);
     }
 }
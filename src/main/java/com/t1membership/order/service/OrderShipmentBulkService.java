@@ -0,0 +1,267 @@
+package com.t1membership.order.service;
+
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.dto.req.admin.AdminBulkOrderStatusReq;
+import com.t1membership.order.dto.res.admin.AdminBulkOrderStatusRes;
+import com.t1membership.order.dto.res.admin.AdminBulkOrderStatusRes.Result;
+import com.t1membership.order.dto.res.admin.AdminBulkOrderStatusRes.RowResult;
+import com.t1membership.order.repository.OrderRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 배송 상태 일괄 변경 (택배사 파일 CSV / JSON)
+ *
+ * - AdminOrderServiceImpl.updateStatus 는 주문 하나씩 (주문 라인 fetch join) → 발송일 수천 건에는 느림
+ * - 1) 형식 / 중복 검사 → 2) 주문번호 in 조회로 현재 상태만 묶어서 읽고 전이 검사
+ *   → 3) 통과한 행만 chunk-size 단위 JDBC batch update (묶음마다 트랜잭션 하나)
+ * - update 는 "검증할 때 본 상태" 조건부 → 그 사이 취소 등으로 바뀐 주문은 0건 → CONFLICT
+ * - 한 묶음이 실패해도 다른 묶음은 반영, 결과는 요청 행마다 하나씩 (같은 파일 다시 올려도 UNCHANGED 로 안전)
+ */
+@Log4j2
+@Service
+public class OrderShipmentBulkService {
+
+    // 일괄 변경으로 갈 수 있는 상태 → 허용되는 현재 상태
+    private static final Map<OrderStatus, Set<OrderStatus>> ALLOWED_FROM = new EnumMap<>(OrderStatus.class);
+
+    static {
+        ALLOWED_FROM.put(OrderStatus.SHIPMENT_READY,
+                EnumSet.of(OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.PARTIALLY_CANCELED));
+        ALLOWED_FROM.put(OrderStatus.SHIPPED,
+                EnumSet.of(OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.PARTIALLY_CANCELED, OrderStatus.SHIPMENT_READY));
+        // 택배사가 배송중 스캔 없이 바로 배송완료를 주는 경우가 있음
+        ALLOWED_FROM.put(OrderStatus.DELIVERED,
+                EnumSet.of(OrderStatus.SHIPMENT_READY, OrderStatus.SHIPPED));
+    }
+
+    private static final String UPDATE_SQL = """
+            update t1_order set order_status = ?, latest_date = ?
+             where order_no = ? and order_status = ?
+            """;
+
+    private final OrderRepository orderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int maxRows;
+    private final int chunkSize;
+
+    public OrderShipmentBulkService(OrderRepository orderRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.order.bulk-status.max-rows:5000}") int maxRows,
+                                    @Value("${app.order.bulk-status.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRows = Math.max(1, maxRows);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    // =========================
+    // 입력
+    // =========================
+
+    public AdminBulkOrderStatusRes updateFromJson(AdminBulkOrderStatusReq req) {
+        List<AdminBulkOrderStatusReq.Row> rows = (req == null || req.getRows() == null) ? List.of() : req.getRows();
+        checkSize(rows.size());
+
+        List<ShipmentStatusCsvReader.Line> lines = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            AdminBulkOrderStatusReq.Row row = rows.get(i);
+            String error = null;
+            if (row == null || row.getOrderNo() == null) {
+                error = "주문번호가 없습니다.";
+            } else if (row.getOrderStatus() == null) {
+                error = "변경할 상태가 없습니다.";
+            }
+            lines.add(new ShipmentStatusCsvReader.Line(i + 1,
+                    row == null ? null : row.getOrderNo(),
+                    row == null ? null : row.getOrderStatus(),
+                    error));
+        }
+        return apply(lines);
+    }
+
+    public AdminBulkOrderStatusRes updateFromCsv(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "업로드된 파일이 없습니다.");
+        }
+        List<ShipmentStatusCsvReader.Line> lines;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            lines = ShipmentStatusCsvReader.read(reader, maxRows);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "파일을 읽을 수 없습니다.");
+        }
+        checkSize(lines.size());
+        return apply(lines);
+    }
+
+    private void checkSize(int size) {
+        if (size == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "변경할 주문이 없습니다.");
+        }
+        if (size > maxRows) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + maxRows + "건까지 처리할 수 있습니다.");
+        }
+    }
+
+    // =========================
+    // 검증 + 반영
+    // =========================
+
+    private AdminBulkOrderStatusRes apply(List<ShipmentStatusCsvReader.Line> lines) {
+        long started = System.currentTimeMillis();
+        RowResult[] results = new RowResult[lines.size()];
+
+        // 1) 형식 / 중복 (먼저 나온 행만 처리)
+        Map<Long, Integer> firstIndex = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            ShipmentStatusCsvReader.Line l = lines.get(i);
+            if (l.error() != null) {
+                results[i] = result(l, null, Result.INVALID_ROW, l.error());
+            } else if (!ALLOWED_FROM.containsKey(l.status())) {
+                results[i] = result(l, null, Result.INVALID_ROW, "일괄 변경할 수 없는 상태입니다: " + l.status());
+            } else if (firstIndex.putIfAbsent(l.orderNo(), i) != null) {
+                results[i] = result(l, null, Result.DUPLICATE, (firstIndex.get(l.orderNo()) + 1) + "번째 행과 주문번호가 같습니다.");
+            }
+        }
+
+        // 2) 현재 상태 묶어서 조회 → 전이 검사
+        Map<Long, OrderRepository.ShipmentStatusRow> current = new HashMap<>();
+        List<Long> orderNos = new ArrayList<>(firstIndex.keySet());
+        for (int from = 0; from < orderNos.size(); from += chunkSize) {
+            List<Long> chunk = orderNos.subList(from, Math.min(from + chunkSize, orderNos.size()));
+            for (OrderRepository.ShipmentStatusRow row : orderRepository.findShipmentStatusRows(chunk)) {
+                current.put(row.getOrderNo(), row);
+            }
+        }
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i : firstIndex.values()) {
+            ShipmentStatusCsvReader.Line l = lines.get(i);
+            OrderRepository.ShipmentStatusRow row = current.get(l.orderNo());
+            if (row == null) {
+                results[i] = result(l, null, Result.NOT_FOUND, "주문을 찾을 수 없습니다.");
+            } else if (row.getMembershipPlanCode() != null) {
+                results[i] = result(l, row.getOrderStatus(), Result.NOT_SHIPPABLE, "멤버십 주문은 배송 대상이 아닙니다.");
+            } else if (row.getOrderStatus() == l.status()) {
+                results[i] = result(l, row.getOrderStatus(), Result.UNCHANGED, null);
+            } else if (!ALLOWED_FROM.get(l.status()).contains(row.getOrderStatus())) {
+                results[i] = result(l, row.getOrderStatus(), Result.INVALID_TRANSITION,
+                        row.getOrderStatus() + " 상태에서는 " + l.status() + " 로 변경할 수 없습니다.");
+            } else {
+                results[i] = result(l, row.getOrderStatus(), null, null);
+                pending.add(i);
+            }
+        }
+
+        // 3) 묶음별 batch update
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            applyChunk(chunk, results);
+        }
+
+        AdminBulkOrderStatusRes res = summarize(results);
+        log.info("[ORDER_BULK_STATUS] total={} updated={} unchanged={} failed={} elapsedMs={}",
+                res.getTotal(), res.getUpdated(), res.getUnchanged(), res.getFailed(),
+                System.currentTimeMillis() - started);
+        return res;
+    }
+
+    private void applyChunk(List<Integer> chunk, RowResult[] results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(chunk.size());
+        for (int i : chunk) {
+            RowResult r = results[i];
+            args.add(new Object[]{r.getToStatus().name(), now, r.getOrderNo(), r.getFromStatus().name()});
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+
+                // 드라이버가 건수를 안 주면 (SUCCESS_NO_INFO) 같은 트랜잭션 안에서 다시 읽어서 확인
+                Map<Long, OrderStatus> after = null;
+                for (int k = 0; k < chunk.size(); k++) {
+                    RowResult r = results[chunk.get(k)];
+                    int count = k < counts.length ? counts[k] : Statement.SUCCESS_NO_INFO;
+                    boolean updated;
+                    if (count == Statement.SUCCESS_NO_INFO) {
+                        if (after == null) after = reload(chunk, results);
+                        updated = after.get(r.getOrderNo()) == r.getToStatus();
+                    } else {
+                        updated = count > 0;
+                    }
+                    r.setResult(updated ? Result.UPDATED : Result.CONFLICT);
+                    r.setMessage(updated ? null : "처리 중에 주문 상태가 바뀌었습니다. 다시 확인해 주세요.");
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[ORDER_BULK_STATUS] 묶음 반영 실패 size={} ({})", chunk.size(), e.getMessage());
+            for (int i : chunk) {
+                results[i].setResult(Result.ERROR);
+                results[i].setMessage("반영하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        }
+    }
+
+    private Map<Long, OrderStatus> reload(List<Integer> chunk, RowResult[] results) {
+        List<Long> orderNos = new ArrayList<>(chunk.size());
+        for (int i : chunk) {
+            orderNos.add(results[i].getOrderNo());
+        }
+        Map<Long, OrderStatus> after = new HashMap<>();
+        for (OrderRepository.ShipmentStatusRow row : orderRepository.findShipmentStatusRows(orderNos)) {
+            after.put(row.getOrderNo(), row.getOrderStatus());
+        }
+        return after;
+    }
+
+    private static RowResult result(ShipmentStatusCsvReader.Line l, OrderStatus fromStatus, Result result, String message) {
+        return RowResult.builder()
+                .line(l.line())
+                .orderNo(l.orderNo())
+                .fromStatus(fromStatus)
+                .toStatus(l.status())
+                .result(result)
+                .message(message)
+                .build();
+    }
+
+    private static AdminBulkOrderStatusRes summarize(RowResult[] results) {
+        int updated = 0;
+        int unchanged = 0;
+        for (RowResult r : results) {
+            if (r.getResult() == Result.UPDATED) updated++;
+            else if (r.getResult() == Result.UNCHANGED) unchanged++;
+        }
+        return AdminBulkOrderStatusRes.builder()
+                .total(results.length)
+                .updated(updated)
+                .unchanged(unchanged)
+                .failed(results.length - updated - unchanged)
+                .results(Arrays.asList(results))
+                .build();
+    }
+}
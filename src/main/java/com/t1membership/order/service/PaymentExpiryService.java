@@ -0,0 +1,147 @@
+package com.t1membership.order.service;
+
+import com.t1membership.inventory.service.InventoryReservationService;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.pay.repository.TossPaymentRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 결제대기 주문 만료 (타이밍 휠)
+ *
+ * - 주문 생성 시 schedule() → 생성 시각 + TTL 을 휠에 등록 (O(1), DB 조회 없음)
+ * - tick 마다 휠을 진행해서 만료된 주문만 꺼냄 → 묶음 단위 트랜잭션으로
+ *   결제대기 주문 잠금 → PAYMENT_EXPIRED + 결제 준비 레코드 EXPIRED + 예약 재고 반납
+ * - 그 사이 결제/취소된 주문은 잠금 조건(PAYMENT_PENDING)에서 빠짐 → 아무것도 안 함
+ * - 휠은 메모리 → 시작 시 (order_status, create_date) 인덱스로 결제대기 주문을 다시 등록
+ * - 묶음 처리 실패 시 retry-ms 뒤에 다시 시도
+ * - 예약 만료 스윕(InventoryReservationService)은 휠이 놓친 것을 정리하는 안전망
+ */
+@Log4j2
+@Component
+public class PaymentExpiryService {
+
+    private static final int RECOVER_PAGE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final TossPaymentRepository tossPaymentRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final TransactionTemplate tx;
+
+    private final HierarchicalTimingWheel wheel;
+    private final long ttlMs;
+    private final int batchSize;
+    private final long retryMs;
+
+    public PaymentExpiryService(OrderRepository orderRepository,
+                                TossPaymentRepository tossPaymentRepository,
+                                InventoryReservationService inventoryReservationService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.order.payment-ttl-minutes:${app.inventory.reservation-ttl-minutes:30}}") long ttlMinutes,
+                                @Value("${app.order.expiry.tick-ms:1000}") long tickMs,
+                                @Value("${app.order.expiry.wheel-size:64}") int wheelSize,
+                                @Value("${app.order.expiry.batch-size:200}") int batchSize,
+                                @Value("${app.order.expiry.retry-ms:30000}") long retryMs) {
+        this.orderRepository = orderRepository;
+        this.tossPaymentRepository = tossPaymentRepository;
+        this.inventoryReservationService = inventoryReservationService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.wheel = new HierarchicalTimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+        this.ttlMs = Math.max(1, ttlMinutes) * 60_000L;
+        this.batchSize = Math.max(1, batchSize);
+        this.retryMs = Math.max(1000, retryMs);
+    }
+
+    // =========================
+    // 등록
+    // =========================
+
+    public void schedule(Long orderNo, LocalDateTime createdAt) {
+        if (orderNo == null) return;
+        long created = (createdAt != null)
+                ? createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        wheel.add(orderNo, created + ttlMs);
+    }
+
+    // 재시작 후 휠 복구: 결제대기 주문 전체를 keyset 으로 훑어 다시 등록
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        LocalDateTime afterDate = LocalDateTime.of(1970, 1, 1, 0, 0);
+        long afterNo = 0L;
+        int count = 0;
+        try {
+            while (true) {
+                List<OrderRepository.PendingOrderRow> rows =
+                        orderRepository.findPendingAfter(afterDate, afterNo, PageRequest.of(0, RECOVER_PAGE));
+                for (OrderRepository.PendingOrderRow row : rows) {
+                    schedule(row.getOrderNo(), row.getCreateDate());
+                }
+                count += rows.size();
+                if (rows.size() < RECOVER_PAGE) break;
+
+                OrderRepository.PendingOrderRow last = rows.get(rows.size() - 1);
+                afterDate = last.getCreateDate();
+                afterNo = last.getOrderNo();
+            }
+            log.info("[EXPIRY] 결제대기 주문 {}건 휠에 복구", count);
+        } catch (Exception e) {
+            // 복구 실패해도 예약 만료 스윕이 정리함
+            log.error("[EXPIRY] 결제대기 주문 복구 실패 (복구된 {}건)", count, e);
+        }
+    }
+
+    // =========================
+    // 만료 처리
+    // =========================
+
+    @Scheduled(fixedDelayString = "${app.order.expiry.tick-ms:1000}")
+    public void tick() {
+        List<Long> due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(due.size(), from + batchSize));
+            try {
+                Integer expired = tx.execute(status -> expireBatch(batch));
+                if (expired != null && expired > 0) {
+                    log.info("[EXPIRY] 결제대기 만료 {}건 (대상 {}건)", expired, batch.size());
+                }
+            } catch (Exception e) {
+                log.error("[EXPIRY] 만료 처리 실패 {}건 → {}ms 후 재시도", batch.size(), retryMs, e);
+                long retryAt = System.currentTimeMillis() + retryMs;
+                for (Long orderNo : batch) {
+                    wheel.add(orderNo, retryAt);
+                }
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 호출
+    private int expireBatch(List<Long> orderNos) {
+        List<Long> pending = orderRepository.lockPending(orderNos).stream()
+                .map(OrderEntity::getOrderNo)
+                .sorted()
+                .toList();
+        if (pending.isEmpty()) return 0;
+
+        int expired = orderRepository.expireAllIfPending(pending);
+        tossPaymentRepository.expirePendingByOrderNos(pending);
+        inventoryReservationService.releaseAll(pending);
+        return expired;
+    }
+
+    int pendingCount() {
+        return wheel.size();
+    }
+}
@@ -4,7 +4,7 @@ import com.t1membership.item.constant.ItemCategory;
 import com.t1membership.item.domain.ItemEntity;
 import com.t1membership.item.repository.ItemRepository;
 import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
+import com.t1membership.member.service.MemberContext;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.order.domain.OrderItemEntity;
@@ -14,12 +14,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
-
 @Component
 @RequiredArgsConstructor
 public class PopOrderCreator implements OrderCreator<CreatePopOrderReq> {
-    private final MemberRepository memberRepository;
+    private final MemberContext memberContext;
     private final ItemRepository itemRepository;
     //채팅주문 세부 구현체
     //**Creator는 생성(Create)**에만 집중
@@ -31,7 +29,7 @@ public class PopOrderCreator implements OrderCreator<CreatePopOrderReq> {
     public OrderEntity create(String memberEmail, CreatePopOrderReq req) {
 
         // 1) 회원조회
-        MemberEntity memberEntity = memberRepository.findByMemberEmail(memberEmail)
+        MemberEntity memberEntity = memberContext.findMember(memberEmail)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "회원 정보가 없습니다"));
 
         // 2) pop상품 조회
@@ -47,14 +45,10 @@ public class PopOrderCreator implements OrderCreator<CreatePopOrderReq> {
         // 4) 접근권 검증 (이미 구매했는지, 판매 중인지 등)
         validatePopEligibility(memberEntity, popItem);
 
-        // 5) 금액 계산 (BigDecimal)
-        BigDecimal price = popItem.getItemPrice(); // 단가
-
         // 6) 주문 헤더 생성
         OrderEntity order = new OrderEntity();
         order.setMember(memberEntity);
         order.setOrderStatus(OrderStatus.PAYMENT_PENDING);      // 주문 생성 상태 (결제 전)
-        order.setOrderTotalPrice(price);                // 총 결제 금액(POP은 1개 고정)
         // order.setOrderType(OrderType.POP);  // 주문 타입이 있을 경우
 
         // 🔥🔥 POP 은 배송이 없으니까, NOT NULL 배송 필드에 기본값 채워주기
@@ -87,8 +81,9 @@ public class PopOrderCreator implements OrderCreator<CreatePopOrderReq> {
         OrderItemEntity orderItem = OrderItemEntity.of(popItem, 1);
         orderItem.setPlayerSnapshot(popItem.getPopPlayer());   // ★ 스냅샷 저장
 
-        // 8) 연관관계 & 총액 재계산
-        order.addItem(orderItem);   // orderItems에 추가 + recalcTotal() 호출
+        // 8) 연관관계 & 총액 (POP은 1개 고정 → 라인 합계 = 총 결제 금액)
+        order.addItem(orderItem);
+        order.setOrderTotalPrice(orderItem.getLineTotal());
 
         return order;
     }
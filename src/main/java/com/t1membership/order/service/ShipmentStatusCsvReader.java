@@ -0,0 +1,91 @@
+package com.t1membership.order.service;
+
+import com.t1membership.order.constant.OrderStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 택배사 배송 상태 파일 (CSV) 읽기
+ *
+ * - 열: 주문번호, 상태 (그 뒤 열은 무시 → 송장번호 등 붙어 있어도 됨)
+ * - 첫 줄 첫 칸이 숫자가 아니면 헤더로 보고 건너뜀, 빈 줄 건너뜀, UTF-8 BOM 제거
+ * - 상태는 enum 이름 (SHIPPED) 또는 한글 (배송준비 / 배송중 / 배송완료)
+ * - 형식이 틀린 줄도 버리지 않고 error 를 담아서 돌려줌 → 결과 리포트에 그대로 나감
+ */
+final class ShipmentStatusCsvReader {
+
+    record Line(int line, Long orderNo, OrderStatus status, String error) {
+    }
+
+    private ShipmentStatusCsvReader() {
+    }
+
+    static List<Line> read(Reader source, int maxRows) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+        String raw;
+        int lineNo = 0;
+        boolean first = true;
+        while ((raw = reader.readLine()) != null) {
+            lineNo++;
+            if (first && !raw.isEmpty() && raw.charAt(0) == '\uFEFF') {
+                raw = raw.substring(1);
+            }
+            if (raw.isBlank()) continue;
+
+            String[] cells = raw.split(",", -1);
+            String orderCell = unquote(cells[0]);
+            if (first) {
+                first = false;
+                if (!orderCell.isEmpty() && !Character.isDigit(orderCell.charAt(0))) continue;   // 헤더
+            }
+            if (lines.size() >= maxRows) {
+                throw new IllegalArgumentException("한 번에 최대 " + maxRows + "건까지 처리할 수 있습니다.");
+            }
+
+            Long orderNo;
+            try {
+                orderNo = Long.parseLong(orderCell);
+            } catch (NumberFormatException e) {
+                lines.add(new Line(lineNo, null, null, "주문번호 형식이 올바르지 않습니다: " + orderCell));
+                continue;
+            }
+            String statusCell = cells.length > 1 ? unquote(cells[1]) : "";
+            OrderStatus status = parseStatus(statusCell);
+            if (status == null) {
+                lines.add(new Line(lineNo, orderNo, null, "알 수 없는 상태입니다: " + statusCell));
+                continue;
+            }
+            lines.add(new Line(lineNo, orderNo, status, null));
+        }
+        return lines;
+    }
+
+    private static String unquote(String cell) {
+        String v = cell.trim();
+        if (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) {
+            v = v.substring(1, v.length() - 1).replace("\"\"", "\"").trim();
+        }
+        return v;
+    }
+
+    private static OrderStatus parseStatus(String cell) {
+        String v = cell.replace(" ", "");
+        switch (v) {
+            case "배송준비": return OrderStatus.SHIPMENT_READY;
+            case "배송중": return OrderStatus.SHIPPED;
+            case "배송완료": return OrderStatus.DELIVERED;
+            default:
+        }
+        try {
+            return OrderStatus.valueOf(v.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.t1membership.outbox.constant;
+
+public enum OutboxEventType {
+    ORDER_PAID,      // 결제 승인 완료 → 재고 확정, 멤버십/POP 반영
+    ORDER_CANCELED   // 주문 전체/부분 취소 → 예약 재고 반납
+}
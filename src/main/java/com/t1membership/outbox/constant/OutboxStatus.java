@@ -0,0 +1,7 @@
+package com.t1membership.outbox.constant;
+
+public enum OutboxStatus {
+    PENDING,  // 처리 대기 (실패 시 next_attempt_at 이후 재시도)
+    DONE,     // 처리 완료
+    FAILED    // 재시도 한도 초과 → 수동 확인 필요
+}
@@ -0,0 +1,65 @@
+package com.t1membership.outbox.domain;
+
+import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.constant.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 (결제/취소 후처리 이벤트)
+ *
+ * - 상태 변경과 같은 트랜잭션에서 insert → 커밋되면 이벤트도 반드시 남음
+ * - OutboxDispatcher 가 묶음으로 가져가 처리, 실패하면 next_attempt_at 을 미뤄 재시도
+ * - 핸들러는 같은 이벤트를 두 번 받아도 결과가 같아야 함 (조건부 update / 같은 값 set)
+ */
+@Entity
+@Table(
+        name = "t1_outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_status_next", columnList = "outbox_status, next_attempt_at"),
+                @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id")
+        }
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEventEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_no")
+    private Long eventNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    // 주문 이벤트면 orderNo
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 이벤트별 추가 정보 (JSON, 없으면 null)
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbox_status", nullable = false, length = 20)
+    private OutboxStatus outboxStatus;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,7 @@
+package com.t1membership.outbox.dto;
+
+import java.util.List;
+
+// ORDER_CANCELED 이벤트 payload (orderItemNos 가 null 이면 주문 전체 취소)
+public record OrderCanceledPayload(List<Long> orderItemNos) {
+}
@@ -0,0 +1,54 @@
+package com.t1membership.outbox.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.t1membership.inventory.service.InventoryReservationService;
+import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+import com.t1membership.outbox.dto.OrderCanceledPayload;
+import com.t1membership.sales.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ORDER_CANCELED 후처리: 예약 재고 반납 + 매출 집계 취소 반영
+ *
+ * - release 는 예약별 상태 전이에 성공한 것만 반납 → 같은 이벤트가 다시 와도 두 번 반납되지 않음
+ * - 매출 취소도 원장 유니크 키로 라인당 한 번만
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCanceledHandler implements OutboxHandler {
+
+    private final InventoryReservationService inventoryReservationService;
+    private final SalesRollupService salesRollupService;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.ORDER_CANCELED;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        OrderCanceledPayload payload = parse(event.getPayload());
+        List<Long> orderItemNos = (payload == null) ? null : payload.orderItemNos();
+        inventoryReservationService.release(event.getAggregateId(), orderItemNos);
+
+        orderRepository.findById(event.getAggregateId())
+                .ifPresent(order -> salesRollupService.recordCancel(order, orderItemNos));
+    }
+
+    private OrderCanceledPayload parse(String json) {
+        if (json == null || json.isBlank()) return null;
+        try {
+            return objectMapper.readValue(json, OrderCanceledPayload.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("ORDER_CANCELED payload 파싱 실패: " + json, e);
+        }
+    }
+}
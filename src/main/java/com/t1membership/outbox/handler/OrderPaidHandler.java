@@ -0,0 +1,114 @@
+package com.t1membership.outbox.handler;
+
+import com.t1membership.inventory.service.InventoryReservationService;
+import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.MembershipPayType;
+import com.t1membership.item.constant.PopPlanType;
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.member.domain.MemberEntity;
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.domain.OrderItemEntity;
+import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+import com.t1membership.sales.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ORDER_PAID 후처리
+ *
+ * 1) 예약 재고 확정 (HELD → COMMITTED, 조건부 update 라 여러 번 와도 같음)
+ * 2) 멤버십 주문 → 회원 membershipType 반영
+ * 3) POP 주문 → 회원 popType 반영
+ * 4) 일별 매출 집계 (SalesRollupService, 원장 유니크 키로 한 번만)
+ *
+ * - 처리 전에 주문이 이미 취소됐으면 멤버십/POP 은 반영하지 않음
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OrderPaidHandler implements OutboxHandler {
+
+    // 결제 이후 정상 진행 상태 (이 상태일 때만 회원 등급 반영)
+    private static final Set<OrderStatus> PAID_STATES = EnumSet.of(
+            OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.SHIPMENT_READY,
+            OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+
+    private final OrderRepository orderRepository;
+    private final InventoryReservationService inventoryReservationService;
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.ORDER_PAID;
+    }
+
+    @Override
+    public void handle(OutboxEventEntity event) {
+        Long orderNo = event.getAggregateId();
+        OrderEntity order = orderRepository.findById(orderNo).orElse(null);
+        if (order == null) {
+            log.warn("[OUTBOX] ORDER_PAID 주문 없음 orderNo={}", orderNo);
+            return;
+        }
+
+        inventoryReservationService.commit(orderNo);
+
+        // 이후 취소됐어도 결제는 된 것 → 판매 기록 (취소는 ORDER_CANCELED 에서 따로)
+        salesRollupService.recordSale(order);
+
+        if (!PAID_STATES.contains(order.getOrderStatus())) {
+            log.info("[OUTBOX] ORDER_PAID 건너뜀 orderNo={} status={}", orderNo, order.getOrderStatus());
+            return;
+        }
+
+        MemberEntity member = order.getMember();
+        if (member == null) {
+            log.warn("[OUTBOX] ORDER_PAID member is null. orderNo={}", orderNo);
+            return;
+        }
+
+        applyMembership(order, member);
+        applyPop(order, member);
+    }
+
+    // 멤버십: 주문에 기록된 payType 우선, 없으면 MEMBERSHIP 상품의 payType
+    private void applyMembership(OrderEntity order, MemberEntity member) {
+        MembershipPayType payType = Optional.ofNullable(order.getMembershipPayType())
+                .orElseGet(() -> findItem(order, ItemCategory.MEMBERSHIP)
+                        .map(ItemEntity::getMembershipPayType)
+                        .orElse(null));
+        if (payType == null) return;
+
+        member.setMembershipType(payType);
+        log.info("[OUTBOX] member={} 멤버십 활성화, type={} orderNo={}",
+                member.getMemberEmail(), payType, order.getOrderNo());
+    }
+
+    private void applyPop(OrderEntity order, MemberEntity member) {
+        PopPlanType popPlanType = findItem(order, ItemCategory.POP)
+                .map(ItemEntity::getPopPlanType)
+                .orElse(null);
+        if (popPlanType == null) return;
+
+        member.setPopType(popPlanType);
+        log.info("[OUTBOX] member={} POP 활성화, type={} orderNo={}",
+                member.getMemberEmail(), popPlanType, order.getOrderNo());
+    }
+
+    private Optional<ItemEntity> findItem(OrderEntity order, ItemCategory category) {
+        return order.getOrderItems().stream()
+                .map(OrderItemEntity::getItem)
+                .filter(Objects::nonNull)
+                .filter(item -> item.getItemCategory() == category)
+                .findFirst();
+    }
+}
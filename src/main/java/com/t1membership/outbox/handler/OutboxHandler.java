@@ -0,0 +1,17 @@
+package com.t1membership.outbox.handler;
+
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+
+/**
+ * 아웃박스 이벤트 처리기 (이벤트 종류당 하나)
+ *
+ * - 디스패처가 이벤트 한 건마다 트랜잭션을 열고 호출
+ * - 재시도로 같은 이벤트가 다시 올 수 있음 → 몇 번 실행해도 결과가 같게 작성
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(OutboxEventEntity event);
+}
@@ -0,0 +1,52 @@
+package com.t1membership.outbox.repository;
+
+import com.t1membership.outbox.constant.OutboxStatus;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // 처리할 이벤트 묶음 (idx_outbox_status_next)
+    // - SKIP LOCKED: 다른 서버가 잡고 있는 행은 건너뜀 → 서버 여러 대여도 같은 이벤트를 동시에 처리하지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e from OutboxEventEntity e
+             where e.outboxStatus = com.t1membership.outbox.constant.OutboxStatus.PENDING
+               and e.nextAttemptAt <= :now
+             order by e.eventNo asc
+            """)
+    List<OutboxEventEntity> claim(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update OutboxEventEntity e
+               set e.outboxStatus = com.t1membership.outbox.constant.OutboxStatus.DONE,
+                   e.processedAt = :now
+             where e.eventNo = :eventNo
+               and e.outboxStatus = com.t1membership.outbox.constant.OutboxStatus.PENDING
+            """)
+    int markDone(@Param("eventNo") Long eventNo, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update OutboxEventEntity e
+               set e.outboxStatus = :status,
+                   e.attempts = :attempts,
+                   e.nextAttemptAt = :nextAttemptAt,
+                   e.lastError = :lastError
+             where e.eventNo = :eventNo
+            """)
+    int markFailed(@Param("eventNo") Long eventNo,
+                   @Param("status") OutboxStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
@@ -0,0 +1,140 @@
+package com.t1membership.outbox.service;
+
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.constant.OutboxStatus;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+import com.t1membership.outbox.handler.OutboxHandler;
+import com.t1membership.outbox.repository.OutboxEventRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 디스패처
+ *
+ * 한 주기
+ *  1) 처리할 이벤트 묶음을 잠그고 가져옴 (SKIP LOCKED) + next_attempt_at 을 lease 만큼 미뤄 둠
+ *     → 처리 도중 서버가 죽어도 lease 가 지나면 다시 처리됨
+ *  2) 이벤트마다 트랜잭션 하나: 핸들러 + DONE 표시를 같이 커밋
+ *  3) 실패하면 attempts++ 후 지수 백오프로 next_attempt_at 설정, 한도 넘으면 FAILED
+ *
+ * - 묶음이 가득 차면 쉬지 않고 다음 묶음 (밀린 이벤트 빨리 소진)
+ */
+@Log4j2
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final TransactionTemplate tx;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long leaseSeconds;
+    private final long backoffBaseSeconds;
+    private final long backoffMaxSeconds;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            List<OutboxHandler> handlerList,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.lease-seconds:60}") long leaseSeconds,
+                            @Value("${app.outbox.backoff-base-seconds:5}") long backoffBaseSeconds,
+                            @Value("${app.outbox.backoff-max-seconds:600}") long backoffMaxSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        for (OutboxHandler h : handlerList) {
+            if (handlers.put(h.type(), h) != null) {
+                throw new IllegalStateException("아웃박스 핸들러 중복: " + h.type());
+            }
+        }
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseSeconds = Math.max(1, leaseSeconds);
+        this.backoffBaseSeconds = Math.max(1, backoffBaseSeconds);
+        this.backoffMaxSeconds = Math.max(this.backoffBaseSeconds, backoffMaxSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:500}")
+    public void dispatch() {
+        int rounds = 0;
+        int claimed;
+        do {
+            claimed = dispatchOnce();
+        } while (claimed == batchSize && ++rounds < 10);
+    }
+
+    // 한 묶음 처리, 가져온 건수 반환
+    int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEventEntity> batch = tx.execute(status -> {
+            List<OutboxEventEntity> rows = outboxEventRepository.claim(now, PageRequest.of(0, batchSize));
+            rows.forEach(e -> e.setNextAttemptAt(now.plusSeconds(leaseSeconds)));
+            return rows;
+        });
+        if (batch == null || batch.isEmpty()) return 0;
+
+        int done = 0;
+        for (OutboxEventEntity event : batch) {
+            if (process(event)) done++;
+        }
+        log.debug("[OUTBOX] dispatch claimed={} done={}", batch.size(), done);
+        return batch.size();
+    }
+
+    private boolean process(OutboxEventEntity event) {
+        OutboxHandler handler = handlers.get(event.getEventType());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("핸들러 없음: " + event.getEventType());
+            }
+            tx.executeWithoutResult(status -> {
+                handler.handle(event);
+                outboxEventRepository.markDone(event.getEventNo(), LocalDateTime.now());
+            });
+            return true;
+        } catch (Exception e) {
+            recordFailure(event, e);
+            return false;
+        }
+    }
+
+    private void recordFailure(OutboxEventEntity event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        long delay = Math.min(backoffMaxSeconds, backoffBaseSeconds << Math.min(attempts - 1, 20));
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 500) error = error.substring(0, 500);
+
+        if (giveUp) {
+            log.error("[OUTBOX] 재시도 한도 초과 eventNo={} type={} aggregateId={}",
+                    event.getEventNo(), event.getEventType(), event.getAggregateId(), e);
+        } else {
+            log.warn("[OUTBOX] 처리 실패 eventNo={} type={} aggregateId={} attempts={} → {}초 후 재시도",
+                    event.getEventNo(), event.getEventType(), event.getAggregateId(), attempts, delay, e);
+        }
+
+        String lastError = error;
+        try {
+            tx.executeWithoutResult(status -> outboxEventRepository.markFailed(
+                    event.getEventNo(),
+                    giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                    attempts,
+                    LocalDateTime.now().plusSeconds(delay),
+                    lastError));
+        } catch (Exception ex) {
+            // 기록 실패해도 lease 가 지나면 다시 처리됨
+            log.error("[OUTBOX] 실패 기록 실패 eventNo={}", event.getEventNo(), ex);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.t1membership.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.constant.OutboxStatus;
+import com.t1membership.outbox.domain.OutboxEventEntity;
+import com.t1membership.outbox.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 기록
+ *
+ * - 호출한 쪽 트랜잭션 안에서만 (MANDATORY) → 상태 변경이 롤백되면 이벤트도 같이 사라짐
+ * - 실제 처리는 OutboxDispatcher 가 커밋 이후에
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEventEntity.builder()
+                .eventType(type)
+                .aggregateId(aggregateId)
+                .payload(toJson(payload))
+                .outboxStatus(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("[OUTBOX] append type={} aggregateId={}", type, aggregateId);
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) return null;
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 payload 직렬화 실패: " + payload, e);
+        }
+    }
+}
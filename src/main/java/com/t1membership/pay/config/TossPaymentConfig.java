@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.nio.charset.StandardCharsets;
@@ -14,6 +15,7 @@ import java.util.List;
  * 토스 결제 REST 호출용 RestTemplate.
  * - Basic 인증: Authorization: Basic base64(SECRET_KEY + ":")
  * - Content-Type: application/json
+ * - 연결/응답 타임아웃: 토스가 느려져도 호출 스레드가 무한정 묶이지 않게
  */
 @Configuration
 public class TossPaymentConfig {
@@ -21,13 +23,23 @@ public class TossPaymentConfig {
     @Value("${toss.payments.secret-key:}") // ✅ 이름 통일 + 기본값(빈문자)로 부팅시 명확히 체크
     private String secretKey;
 
+    @Value("${app.toss.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${app.toss.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
     @Bean
     public RestTemplate tossRestTemplate() {
         if (secretKey == null || secretKey.isBlank()) {
             throw new IllegalStateException("toss.secret-key 누락. 환경변수 TOSS_SECRET_KEY 또는 application.properties를 확인하세요.");
         }
 
-        RestTemplate rt = new RestTemplate();
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+
+        RestTemplate rt = new RestTemplate(factory);
         ClientHttpRequestInterceptor auth = (req, body, exec) -> {
             String basic = Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
             req.getHeaders().set("Authorization", "Basic " + basic);
@@ -1,18 +1,15 @@
 // TossPaymentController.java
 package com.t1membership.pay.controller;
 
-import com.t1membership.item.constant.ItemCategory;
-import com.t1membership.item.constant.MembershipPayType;
-import com.t1membership.item.constant.PopPlanType;
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.constant.OrderStatus;
 import com.t1membership.order.domain.OrderEntity;
-import com.t1membership.order.domain.OrderItemEntity;
 import com.t1membership.order.repository.OrderRepository;
 import com.t1membership.pay.constant.TossPaymentMethod;
 import com.t1membership.pay.constant.TossPaymentStatus;
 import com.t1membership.pay.domain.TossPaymentEntity;
 import com.t1membership.pay.dto.TossConfirmReq;
-import com.t1membership.pay.service.TossPaymentService;
+import com.t1membership.pay.service.PaymentConfirmService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
@@ -23,9 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.math.BigDecimal;
 import java.util.Map;
-import java.util.Objects;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,24 +29,15 @@ import java.util.Objects;
 public class TossPaymentController {
 
     private final OrderRepository orderRepository;
-    private final TossPaymentService tossPaymentService;
+    private final PaymentConfirmService paymentConfirmService;
 
     // ==========================
     // 공통 유틸
     // ==========================
+    // 총액은 주문 생성 시 확정된 orderTotalPrice 만 사용 (라인 재합산 안 함)
     private int computeOrderAmount(OrderEntity order) {
-        return order.getOrderItems().stream()
-                .map(oi -> {
-                    BigDecimal line = oi.getLineTotal();
-                    if (line == null || line.compareTo(BigDecimal.ZERO) <= 0) {
-                        line = oi.getPriceAtOrder().multiply(
-                                BigDecimal.valueOf(oi.getQuantity())
-                        );
-                    }
-                    return line;
-                })
-                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                .intValueExact();
+        Money total = order.getOrderTotalPrice();
+        return (total == null) ? 0 : total.intValueExact();
     }
 
     private String currentMemberId(Authentication auth) {
@@ -63,12 +49,6 @@ public class TossPaymentController {
         return null;
     }
 
-    private void assertPayable(OrderEntity order) {
-        if (order.getOrderStatus() != OrderStatus.PAYMENT_PENDING) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "결제 불가 상태");
-        }
-    }
-
     // ==========================
     // 결제 준비 (checkout 창 띄우기 전)
     // ==========================
@@ -129,7 +109,7 @@ public class TossPaymentController {
 
             tossPayment = TossPaymentEntity.builder()
                     .order(order)                                // 주문 연결
-                    .totalAmount(BigDecimal.valueOf(amount))     // 결제 금액
+                    .totalAmount(Money.of(amount))     // 결제 금액
                     .tossPaymentMethod(tossMethod)               // 🔥 method NOT NULL
                     .tossPaymentStatus(TossPaymentStatus.PENDING)  // 🔥 status NOT NULL 기본값
                     .build();
@@ -171,12 +151,11 @@ public class TossPaymentController {
     // 결제 승인(confirm) – 굿즈 / 멤버십 / POP 공통
     // ==========================
     @PostMapping("/confirm")
-    @Transactional
     public ResponseEntity<?> confirm(@RequestBody TossConfirmReq req,
                                      Authentication authentication) {
 
         String paymentKey = req.getPaymentKey();
-        String orderId    = req.getOrderId();      // Toss orderId (order_toss_id or orderNo)
+        String orderId    = req.getOrderId();      // Toss orderId (order_toss_id)
         Integer amount    = req.getTotalAmount();
 
         log.info("[TossConfirm] req orderId={}, paymentKey={}, totalAmount={}",
@@ -197,99 +176,17 @@ public class TossPaymentController {
             );
         }
 
-        int clientAmount = amount.intValue();
-
-        // 1차: order_toss_id 로 조회
-        OrderEntity order = orderRepository.findByTossPayment_OrderTossId(orderId)
-                .orElseGet(() -> {
-                    try {
-                        Long orderNoLong = Long.valueOf(orderId);
-                        return orderRepository.findById(orderNoLong).orElse(null);
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                });
-
-        if (order == null) {
-            log.warn("[TossConfirm] 주문 없음. orderId={}", orderId);
-            throw new ResponseStatusException(
-                    HttpStatus.NOT_FOUND,
-                    "주문 없음(orderId=" + orderId + ")"
-            );
-        }
-
-        Long orderNo = order.getOrderNo();
-
-        String memberId = currentMemberId(authentication);
-        if (memberId != null && !memberId.equals(order.getMember().getMemberEmail())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 주문만 결제 가능");
-        }
-
-        assertPayable(order);
-
-        int serverAmount = computeOrderAmount(order);
-
-        log.info("[TossConfirm] before adjust serverAmount={}, orderTotalPrice={}",
-                serverAmount,
-                order.getOrderTotalPrice()
-        );
-
-        if (serverAmount <= 0 && order.getOrderTotalPrice() != null) {
-            BigDecimal otp = order.getOrderTotalPrice();
-            if (otp.compareTo(BigDecimal.ZERO) > 0) {
-                serverAmount = otp.intValue();
-                log.info("[TossConfirm] adjusted serverAmount from orderTotalPrice={}", serverAmount);
-            }
-        }
-
-        if (serverAmount <= 0) {
-            log.warn("[TossConfirm] EMPTY_ORDER_AMOUNT. orderNo={}, serverAmount={}",
-                    orderNo, serverAmount);
-
-            return ResponseEntity.badRequest().body(
-                    Map.of(
-                            "isSuccess", false,
-                            "resCode", 400,
-                            "resMessage", "EMPTY_ORDER_AMOUNT"
-                    )
-            );
-        }
-
-        if (serverAmount != clientAmount) {
-            log.warn("[TossConfirm] 금액 불일치. orderNo={}, serverAmount={}, clientAmount={}",
-                    orderNo, serverAmount, clientAmount);
-
-            return ResponseEntity.badRequest().body(
-                    Map.of(
-                            "isSuccess", false,
-                            "resCode", 400,
-                            "resMessage", "금액 불일치"
-                    )
-            );
-        }
-
-        // ==========================
-        // 1) 토스 최종 승인 (공통)
-        // ==========================
-        Map<String, Object> tossResult =
-                tossPaymentService.confirmPayment(paymentKey, orderId, serverAmount);
-
-        // ==========================
-        // 2) 주문 상태/결제 정보 업데이트 (공통)
-        // ==========================
-        order.setOrderStatus(OrderStatus.PAID);
-        // 필요하면 여기서 paymentMethod / paymentStatus / paidAt 등도 세팅 가능
-
         // ==========================
-        // 3) 멤버십 / POP 후처리
+        // 토스 최종 승인 (공통)
+        // - 소유자 / 상태 / 서버 기준 금액 검증 + 상태 전이는 PaymentConfirmService 에서
+        // - 트랜잭션 없이 호출 → 토스 왕복 동안 DB 커넥션 / 주문 행 잠금 안 잡음
+        // - 멤버십 / POP 반영, 재고 확정은 승인 시 남긴 ORDER_PAID 아웃박스 이벤트에서 처리
         // ==========================
-        applyMembershipIfNeeded(order); // 멤버십 주문이면 멤버 membershipType 갱신
-        applyPopIfNeeded(order);        // POP 주문이면 멤버 popType 갱신
+        PaymentConfirmService.ConfirmResult result = paymentConfirmService.confirm(
+                paymentKey, orderId, amount, currentMemberId(authentication));
 
-        orderRepository.save(order);
-
-        log.info("[TossConfirm] success. orderNo={}, serverAmount={}, orderId={}",
-                orderNo, serverAmount, orderId);
+        log.info("[TossConfirm] success. orderNo={}, amount={}, orderId={}",
+                result.orderNo(), amount, orderId);
 
         return ResponseEntity.ok(
                 Map.of(
@@ -297,85 +194,11 @@ public class TossPaymentController {
                         "resCode", 200,
                         "resMessage", "OK",
                         "data", Map.of(
-                                "orderNo", orderNo,
-                                "toss", tossResult
+                                "orderNo", result.orderNo(),
+                                "toss", result.toss()
                         )
                 )
         );
     }
 
-    // ==========================
-    // 멤버십 주문 후처리
-    // ==========================
-    private void applyMembershipIfNeeded(OrderEntity order) {
-        var member = order.getMember();
-        if (member == null) {
-            log.warn("[MembershipAfterPay] member is null. orderNo={}", order.getOrderNo());
-            return;
-        }
-
-        // 주문 아이템 중 MEMBERSHIP 카테고리인 상품 찾기
-        var membershipItemOpt = order.getOrderItems().stream()
-                .map(OrderItemEntity::getItem)
-                .filter(Objects::nonNull)
-                .filter(item -> item.getItemCategory() == ItemCategory.MEMBERSHIP)
-                .findFirst();
-
-        if (membershipItemOpt.isEmpty()) {
-            // 이 주문은 멤버십 주문이 아님
-            return;
-        }
-
-        var membershipItem = membershipItemOpt.get();
-        MembershipPayType payType = membershipItem.getMembershipPayType(); // <- ItemEntity 게터명에 맞게 조정
-        if (payType == null) {
-            log.warn("[MembershipAfterPay] membershipPayType is null. orderNo={}, itemNo={}",
-                    order.getOrderNo(), membershipItem.getItemNo());
-            return;
-        }
-
-        // 🔥 멤버 DB에 멤버십 타입 반영
-        member.setMembershipType(payType);
-
-        log.info("[MembershipAfterPay] member={} 멤버십 활성화, type={}",
-                member.getMemberEmail(), payType);
-    }
-
-    // ==========================
-    // POP 주문 후처리
-    // ==========================
-    private void applyPopIfNeeded(OrderEntity order) {
-        var member = order.getMember();
-        if (member == null) {
-            log.warn("[PopAfterPay] member is null. orderNo={}", order.getOrderNo());
-            return;
-        }
-
-        // 주문 아이템 중 POP 카테고리인 상품 찾기
-        var popItemOpt = order.getOrderItems().stream()
-                .map(OrderItemEntity::getItem)
-                .filter(Objects::nonNull)
-                .filter(item -> item.getItemCategory() == ItemCategory.POP)
-                .findFirst();
-
-        if (popItemOpt.isEmpty()) {
-            // POP 주문이 아님
-            return;
-        }
-
-        var popItem = popItemOpt.get();
-        PopPlanType popPlanType = popItem.getPopPlanType(); // <- ItemEntity 게터명에 맞게 조정
-        if (popPlanType == null) {
-            log.warn("[PopAfterPay] popPlanType is null. orderNo={}, itemNo={}",
-                    order.getOrderNo(), popItem.getItemNo());
-            return;
-        }
-
-        // 🔥 멤버 DB에 POP 타입 반영
-        member.setPopType(popPlanType);
-
-        log.info("[PopAfterPay] member={} POP 활성화, type={}",
-                member.getMemberEmail(), popPlanType);
-    }
-
 }
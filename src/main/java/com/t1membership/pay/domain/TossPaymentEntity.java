@@ -1,13 +1,13 @@
 package com.t1membership.pay.domain;
 
 import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.coreDomain.Money;
 import com.t1membership.order.domain.OrderEntity;
 import com.t1membership.pay.constant.TossPaymentMethod;
 import com.t1membership.pay.constant.TossPaymentStatus;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
         indexes = {
                 // ✔️ 존재하는 FK 컬럼명으로 인덱스 (order_no → order_id 로 정정)
                 @Index(name = "idx_toss_payment_order_id", columnList = "order_id"),
-                @Index(name = "idx_toss_payment_status",   columnList = "toss_payment_status")
+                // 상태 + 주문 → 관리자 주문 검색(결제 상태) exists 를 인덱스만으로
+                @Index(name = "idx_toss_payment_status_order", columnList = "toss_payment_status, order_id")
         }
 )
 @Getter
@@ -59,7 +60,7 @@ public class TossPaymentEntity extends BaseEntity {
 
     /** 결제 총액(원 단위, 정수) */
     @Column(name = "total_amount", nullable = false)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     /** 결제수단 */
     @Enumerated(EnumType.STRING)
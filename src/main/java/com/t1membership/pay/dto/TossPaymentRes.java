@@ -1,18 +1,18 @@
 package com.t1membership.pay.dto;
 
+import com.t1membership.coreDomain.Money;
 import com.t1membership.pay.constant.TossPaymentMethod;
 import com.t1membership.pay.constant.TossPaymentStatus;
 import com.t1membership.pay.domain.TossPaymentEntity;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class TossPaymentRes {
     private String tossPaymentKey;
     private String orderNo;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private TossPaymentStatus paymentStatus;
     private TossPaymentMethod method;
     private LocalDateTime approvedAt;   // 화면 표시 편의상 LocalDateTime로 변환
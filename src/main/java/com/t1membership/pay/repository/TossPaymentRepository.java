@@ -2,11 +2,25 @@ package com.t1membership.pay.repository;
 
 import com.t1membership.pay.domain.TossPaymentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface TossPaymentRepository extends JpaRepository<TossPaymentEntity, Long> {
     boolean existsByTossPaymentKey(String tossPaymentKey);
     Optional<TossPaymentEntity> findByOrderTossId(String orderTossId);
+
+    // 결제 만료된 주문의 준비 레코드 PENDING → EXPIRED
+    @Modifying
+    @Query("""
+            update TossPaymentEntity p
+               set p.tossPaymentStatus = com.t1membership.pay.constant.TossPaymentStatus.EXPIRED
+             where p.order.orderNo in :orderNos
+               and p.tossPaymentStatus = com.t1membership.pay.constant.TossPaymentStatus.PENDING
+            """)
+    int expirePendingByOrderNos(@Param("orderNos") Collection<Long> orderNos);
 }
 
@@ -0,0 +1,238 @@
+package com.t1membership.pay.service;
+
+import com.t1membership.inventory.service.InventoryReservationService;
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.outbox.constant.OutboxEventType;
+import com.t1membership.outbox.service.OutboxPublisher;
+import com.t1membership.pay.constant.TossPaymentStatus;
+import com.t1membership.pay.domain.TossPaymentEntity;
+import com.t1membership.pay.repository.TossPaymentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제 승인(confirm) 상태 전이
+ *
+ * 토스 왕복 동안 DB 커넥션 / 주문 행 잠금을 잡지 않도록 세 단계로 나눔 (주문 생성의 prepareCheckout / checkout 과 같은 방식)
+ *  1) 짧은 트랜잭션: 검증 후 PAYMENT_PENDING → PAYMENT_CONFIRMING (조건부 update, 이미 다른 상태면 거절)
+ *  2) 트랜잭션 밖: 토스 승인 호출
+ *  3) 짧은 트랜잭션: PAYMENT_CONFIRMING → PAID (+ ORDER_PAID 아웃박스) 또는 PAYMENT_FAILED (+ 예약 재고 반납)
+ *
+ * - 결제 만료(PaymentExpiryService / 예약 만료 스윕)와 취소는 PAYMENT_CONFIRMING 을 건드리지 않음
+ *   → 토스가 승인했는데 주문은 만료/취소로 남는 경우가 없음
+ * - 토스 응답을 모르는 경우(시간 초과, 5xx, 반영 전 서버 종료)는 PAYMENT_CONFIRMING 으로 남기고
+ *   stuck-minutes 지나면 토스 결제 조회로 결과를 맞춤 (recoverStuck)
+ */
+@Slf4j
+@Service
+public class PaymentConfirmService {
+
+    private static final int RECOVER_BATCH = 50;
+
+    // 토스 결제 조회 결과 중 "승인 안 됨" 으로 확정된 상태
+    private static final Set<String> TOSS_NOT_APPROVED = Set.of("ABORTED", "EXPIRED", "CANCELED");
+
+    private final OrderRepository orderRepository;
+    private final TossPaymentRepository tossPaymentRepository;
+    private final TossPaymentService tossPaymentService;
+    private final OutboxPublisher outboxPublisher;
+    private final InventoryReservationService inventoryReservationService;
+    private final TransactionTemplate tx;
+    private final long stuckMinutes;
+
+    public PaymentConfirmService(OrderRepository orderRepository,
+                                 TossPaymentRepository tossPaymentRepository,
+                                 TossPaymentService tossPaymentService,
+                                 OutboxPublisher outboxPublisher,
+                                 InventoryReservationService inventoryReservationService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.pay.confirm.stuck-minutes:5}") long stuckMinutes) {
+        this.orderRepository = orderRepository;
+        this.tossPaymentRepository = tossPaymentRepository;
+        this.tossPaymentService = tossPaymentService;
+        this.outboxPublisher = outboxPublisher;
+        this.inventoryReservationService = inventoryReservationService;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.stuckMinutes = Math.max(1, stuckMinutes);
+    }
+
+    public record ConfirmResult(Long orderNo, Map<String, Object> toss) {
+    }
+
+    // 1단계 결과 (이미 결제 완료면 토스 호출 없이 끝)
+    private record Started(Long orderNo, boolean alreadyPaid) {
+    }
+
+    // =========================
+    // 승인
+    // =========================
+
+    /**
+     * @param memberEmail 로그인 회원 (null 이면 소유자 검증 생략 - 비로그인 결제창 복귀)
+     */
+    public ConfirmResult confirm(String paymentKey, String orderId, int amount, String memberEmail) {
+        // 1) PAYMENT_PENDING → PAYMENT_CONFIRMING
+        Started started = tx.execute(status -> start(orderId, amount, memberEmail));
+        if (started.alreadyPaid()) {
+            return new ConfirmResult(started.orderNo(), Map.of("status", "ALREADY_PAID"));
+        }
+        Long orderNo = started.orderNo();
+
+        // 2) 토스 승인 (트랜잭션 밖)
+        Map<String, Object> body;
+        try {
+            body = tossPaymentService.requestConfirm(paymentKey, orderId, amount);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().is4xxClientError()) {
+                // 토스가 거절 → 승인 안 됨 확정
+                tx.executeWithoutResult(status -> fail(orderNo, orderId));
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
+                        "토스 승인 오류: http=" + e.getStatusCode() + ", body=" + e.getResponseBodyAsString());
+            }
+            log.error("[TossConfirm] 토스 5xx, 결과 불명 → 복구 대기 orderNo={} http={}", orderNo, e.getStatusCode());
+            throw pendingResult();
+        } catch (RestClientException e) {
+            // 시간 초과 등 → 토스에서 승인됐을 수도 있음, 실패로 닫지 않음
+            log.error("[TossConfirm] 토스 통신 오류, 결과 불명 → 복구 대기 orderNo={}", orderNo, e);
+            throw pendingResult();
+        }
+
+        // 3) PAYMENT_CONFIRMING → PAID
+        tx.executeWithoutResult(status -> complete(orderNo, orderId, paymentKey, body));
+        return new ConfirmResult(orderNo, body);
+    }
+
+    // 트랜잭션 안에서 호출
+    private Started start(String orderId, int amount, String memberEmail) {
+        TossPaymentEntity pay = tossPaymentRepository.findByOrderTossId(orderId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "주문을 찾을 수 없습니다. orderId=" + orderId));
+        OrderEntity order = pay.getOrder();
+
+        if (memberEmail != null && !memberEmail.equals(order.getMember().getMemberEmail())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 주문만 결제 가능");
+        }
+
+        // 멱등: 이미 승인 완료
+        OrderStatus status = order.getOrderStatus();
+        if (pay.getTossPaymentStatus() == TossPaymentStatus.DONE || status == OrderStatus.PAID) {
+            return new Started(order.getOrderNo(), true);
+        }
+        if (status == OrderStatus.PAYMENT_EXPIRED || status == OrderStatus.PAYMENT_FAILED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "결제 가능 시간이 지난 주문입니다. 다시 주문해 주세요.");
+        }
+        if (status == OrderStatus.PAYMENT_CONFIRMING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "결제 승인 처리 중입니다.");
+        }
+        if (status != OrderStatus.PAYMENT_PENDING) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "결제 불가 상태");
+        }
+
+        // 금액 검증 (서버 기준, 주문 생성 시 확정된 총액)
+        int expected = (order.getOrderTotalPrice() == null) ? 0 : order.getOrderTotalPrice().intValueExact();
+        if (expected <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "EMPTY_ORDER_AMOUNT");
+        }
+        if (expected != amount) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "결제 금액 불일치 expected=" + expected + ", amount=" + amount);
+        }
+
+        // 위에서 읽은 뒤 만료/취소/다른 승인 요청이 먼저 커밋됐으면 0
+        if (orderRepository.startConfirmIfPending(order.getOrderNo(), LocalDateTime.now()) != 1) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "결제 불가 상태");
+        }
+        return new Started(order.getOrderNo(), false);
+    }
+
+    // 트랜잭션 안에서 호출
+    private void complete(Long orderNo, String orderId, String paymentKey, Map<String, Object> body) {
+        if (orderRepository.finishConfirm(orderNo, OrderStatus.PAID, LocalDateTime.now()) != 1) {
+            // 승인 중 상태는 이 서비스만 바꿈 → 복구 스윕과 겹친 경우 (이미 반영됨)
+            log.warn("[TossConfirm] 이미 승인 결과 반영됨 orderNo={}", orderNo);
+            return;
+        }
+        tossPaymentRepository.findByOrderTossId(orderId).ifPresent(pay -> {
+            pay.setTossPaymentKey(paymentKey);
+            pay.setTossPaymentStatus(TossPaymentStatus.DONE);
+            pay.setApprovedAt(TossPaymentService.approvedAtOf(body));   // 매출 집계 기준일 (SalesRollupService)
+        });
+
+        // 재고 확정 / 멤버십·POP 반영은 아웃박스로 (커밋 후 OrderPaidHandler)
+        outboxPublisher.append(OutboxEventType.ORDER_PAID, orderNo, null);
+        log.info("[TossConfirm] PAID orderNo={}", orderNo);
+    }
+
+    // 트랜잭션 안에서 호출
+    private void fail(Long orderNo, String orderId) {
+        if (orderRepository.finishConfirm(orderNo, OrderStatus.PAYMENT_FAILED, LocalDateTime.now()) != 1) {
+            return;
+        }
+        tossPaymentRepository.findByOrderTossId(orderId)
+                .ifPresent(pay -> pay.setTossPaymentStatus(TossPaymentStatus.FAILED));
+        inventoryReservationService.release(orderNo, null);
+        log.info("[TossConfirm] PAYMENT_FAILED orderNo={}", orderNo);
+    }
+
+    private ResponseStatusException pendingResult() {
+        return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                "결제 승인 결과를 확인하고 있습니다. 잠시 후 주문 내역에서 확인해 주세요.");
+    }
+
+    // =========================
+    // 멈춘 승인 복구
+    // =========================
+
+    @Scheduled(fixedDelayString = "${app.pay.confirm.recover-ms:60000}")
+    public void recoverStuck() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(stuckMinutes);
+        List<Long> orderNos = orderRepository.findStuckConfirming(before, PageRequest.of(0, RECOVER_BATCH));
+        for (Long orderNo : orderNos) {
+            try {
+                recover(orderNo);
+            } catch (Exception e) {
+                log.error("[TossConfirm] 승인 복구 실패 orderNo={}", orderNo, e);
+            }
+        }
+    }
+
+    private void recover(Long orderNo) {
+        String orderId = tx.execute(status -> orderRepository.findById(orderNo)
+                .map(OrderEntity::getTossPayment)
+                .map(TossPaymentEntity::getOrderTossId)
+                .orElse(null));
+        if (orderId == null) return;
+
+        // 토스 조회 (트랜잭션 밖)
+        Map<String, Object> payment = tossPaymentService.findPaymentByOrderId(orderId);
+        Object tossStatus = (payment == null) ? null : payment.get("status");
+
+        if ("DONE".equals(tossStatus)) {
+            String paymentKey = String.valueOf(payment.get("paymentKey"));
+            tx.executeWithoutResult(status -> complete(orderNo, orderId, paymentKey, payment));
+        } else if (payment == null || TOSS_NOT_APPROVED.contains(String.valueOf(tossStatus))) {
+            // 승인 요청이 토스에 닿지 않았거나 승인 안 됨 확정
+            tx.executeWithoutResult(status -> fail(orderNo, orderId));
+        } else {
+            // IN_PROGRESS 등 → 다음 주기에 다시
+            log.info("[TossConfirm] 승인 복구 대기 orderNo={} tossStatus={}", orderNo, tossStatus);
+        }
+    }
+}
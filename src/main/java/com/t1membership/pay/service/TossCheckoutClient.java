@@ -0,0 +1,83 @@
+package com.t1membership.pay.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.*;
+
+/**
+ * 토스 결제창 생성 호출 전용 실행기
+ *
+ * - 주문 DB 트랜잭션이 끝난 뒤에 호출 → 토스 왕복 동안 DB 커넥션을 잡지 않음
+ * - 전용 스레드/유한 큐: 토스가 느려져도 동시 호출 수가 묶여서 톰캣 스레드/커넥션 풀까지 번지지 않음
+ * - 큐가 차면 바로 503, 제한 시간 넘으면 504 (호출 스레드는 더 기다리지 않음)
+ */
+@Slf4j
+@Component
+public class TossCheckoutClient {
+
+    private final TossPaymentService tossPaymentService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public TossCheckoutClient(TossPaymentService tossPaymentService,
+                              @Value("${app.toss.checkout.threads:8}") int threads,
+                              @Value("${app.toss.checkout.queue-capacity:50}") int queueCapacity,
+                              @Value("${app.toss.checkout.timeout-ms:5000}") long timeoutMs) {
+        this.tossPaymentService = tossPaymentService;
+        this.timeoutMs = Math.max(100, timeoutMs);
+        int n = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+                n, n, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "toss-checkout");
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 결제창 URL 생성 (제한 시간 안에 못 받으면 예외)
+     * - 토스 쪽 예외(RestClientException 등)는 그대로 다시 던짐 → 호출한 쪽에서 기존처럼 분기
+     */
+    public String createPaymentUrl(String orderTossId, int amount, String orderName) {
+        Future<String> future;
+        try {
+            future = executor.submit(() -> tossPaymentService.createPaymentUrl(orderTossId, amount, orderName));
+        } catch (RejectedExecutionException e) {
+            log.warn("[Toss] 결제창 생성 대기열 가득 참 orderTossId={}", orderTossId);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "결제 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("[Toss] 결제창 생성 시간 초과 orderTossId={} timeoutMs={}", orderTossId, timeoutMs);
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                    "결제 서버 응답이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("결제창 생성 오류", cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "결제 서버와 통신 중 오류가 발생했습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
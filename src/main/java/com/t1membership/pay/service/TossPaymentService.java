@@ -1,14 +1,6 @@
 // TossPaymentService.java
 package com.t1membership.pay.service;
 
-import com.t1membership.member.domain.MemberEntity;
-import com.t1membership.member.repository.MemberRepository;
-import com.t1membership.order.constant.OrderStatus;
-import com.t1membership.order.domain.OrderEntity;
-import com.t1membership.order.repository.OrderRepository;
-import com.t1membership.pay.constant.TossPaymentStatus;
-import com.t1membership.pay.domain.TossPaymentEntity;
-import com.t1membership.pay.repository.TossPaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,9 +9,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.Base64;
 import java.util.Map;
 
@@ -28,9 +23,6 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class TossPaymentService {
 
-    private final OrderRepository orderRepository;
-    private final MemberRepository memberRepository;
-    private final TossPaymentRepository tossPaymentRepository;
     @Value("${toss.payments.secret-key:}")
     private String tossSecretKey; // test_sk_... (테스트용 시크릿키)
 
@@ -52,8 +44,9 @@ public class TossPaymentService {
      *      orderId  : 상점 주문번호
      *      orderName: 주문명
      *      successUrl, failUrl : 리다이렉트 URL
+     *
+     *  - DB 작업이 없으니 트랜잭션 없이 (주문 트랜잭션 밖, TossCheckoutClient 스레드에서 호출)
      */
-    @Transactional
     public String createPaymentUrl(String orderId, int amount, String orderName) {
 
         final String url = "https://api.tosspayments.com/v1/payments";
@@ -120,67 +113,44 @@ public class TossPaymentService {
     // =========================================
     // 2) 결제 승인(confirm)
     // =========================================
-    @Transactional
-    public Map<String, Object> confirmPayment(String paymentKey, String orderId, int amount) {
-        final String url = "https://api.tosspayments.com/v1/payments/confirm";
 
-        // 1) orderId로 결제 레코드(READY)부터 찾는다
-        TossPaymentEntity pay = tossPaymentRepository.findByOrderTossId(orderId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
-                        "주문을 찾을 수 없습니다. orderId=" + orderId));
-
-        OrderEntity order = pay.getOrder();
+    /**
+     * 토스 승인 API 호출만 (DB 작업 없음, 트랜잭션 없이)
+     * - 상태 전이(PENDING → CONFIRMING → PAID/FAILED)는 PaymentConfirmService 가 앞뒤 짧은 트랜잭션으로
+     * - 토스 오류(HttpStatusCodeException) / 통신 오류(ResourceAccessException 등)는 그대로 던짐 → 호출한 쪽에서 분기
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> requestConfirm(String paymentKey, String orderId, int amount) {
+        final String url = "https://api.tosspayments.com/v1/payments/confirm";
 
-        // 2) 멱등: 이미 DONE이면 그냥 성공 처리
-        if (pay.getTossPaymentStatus() == TossPaymentStatus.DONE || order.getOrderStatus() == OrderStatus.PAID) {
-            return Map.of("status", "ALREADY_PAID");
-        }
+        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(
+                Map.of("paymentKey", paymentKey, "orderId", orderId, "amount", amount),
+                createAuthHeaders());
 
-        // 3) 금액 검증(서버 기준)
-        int expected = order.getOrderTotalPrice().intValueExact();
-        if (expected != amount) {
-            order.setOrderStatus(OrderStatus.PAYMENT_FAILED);
-            pay.setTossPaymentStatus(TossPaymentStatus.FAILED);
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                    "결제 금액 불일치 expected=" + expected + ", amount=" + amount);
+        ResponseEntity<Map> res = tossrestTemplate.postForEntity(url, entity, Map.class);
+        if (!res.getStatusCode().is2xxSuccessful()) {
+            throw new IllegalStateException("토스 승인 실패: http=" + res.getStatusCode());
         }
+        return (Map<String, Object>) res.getBody();
+    }
 
-        // 4) Toss confirm 호출
-        HttpHeaders headers = createAuthHeaders();
-        HttpEntity<Map<String, Object>> entity =
-                new HttpEntity<>(Map.of("paymentKey", paymentKey, "orderId", orderId, "amount", amount), headers);
+    /**
+     * orderId 로 토스 결제 조회 (멈춘 승인 복구용)
+     * - 토스에 결제가 없으면(승인 요청이 도달하지 않음) null
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> findPaymentByOrderId(String orderId) {
+        final String url = "https://api.tosspayments.com/v1/payments/orders/" + orderId;
 
         try {
-            ResponseEntity<Map> res = tossrestTemplate.postForEntity(url, entity, Map.class);
-
-            if (!res.getStatusCode().is2xxSuccessful()) {
-                order.setOrderStatus(OrderStatus.PAYMENT_FAILED);
-                pay.setTossPaymentStatus(TossPaymentStatus.FAILED);
-                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
-                        "토스 승인 실패: http=" + res.getStatusCode());
-            }
-
-            Map<String, Object> body = (Map<String, Object>) res.getBody();
-
-            // 5) DB 업데이트(성공)
-            pay.setTossPaymentKey(paymentKey);
-            pay.setTossPaymentStatus(TossPaymentStatus.DONE);
-            order.setOrderStatus(OrderStatus.PAID);
-
-            // 6) 멤버십 반영
-            if (order.getMembershipPayType() != null) {
-                MemberEntity member = order.getMember();
-                member.setMembershipType(order.getMembershipPayType());
-                memberRepository.save(member);
-            }
-
-            return body;
-
+            ResponseEntity<Map> res = tossrestTemplate.exchange(
+                    url, HttpMethod.GET, new HttpEntity<>(createAuthHeaders()), Map.class);
+            return (Map<String, Object>) res.getBody();
         } catch (HttpStatusCodeException e) {
-            order.setOrderStatus(OrderStatus.PAYMENT_FAILED);
-            pay.setTossPaymentStatus(TossPaymentStatus.FAILED);
-            throw new ResponseStatusException(HttpStatus.BAD_GATEWAY,
-                    "토스 승인 오류: http=" + e.getStatusCode() + ", body=" + e.getResponseBodyAsString());
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return null;
+            }
+            throw e;
         }
     }
 
@@ -247,6 +217,21 @@ public class TossPaymentService {
     // 공통 helper
     // =========================================
 
+    /**
+     * 토스 응답 approvedAt (ISO-8601, +09:00 오프셋) → 서버 시간대 LocalDateTime, 없거나 형식이 다르면 지금
+     */
+    static LocalDateTime approvedAtOf(Map<String, Object> body) {
+        Object v = (body == null) ? null : body.get("approvedAt");
+        if (v instanceof String s && !s.isBlank()) {
+            try {
+                return OffsetDateTime.parse(s).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException e) {
+                log.warn("[Toss] approvedAt 형식 오류: {}", s);
+            }
+        }
+        return LocalDateTime.now();
+    }
+
     /**
      * Authorization, Content-Type 공통 세팅
      */
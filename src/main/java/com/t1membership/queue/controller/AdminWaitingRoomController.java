@@ -0,0 +1,49 @@
+package com.t1membership.queue.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.queue.dto.QueueRoomStatus;
+import com.t1membership.queue.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/queue")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminWaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    // 멤버십 대기실 열기 / 초당 입장 인원 변경
+    @PutMapping("/membership")
+    public ApiResult<QueueRoomStatus> openMembership(@RequestParam(value = "rate", required = false) Integer rate) {
+        return new ApiResult<>(waitingRoomService.open(WaitingRoomService.MEMBERSHIP, rate));
+    }
+
+    // POP 상품별 대기실 열기 / 초당 입장 인원 변경
+    @PutMapping("/POP/{itemNo}")
+    public ApiResult<QueueRoomStatus> openPop(@PathVariable Long itemNo,
+                                              @RequestParam(value = "rate", required = false) Integer rate) {
+        return new ApiResult<>(waitingRoomService.open(WaitingRoomService.popTarget(itemNo), rate));
+    }
+
+    @DeleteMapping("/membership")
+    public ApiResult<List<QueueRoomStatus>> closeMembership() {
+        waitingRoomService.close(WaitingRoomService.MEMBERSHIP);
+        return new ApiResult<>(waitingRoomService.rooms());
+    }
+
+    @DeleteMapping("/POP/{itemNo}")
+    public ApiResult<List<QueueRoomStatus>> closePop(@PathVariable Long itemNo) {
+        waitingRoomService.close(WaitingRoomService.popTarget(itemNo));
+        return new ApiResult<>(waitingRoomService.rooms());
+    }
+
+    @GetMapping
+    public ApiResult<List<QueueRoomStatus>> rooms() {
+        return new ApiResult<>(waitingRoomService.rooms());
+    }
+}
@@ -0,0 +1,36 @@
+package com.t1membership.queue.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.queue.dto.QueueTicketRes;
+import com.t1membership.queue.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/order/queue")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    // 멤버십 대기열 입장
+    @PostMapping("/membership")
+    public ApiResult<QueueTicketRes> enterMembership(@AuthenticationPrincipal String email) {
+        return new ApiResult<>(waitingRoomService.enter(WaitingRoomService.MEMBERSHIP, email));
+    }
+
+    // POP 상품 대기열 입장
+    @PostMapping("/POP/{itemNo}")
+    public ApiResult<QueueTicketRes> enterPop(@AuthenticationPrincipal String email,
+                                              @PathVariable Long itemNo) {
+        return new ApiResult<>(waitingRoomService.enter(WaitingRoomService.popTarget(itemNo), email));
+    }
+
+    // 내 순번 조회 (polling 용, DB 조회 없음)
+    @GetMapping("/status")
+    public ApiResult<QueueTicketRes> status(@AuthenticationPrincipal String email,
+                                            @RequestHeader(WaitingRoomService.TICKET_HEADER) String ticket) {
+        return new ApiResult<>(waitingRoomService.status(ticket, email));
+    }
+}
@@ -0,0 +1,17 @@
+package com.t1membership.queue.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueueRoomStatus {
+
+    private String target;
+    private int ratePerSecond;  // 초당 입장 인원
+    private long issued;        // 발급된 대기표 수
+    private long admitted;      // 입장 허용된 마지막 순번
+    private long waiting;       // 대기 중 인원
+}
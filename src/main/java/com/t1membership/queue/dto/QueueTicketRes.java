@@ -0,0 +1,18 @@
+package com.t1membership.queue.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QueueTicketRes {
+
+    private String target;          // MEMBERSHIP / POP-{itemNo}
+    private String ticket;          // 서명된 대기표 (주문 시 X-Queue-Ticket 헤더로 전달)
+    private long position;          // 내 앞에 남은 인원 (0 이면 입장)
+    private boolean admitted;
+    private long estimatedWaitSeconds;
+    private int pollAfterMillis;    // 다음 상태 조회 권장 간격
+}
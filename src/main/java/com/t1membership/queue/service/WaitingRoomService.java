@@ -0,0 +1,354 @@
+package com.t1membership.queue.service;
+
+import com.t1membership.queue.dto.QueueRoomStatus;
+import com.t1membership.queue.dto.QueueTicketRes;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 대기실 (멤버십 오픈 / POP 런칭 트래픽용)
+ *
+ * - 관리자가 연 대기실(target)만 적용, 안 열린 target 의 주문은 그대로 통과
+ * - 입장 요청 → 순번 발급 + HMAC 서명 대기표 (target|email|seq|issuedAt)
+ * - 상태 조회는 서명 검증 + 메모리 카운터 비교만 (DB 안 탐)
+ * - tick 마다 target 별 초당 입장 인원만큼 admitted 순번을 올림
+ * - 주문 생성은 "순번 <= admitted" 인 본인 대기표가 있어야만 진행
+ *   → 대기표는 주문 1건에만 사용 (claimTicket 으로 선점, 주문 실패 시 releaseTicket 으로 반환)
+ *   → 주문에 쓴 뒤 다시 주문하려면 다시 입장해서 새 순번
+ * - 대기실당 회원 수 상한(max-members) 초과 시 429 (메모리 보호), 만료된 회원은 tick 에서 정리
+ * - 서명 키는 app.queue.secret 전용 (JWT 키와 분리, 32 byte 이상 필수)
+ * - 대기표 유효 시간(ticket-ttl)은 입장 허용된 시점부터 → 오래 기다린 사람도 입장 후 TTL 만큼 주문 가능
+ *   (기다리는 동안은 만료 없음, 만료된 뒤 다시 입장하면 새 순번)
+ *
+ * target: MEMBERSHIP (요청에 itemNo 가 없어 멤버십은 하나로 묶음) / POP-{itemNo}
+ */
+@Log4j2
+@Component
+public class WaitingRoomService {
+
+    public static final String MEMBERSHIP = "MEMBERSHIP";
+    public static final String TICKET_HEADER = "X-Queue-Ticket";
+
+    private static final String HMAC = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final byte[] secret;
+    private final int defaultRate;
+    private final long tickMs;
+    private final long ticketTtlSeconds;
+    private final int maxMembers;
+
+    private final Map<String, Room> rooms = new ConcurrentHashMap<>();
+
+    public WaitingRoomService(@Value("${app.queue.secret}") String secret,
+                              @Value("${app.queue.default-rate:50}") int defaultRate,
+                              @Value("${app.queue.tick-ms:200}") long tickMs,
+                              @Value("${app.queue.ticket-ttl-minutes:30}") long ticketTtlMinutes,
+                              @Value("${app.queue.max-members:200000}") int maxMembers) {
+        this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        if (this.secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("app.queue.secret 는 " + MIN_SECRET_BYTES + " byte 이상이어야 합니다.");
+        }
+        this.maxMembers = Math.max(1, maxMembers);
+        this.defaultRate = Math.max(1, defaultRate);
+        this.tickMs = Math.max(50, tickMs);
+        this.ticketTtlSeconds = Math.max(1, ticketTtlMinutes) * 60;
+    }
+
+    public static String popTarget(Long itemNo) {
+        return "POP-" + itemNo;
+    }
+
+    private static final class Room {
+        final String target;
+        final long openedAt = Instant.now().getEpochSecond();
+        final AtomicLong issued = new AtomicLong();
+        volatile long admitted = 0;
+        volatile int ratePerSecond;
+        double credit = 0; // tick 스레드만 사용 (소수점 이월)
+
+        // 입장 허용 시각: tick 마다 (그 tick 까지 입장된 마지막 순번 → 시각)
+        // TTL 지난 구간은 앞에서부터 지우고 expiredUpTo 로 올림 → 그 이하 순번은 만료
+        final ConcurrentSkipListMap<Long, Long> admittedAt = new ConcurrentSkipListMap<>();
+        volatile long expiredUpTo = 0;
+
+        // 같은 회원이 다시 들어와도 순번 유지
+        final Map<String, Entry> members = new ConcurrentHashMap<>();
+
+        Room(String target, int ratePerSecond) {
+            this.target = target;
+            this.ratePerSecond = ratePerSecond;
+        }
+    }
+
+    // used: 주문에 사용(선점)된 대기표 → 같은 순번으로 다시 주문 불가
+    private record Entry(long seq, long issuedAt, boolean used) {
+        Entry withUsed(boolean used) {
+            return new Entry(seq, issuedAt, used);
+        }
+    }
+
+    private record Ticket(String target, String email, long seq, long issuedAt) {
+    }
+
+    // =========================
+    // 관리자: 대기실 열기/닫기
+    // =========================
+
+    public QueueRoomStatus open(String target, Integer ratePerSecond) {
+        int rate = (ratePerSecond == null || ratePerSecond <= 0) ? defaultRate : ratePerSecond;
+        Room room = rooms.computeIfAbsent(target, t -> new Room(t, rate));
+        room.ratePerSecond = rate;
+        log.info("[QUEUE] OPEN target={} rate={}/s", target, rate);
+        return toStatus(room);
+    }
+
+    public void close(String target) {
+        Room room = rooms.remove(target);
+        if (room != null) {
+            log.info("[QUEUE] CLOSE target={} issued={} admitted={}", target, room.issued.get(), room.admitted);
+        }
+    }
+
+    public List<QueueRoomStatus> rooms() {
+        return rooms.values().stream()
+                .map(this::toStatus)
+                .sorted(Comparator.comparing(QueueRoomStatus::getTarget))
+                .toList();
+    }
+
+    private QueueRoomStatus toStatus(Room room) {
+        long issued = room.issued.get();
+        return QueueRoomStatus.builder()
+                .target(room.target)
+                .ratePerSecond(room.ratePerSecond)
+                .issued(issued)
+                .admitted(room.admitted)
+                .waiting(Math.max(0, issued - room.admitted))
+                .build();
+    }
+
+    // =========================
+    // 사용자: 입장 / 상태
+    // =========================
+
+    public QueueTicketRes enter(String target, String email) {
+        Room room = rooms.get(target);
+        if (room == null) {
+            // 대기실 안 열림 → 바로 주문 가능
+            return QueueTicketRes.builder()
+                    .target(target)
+                    .admitted(true)
+                    .build();
+        }
+
+        // 새 회원인데 대기실이 가득 참 (동시 입장으로 조금 넘을 수는 있음)
+        if (!room.members.containsKey(email) && room.members.size() >= maxMembers) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "대기 인원이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        // 입장 후 TTL 이 지났거나 이미 주문에 쓴 대기표면 새 순번으로 다시 줄 서기
+        Entry e = room.members.compute(email, (k, old) ->
+                (old == null || old.used() || old.seq() <= room.expiredUpTo)
+                        ? new Entry(room.issued.incrementAndGet(), Instant.now().getEpochSecond(), false)
+                        : old);
+
+        String ticket = sign(new Ticket(target, email, e.seq(), e.issuedAt()));
+        return toTicketRes(room, ticket, e.seq());
+    }
+
+    public QueueTicketRes status(String ticket, String email) {
+        Ticket t = verify(ticket, email);
+        Room room = rooms.get(t.target());
+        if (room == null) {
+            return QueueTicketRes.builder()
+                    .target(t.target())
+                    .ticket(ticket)
+                    .admitted(true)
+                    .build();
+        }
+        checkNotExpired(room, t);
+        return toTicketRes(room, ticket, t.seq());
+    }
+
+    private QueueTicketRes toTicketRes(Room room, String ticket, long seq) {
+        long ahead = Math.max(0, seq - room.admitted);
+        int rate = Math.max(1, room.ratePerSecond);
+        return QueueTicketRes.builder()
+                .target(room.target)
+                .ticket(ticket)
+                .position(ahead)
+                .admitted(ahead == 0)
+                .estimatedWaitSeconds((ahead + rate - 1) / rate)
+                // 앞에 많이 남았으면 천천히 물어보도록
+                .pollAfterMillis(ahead == 0 ? 0 : (int) Math.min(10_000, Math.max(1_000, ahead * 1000 / rate / 2)))
+                .build();
+    }
+
+    // =========================
+    // 주문 진입 검사
+    // =========================
+
+    /**
+     * 입장된 대기표를 주문 1건에 선점
+     * - 같은 대기표로 동시에/연달아 주문하면 두 번째부터 409
+     * - 주문 생성이 실패하면 releaseTicket 으로 되돌려서 같은 대기표로 다시 시도 가능
+     */
+    public void claimTicket(String target, String email, String ticket) {
+        Room room = rooms.get(target);
+        if (room == null) return;
+
+        if (!StringUtils.hasText(ticket)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "대기열 입장 후 주문해 주세요.");
+        }
+
+        Ticket t = verify(ticket, email);
+        if (!target.equals(t.target())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "다른 상품의 대기표입니다.");
+        }
+        checkNotExpired(room, t);
+        if (t.seq() > room.admitted) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                    "아직 입장 순서가 아닙니다. (남은 인원 " + (t.seq() - room.admitted) + "명)");
+        }
+
+        boolean[] claimed = {false};
+        Entry current = room.members.computeIfPresent(t.email(), (k, e) -> {
+            if (e.seq() != t.seq() || e.used()) return e;
+            claimed[0] = true;
+            return e.withUsed(true);
+        });
+        if (current == null || current.seq() != t.seq()) {
+            // 다시 입장해서 순번이 바뀌었거나 정리된 대기표
+            throw new ResponseStatusException(HttpStatus.GONE, "대기표가 만료되었습니다. 다시 입장해 주세요.");
+        }
+        if (!claimed[0]) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 주문에 사용한 대기표입니다. 다시 입장해 주세요.");
+        }
+    }
+
+    // 주문 생성 실패 → 선점 해제 (대기실이 닫혔거나 이미 정리됐으면 아무것도 안 함)
+    public void releaseTicket(String target, String email, String ticket) {
+        Room room = rooms.get(target);
+        if (room == null || !StringUtils.hasText(ticket)) return;
+
+        Ticket t = verify(ticket, email);
+        room.members.computeIfPresent(t.email(), (k, e) -> (e.seq() == t.seq()) ? e.withUsed(false) : e);
+    }
+
+    // 대기실이 다시 열리기 전 대기표 / 입장 후 TTL 지난 대기표
+    private void checkNotExpired(Room room, Ticket t) {
+        if (t.issuedAt() < room.openedAt || t.seq() <= room.expiredUpTo) {
+            throw new ResponseStatusException(HttpStatus.GONE, "대기표가 만료되었습니다. 다시 입장해 주세요.");
+        }
+    }
+
+    // =========================
+    // 입장 진행 (tick)
+    // =========================
+
+    @Scheduled(fixedRateString = "${app.queue.tick-ms:200}")
+    public void tick() {
+        long now = Instant.now().getEpochSecond();
+        for (Room room : rooms.values()) {
+            expireAdmitted(room, now);
+
+            room.credit += room.ratePerSecond * (tickMs / 1000.0);
+            long step = (long) room.credit;
+            if (step <= 0) continue;
+            room.credit -= step;
+
+            long issued = room.issued.get();
+            long next = Math.min(issued, room.admitted + step);
+            if (next > room.admitted) {
+                room.admittedAt.put(next, now);
+                room.admitted = next;
+            } else {
+                // 대기 인원 없으면 이월 안 함 (한꺼번에 몰려 들어오는 것 방지)
+                room.credit = 0;
+            }
+        }
+    }
+
+    private void expireAdmitted(Room room, long now) {
+        long before = room.expiredUpTo;
+        Map.Entry<Long, Long> first;
+        while ((first = room.admittedAt.firstEntry()) != null && now - first.getValue() > ticketTtlSeconds) {
+            room.admittedAt.remove(first.getKey());
+            room.expiredUpTo = first.getKey();
+        }
+        // 만료 구간이 늘었을 때만 회원 맵 정리 (max-members 자리 확보)
+        long upTo = room.expiredUpTo;
+        if (upTo > before) {
+            room.members.values().removeIf(e -> e.seq() <= upTo);
+        }
+    }
+
+    // =========================
+    // 대기표 서명
+    // =========================
+
+    private String sign(Ticket t) {
+        String payload = t.target() + "|" + t.email() + "|" + t.seq() + "|" + t.issuedAt();
+        Base64.Encoder enc = Base64.getUrlEncoder().withoutPadding();
+        return enc.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + enc.encodeToString(hmac(payload));
+    }
+
+    private Ticket verify(String ticket, String email) {
+        try {
+            int dot = ticket.indexOf('.');
+            String payload = new String(Base64.getUrlDecoder().decode(ticket.substring(0, dot)), StandardCharsets.UTF_8);
+            byte[] sig = Base64.getUrlDecoder().decode(ticket.substring(dot + 1));
+
+            if (!MessageDigest.isEqual(sig, hmac(payload))) {
+                throw new IllegalArgumentException("signature");
+            }
+
+            // 이메일에 '|' 가 없으니 뒤에서부터 자름
+            int p3 = payload.lastIndexOf('|');
+            int p2 = payload.lastIndexOf('|', p3 - 1);
+            int p1 = payload.indexOf('|');
+            Ticket t = new Ticket(
+                    payload.substring(0, p1),
+                    payload.substring(p1 + 1, p2),
+                    Long.parseLong(payload.substring(p2 + 1, p3)),
+                    Long.parseLong(payload.substring(p3 + 1)));
+
+            if (!t.email().equalsIgnoreCase(email)) {
+                throw new IllegalArgumentException("owner");
+            }
+            return t;
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "유효하지 않은 대기표입니다.");
+        }
+    }
+
+    private byte[] hmac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(new SecretKeySpec(secret, HMAC));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            throw new IllegalStateException("대기표 서명 실패", e);
+        }
+    }
+}
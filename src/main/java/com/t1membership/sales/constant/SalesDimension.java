@@ -0,0 +1,8 @@
+package com.t1membership.sales.constant;
+
+// 일별 매출 집계 기준 (t1_sales_daily.dimension)
+public enum SalesDimension {
+    CATEGORY,             // MD / MEMBERSHIP / POP
+    PLAYER,               // 주문 라인 playerSnapshot (없으면 집계 안 함)
+    MEMBERSHIP_PAY_TYPE   // 멤버십 결제 방식 (멤버십 라인만)
+}
@@ -0,0 +1,6 @@
+package com.t1membership.sales.constant;
+
+public enum SalesEntryType {
+    SALE,    // 결제 완료
+    CANCEL   // 전체/부분 취소
+}
@@ -0,0 +1,89 @@
+package com.t1membership.sales.controller;
+
+import com.t1membership.ApiResult;
+import com.t1membership.sales.constant.SalesDimension;
+import com.t1membership.sales.dto.SalesRollupRes;
+import com.t1membership.sales.repository.SalesDailyRepository;
+import com.t1membership.sales.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 관리자 매출 대시보드 (t1_sales_daily 집계 테이블만 읽음)
+ */
+@RestController
+@RequestMapping("/admin/sales")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminSalesController {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final SalesDailyRepository salesDailyRepository;
+    private final SalesRollupService salesRollupService;
+
+    // 일별 (기본: 최근 30일)
+    @GetMapping("/daily")
+    @Transactional(readOnly = true)
+    public ApiResult<List<SalesRollupRes>> daily(
+            @RequestParam(defaultValue = "CATEGORY") SalesDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        checkRange(start, end);
+
+        List<SalesRollupRes> res = salesDailyRepository
+                .findBySalesDateBetweenAndDimensionOrderBySalesDateAscDimKeyAsc(start, end, dimension)
+                .stream()
+                .map(SalesRollupRes::from)
+                .toList();
+        return new ApiResult<>(res);
+    }
+
+    // 기간 합계 (키별, 순매출 큰 순)
+    @GetMapping("/summary")
+    @Transactional(readOnly = true)
+    public ApiResult<List<SalesRollupRes>> summary(
+            @RequestParam(defaultValue = "CATEGORY") SalesDimension dimension,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        checkRange(start, end);
+
+        List<SalesRollupRes> res = salesDailyRepository.sumByKey(start, end, dimension).stream()
+                .map(SalesRollupRes::from)
+                .toList();
+        return new ApiResult<>(res);
+    }
+
+    // 수동 보정 (최근 days 일 원장 보충 + 집계 재생성, 처음 도입 시 과거분 채우기용)
+    @PostMapping("/reconcile")
+    public ApiResult<Integer> reconcile(@RequestParam(defaultValue = "3") int days) {
+        if (days < 1 || days > MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "days 는 1 ~ " + MAX_RANGE_DAYS + " 사이여야 합니다.");
+        }
+        return new ApiResult<>(salesRollupService.reconcile(days));
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.t1membership.sales.domain;
+
+import com.t1membership.sales.constant.SalesDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 매출 집계 (대시보드는 이 테이블만 읽음)
+ *
+ * - (일자, 기준, 키) 한 줄, 판매/취소 수량·금액 누적
+ * - 증감은 SalesDailyRepository.accumulate (insert ... on duplicate key update) 로만
+ */
+@Entity
+@Table(
+        name = "t1_sales_daily",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sales_daily_key", columnNames = {"sales_date", "dimension", "dim_key"})
+        }
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesDailyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_no")
+    private Long rollupNo;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 30)
+    private SalesDimension dimension;
+
+    // CATEGORY → ItemCategory 이름, PLAYER → Player 이름, MEMBERSHIP_PAY_TYPE → MembershipPayType 이름
+    @Column(name = "dim_key", nullable = false, length = 30)
+    private String dimKey;
+
+    @Column(name = "sold_quantity", nullable = false)
+    private long soldQuantity;
+
+    @Column(name = "sold_amount", nullable = false)
+    private long soldAmount;
+
+    @Column(name = "canceled_quantity", nullable = false)
+    private long canceledQuantity;
+
+    @Column(name = "canceled_amount", nullable = false)
+    private long canceledAmount;
+}
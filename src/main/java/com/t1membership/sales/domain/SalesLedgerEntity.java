@@ -0,0 +1,74 @@
+package com.t1membership.sales.domain;
+
+import com.t1membership.coreDomain.BaseEntity;
+import com.t1membership.coreDomain.Money;
+import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.MembershipPayType;
+import com.t1membership.item.constant.Player;
+import com.t1membership.sales.constant.SalesEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 원장 (주문 라인 단위 판매/취소 기록)
+ *
+ * - (주문, 라인, 종류) 유니크 → 같은 결제/취소 이벤트가 다시 와도 한 번만 기록
+ * - 일별 집계(t1_sales_daily)는 원장이 새로 들어갈 때만 증감, 야간 보정은 원장에서 다시 집계
+ * - 라인 없는 멤버십 주문은 order_item_no = 0 한 줄
+ * - 취소는 원래 판매일(sales_date)에 기록 → 그날 순매출이 취소를 반영
+ */
+@Entity
+@Table(
+        name = "t1_sales_ledger",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_sales_ledger_line", columnNames = {"order_no", "order_item_no", "entry_type"})
+        },
+        indexes = {
+                @Index(name = "idx_sales_ledger_date", columnList = "sales_date")
+        }
+)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalesLedgerEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_no")
+    private Long ledgerNo;
+
+    @Column(name = "order_no", nullable = false)
+    private Long orderNo;
+
+    @Column(name = "order_item_no", nullable = false)
+    private Long orderItemNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 10)
+    private SalesEntryType entryType;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private ItemCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "player", length = 20)
+    private Player player;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "membership_pay_type", length = 20)
+    private MembershipPayType membershipPayType;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "amount", nullable = false)
+    private Money amount;
+}
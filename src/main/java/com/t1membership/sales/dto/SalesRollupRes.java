@@ -0,0 +1,55 @@
+package com.t1membership.sales.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.t1membership.sales.domain.SalesDailyEntity;
+import com.t1membership.sales.repository.SalesDailyRepository;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalesRollupRes {
+
+    private LocalDate salesDate;     // 일별 조회만 (기간 합계는 null)
+    private String dimKey;           // MD / FAKER / YEARLY ...
+
+    private long soldQuantity;
+    private long soldAmount;
+    private long canceledQuantity;
+    private long canceledAmount;
+    private long netAmount;          // soldAmount - canceledAmount
+
+    public static SalesRollupRes from(SalesDailyEntity d) {
+        return SalesRollupRes.builder()
+                .salesDate(d.getSalesDate())
+                .dimKey(d.getDimKey())
+                .soldQuantity(d.getSoldQuantity())
+                .soldAmount(d.getSoldAmount())
+                .canceledQuantity(d.getCanceledQuantity())
+                .canceledAmount(d.getCanceledAmount())
+                .netAmount(d.getSoldAmount() - d.getCanceledAmount())
+                .build();
+    }
+
+    public static SalesRollupRes from(SalesDailyRepository.SalesTotalRow row) {
+        long sold = nz(row.getSoldAmount());
+        long canceled = nz(row.getCanceledAmount());
+        return SalesRollupRes.builder()
+                .dimKey(row.getDimKey())
+                .soldQuantity(nz(row.getSoldQuantity()))
+                .soldAmount(sold)
+                .canceledQuantity(nz(row.getCanceledQuantity()))
+                .canceledAmount(canceled)
+                .netAmount(sold - canceled)
+                .build();
+    }
+
+    private static long nz(Long v) {
+        return v == null ? 0L : v;
+    }
+}
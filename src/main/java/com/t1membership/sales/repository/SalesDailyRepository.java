@@ -0,0 +1,116 @@
+package com.t1membership.sales.repository;
+
+import com.t1membership.sales.constant.SalesDimension;
+import com.t1membership.sales.domain.SalesDailyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesDailyRepository extends JpaRepository<SalesDailyEntity, Long> {
+
+    // ===== 증분 반영 =====
+
+    // 한 줄 upsert (행 잠금 하나, 동시 결제/취소가 같은 키를 올려도 합계가 맞음)
+    @Modifying
+    @Query(value = """
+            insert into t1_sales_daily
+                   (sales_date, dimension, dim_key, sold_quantity, sold_amount, canceled_quantity, canceled_amount)
+            values (:salesDate, :dimension, :dimKey, :soldQuantity, :soldAmount, :canceledQuantity, :canceledAmount)
+            on duplicate key update
+                   sold_quantity     = sold_quantity     + values(sold_quantity),
+                   sold_amount       = sold_amount       + values(sold_amount),
+                   canceled_quantity = canceled_quantity + values(canceled_quantity),
+                   canceled_amount   = canceled_amount   + values(canceled_amount)
+            """, nativeQuery = true)
+    int accumulate(@Param("salesDate") LocalDate salesDate,
+                   @Param("dimension") String dimension,
+                   @Param("dimKey") String dimKey,
+                   @Param("soldQuantity") long soldQuantity,
+                   @Param("soldAmount") long soldAmount,
+                   @Param("canceledQuantity") long canceledQuantity,
+                   @Param("canceledAmount") long canceledAmount);
+
+    // ===== 야간 보정: 하루치를 원장에서 다시 집계 =====
+
+    @Modifying
+    @Query(value = "delete from t1_sales_daily where sales_date = :salesDate", nativeQuery = true)
+    int deleteDay(@Param("salesDate") LocalDate salesDate);
+
+    @Modifying
+    @Query(value = """
+            insert into t1_sales_daily
+                   (sales_date, dimension, dim_key, sold_quantity, sold_amount, canceled_quantity, canceled_amount)
+            select l.sales_date, 'CATEGORY', l.category,
+                   sum(case when l.entry_type = 'SALE' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'SALE' then l.amount else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.amount else 0 end)
+              from t1_sales_ledger l
+             where l.sales_date = :salesDate
+             group by l.sales_date, l.category
+            """, nativeQuery = true)
+    int rebuildCategory(@Param("salesDate") LocalDate salesDate);
+
+    @Modifying
+    @Query(value = """
+            insert into t1_sales_daily
+                   (sales_date, dimension, dim_key, sold_quantity, sold_amount, canceled_quantity, canceled_amount)
+            select l.sales_date, 'PLAYER', l.player,
+                   sum(case when l.entry_type = 'SALE' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'SALE' then l.amount else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.amount else 0 end)
+              from t1_sales_ledger l
+             where l.sales_date = :salesDate
+               and l.player is not null
+             group by l.sales_date, l.player
+            """, nativeQuery = true)
+    int rebuildPlayer(@Param("salesDate") LocalDate salesDate);
+
+    @Modifying
+    @Query(value = """
+            insert into t1_sales_daily
+                   (sales_date, dimension, dim_key, sold_quantity, sold_amount, canceled_quantity, canceled_amount)
+            select l.sales_date, 'MEMBERSHIP_PAY_TYPE', l.membership_pay_type,
+                   sum(case when l.entry_type = 'SALE' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'SALE' then l.amount else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.quantity else 0 end),
+                   sum(case when l.entry_type = 'CANCEL' then l.amount else 0 end)
+              from t1_sales_ledger l
+             where l.sales_date = :salesDate
+               and l.membership_pay_type is not null
+             group by l.sales_date, l.membership_pay_type
+            """, nativeQuery = true)
+    int rebuildMembershipPayType(@Param("salesDate") LocalDate salesDate);
+
+    // ===== 대시보드 (집계 테이블만) =====
+
+    List<SalesDailyEntity> findBySalesDateBetweenAndDimensionOrderBySalesDateAscDimKeyAsc(
+            LocalDate from, LocalDate to, SalesDimension dimension);
+
+    interface SalesTotalRow {
+        String getDimKey();
+        Long getSoldQuantity();
+        Long getSoldAmount();
+        Long getCanceledQuantity();
+        Long getCanceledAmount();
+    }
+
+    @Query("""
+            select d.dimKey as dimKey,
+                   sum(d.soldQuantity) as soldQuantity, sum(d.soldAmount) as soldAmount,
+                   sum(d.canceledQuantity) as canceledQuantity, sum(d.canceledAmount) as canceledAmount
+              from SalesDailyEntity d
+             where d.salesDate between :from and :to
+               and d.dimension = :dimension
+             group by d.dimKey
+             order by sum(d.soldAmount) - sum(d.canceledAmount) desc
+            """)
+    List<SalesTotalRow> sumByKey(@Param("from") LocalDate from,
+                                 @Param("to") LocalDate to,
+                                 @Param("dimension") SalesDimension dimension);
+}
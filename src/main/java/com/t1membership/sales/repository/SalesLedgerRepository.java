@@ -0,0 +1,55 @@
+package com.t1membership.sales.repository;
+
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.sales.domain.SalesLedgerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesLedgerRepository extends JpaRepository<SalesLedgerEntity, Long> {
+
+    List<SalesLedgerEntity> findByOrderNo(Long orderNo);
+
+    // ===== 야간 보정 (SalesRollupService.reconcile) =====
+
+    // 결제된 주문인데 판매 원장이 없는 것 (ORDER_PAID 후처리가 실패/누락된 경우)
+    @Query("""
+            select o.orderNo from OrderEntity o
+              left join o.tossPayment p
+             where o.createDate >= :from
+               and o.orderNo > :afterNo
+               and (o.orderStatus in :paidStates or p.tossPaymentKey is not null)
+               and not exists (select 1 from SalesLedgerEntity l
+                                where l.orderNo = o.orderNo
+                                  and l.entryType = com.t1membership.sales.constant.SalesEntryType.SALE)
+             order by o.orderNo asc
+            """)
+    List<Long> findPaidOrdersWithoutSale(@Param("from") LocalDateTime from,
+                                         @Param("afterNo") Long afterNo,
+                                         @Param("paidStates") Collection<OrderStatus> paidStates,
+                                         Pageable pageable);
+
+    // 전체 취소된 주문인데 취소 원장이 빠진 라인이 있는 것
+    @Query("""
+            select distinct l.orderNo from SalesLedgerEntity l, OrderEntity o
+             where o.orderNo = l.orderNo
+               and o.orderStatus = com.t1membership.order.constant.OrderStatus.CANCELED
+               and l.entryType = com.t1membership.sales.constant.SalesEntryType.SALE
+               and l.salesDate >= :from
+               and l.orderNo > :afterNo
+               and not exists (select 1 from SalesLedgerEntity c
+                                where c.orderNo = l.orderNo
+                                  and c.orderItemNo = l.orderItemNo
+                                  and c.entryType = com.t1membership.sales.constant.SalesEntryType.CANCEL)
+             order by l.orderNo asc
+            """)
+    List<Long> findCanceledOrdersMissingCancel(@Param("from") LocalDate from,
+                                               @Param("afterNo") Long afterNo,
+                                               Pageable pageable);
+}
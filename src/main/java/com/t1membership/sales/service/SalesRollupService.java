@@ -0,0 +1,295 @@
+package com.t1membership.sales.service;
+
+import com.t1membership.item.constant.ItemCategory;
+import com.t1membership.item.constant.MembershipPayType;
+import com.t1membership.item.domain.ItemEntity;
+import com.t1membership.order.constant.OrderStatus;
+import com.t1membership.order.domain.OrderEntity;
+import com.t1membership.order.domain.OrderItemEntity;
+import com.t1membership.order.repository.OrderRepository;
+import com.t1membership.pay.domain.TossPaymentEntity;
+import com.t1membership.sales.constant.SalesDimension;
+import com.t1membership.sales.constant.SalesEntryType;
+import com.t1membership.sales.domain.SalesLedgerEntity;
+import com.t1membership.sales.repository.SalesDailyRepository;
+import com.t1membership.sales.repository.SalesLedgerRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 일별 매출 집계 (카테고리 / 선수 / 멤버십 결제 방식)
+ *
+ * 증분
+ *  - ORDER_PAID 후처리(OrderPaidHandler)   → recordSale: 라인별 판매 원장 + 집계 증가
+ *  - ORDER_CANCELED 후처리(OrderCanceledHandler) → recordCancel: 취소 라인 원장 + 집계 증가(취소 쪽)
+ *  - 아웃박스 핸들러 트랜잭션 안에서 실행 → 원장/집계/이벤트 DONE 이 같이 커밋
+ *  - 원장 유니크 키로 같은 이벤트가 다시 와도 한 번만 반영
+ *
+ * 야간 보정 (reconcile)
+ *  - 최근 N일: 빠진 판매/전체취소 원장을 채우고, 그날 집계를 원장에서 다시 만듦
+ */
+@Log4j2
+@Service
+public class SalesRollupService {
+
+    // 결제가 된 것으로 보는 주문 상태 (취소 전/부분취소 포함)
+    static final Set<OrderStatus> PAID_STATES = EnumSet.of(
+            OrderStatus.PAID, OrderStatus.PROCESSING, OrderStatus.SHIPMENT_READY,
+            OrderStatus.SHIPPED, OrderStatus.DELIVERED, OrderStatus.PARTIALLY_CANCELED,
+            OrderStatus.RETURNED, OrderStatus.REFUNDED);
+
+    private static final int RECONCILE_BATCH = 200;
+
+    // 라인 없는 멤버십 주문의 원장 라인 번호
+    private static final long HEADER_LINE = 0L;
+
+    private final SalesLedgerRepository salesLedgerRepository;
+    private final SalesDailyRepository salesDailyRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate tx;
+    private final int reconcileDays;
+
+    public SalesRollupService(SalesLedgerRepository salesLedgerRepository,
+                              SalesDailyRepository salesDailyRepository,
+                              OrderRepository orderRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.sales.reconcile-days:3}") int reconcileDays) {
+        this.salesLedgerRepository = salesLedgerRepository;
+        this.salesDailyRepository = salesDailyRepository;
+        this.orderRepository = orderRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.reconcileDays = Math.max(1, reconcileDays);
+    }
+
+    // =========================
+    // 증분 반영
+    // =========================
+
+    /**
+     * 결제 완료 주문의 판매 원장 기록 (이미 있으면 그대로 반환)
+     */
+    @Transactional
+    public List<SalesLedgerEntity> recordSale(OrderEntity order) {
+        List<SalesLedgerEntity> ledger = salesLedgerRepository.findByOrderNo(order.getOrderNo());
+        List<SalesLedgerEntity> sales = ledger.stream()
+                .filter(l -> l.getEntryType() == SalesEntryType.SALE)
+                .toList();
+        if (!sales.isEmpty() || !wasPaid(order)) return sales;
+
+        LocalDate salesDate = salesDate(order);
+        List<SalesLedgerEntity> entries = new ArrayList<>();
+
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            // 멤버십 전용 주문 (라인 없음) → 주문 총액 한 줄
+            if (order.getOrderTotalPrice() != null && order.getOrderTotalPrice().isPositive()) {
+                entries.add(SalesLedgerEntity.builder()
+                        .orderNo(order.getOrderNo())
+                        .orderItemNo(HEADER_LINE)
+                        .entryType(SalesEntryType.SALE)
+                        .salesDate(salesDate)
+                        .category(ItemCategory.MEMBERSHIP)
+                        .membershipPayType(order.getMembershipPayType())
+                        .quantity(1)
+                        .amount(order.getOrderTotalPrice())
+                        .build());
+            }
+        } else {
+            for (OrderItemEntity oi : order.getOrderItems()) {
+                ItemCategory category = categoryOf(oi);
+                entries.add(SalesLedgerEntity.builder()
+                        .orderNo(order.getOrderNo())
+                        .orderItemNo(oi.getOrderItemNo())
+                        .entryType(SalesEntryType.SALE)
+                        .salesDate(salesDate)
+                        .category(category)
+                        .player(oi.getPlayerSnapshot())
+                        .membershipPayType(category == ItemCategory.MEMBERSHIP ? payTypeOf(order, oi) : null)
+                        .quantity(oi.getQuantity())
+                        .amount(oi.getLineTotal())
+                        .build());
+            }
+        }
+        if (entries.isEmpty()) return sales;
+
+        salesLedgerRepository.saveAll(entries);
+        accumulate(entries);
+        log.info("[SALES] 판매 반영 orderNo={} lines={} date={}", order.getOrderNo(), entries.size(), salesDate);
+        return entries;
+    }
+
+    /**
+     * 취소 원장 기록 (orderItemNos == null 이면 전체, 판매일 기준으로 반영)
+     * - 결제 후처리보다 취소가 먼저 처리돼도 판매를 먼저 기록하고 취소
+     */
+    @Transactional
+    public void recordCancel(OrderEntity order, Collection<Long> orderItemNos) {
+        List<SalesLedgerEntity> sales = recordSale(order);
+        if (sales.isEmpty()) return;   // 결제 전 취소 → 매출 없음
+
+        Set<Long> alreadyCanceled = new HashSet<>();
+        for (SalesLedgerEntity l : salesLedgerRepository.findByOrderNo(order.getOrderNo())) {
+            if (l.getEntryType() == SalesEntryType.CANCEL) alreadyCanceled.add(l.getOrderItemNo());
+        }
+        Set<Long> targets = (orderItemNos == null) ? null : new HashSet<>(orderItemNos);
+
+        List<SalesLedgerEntity> entries = sales.stream()
+                .filter(s -> targets == null || targets.contains(s.getOrderItemNo()))
+                .filter(s -> !alreadyCanceled.contains(s.getOrderItemNo()))
+                .map(s -> SalesLedgerEntity.builder()
+                        .orderNo(s.getOrderNo())
+                        .orderItemNo(s.getOrderItemNo())
+                        .entryType(SalesEntryType.CANCEL)
+                        .salesDate(s.getSalesDate())
+                        .category(s.getCategory())
+                        .player(s.getPlayer())
+                        .membershipPayType(s.getMembershipPayType())
+                        .quantity(s.getQuantity())
+                        .amount(s.getAmount())
+                        .build())
+                .toList();
+        if (entries.isEmpty()) return;
+
+        salesLedgerRepository.saveAll(entries);
+        accumulate(entries);
+        log.info("[SALES] 취소 반영 orderNo={} lines={}", order.getOrderNo(), entries.size());
+    }
+
+    // 원장 → (일자, 기준, 키) 별로 합쳐서 upsert, 키 순서 고정 (동시 반영 시 데드락 방지)
+    private void accumulate(List<SalesLedgerEntity> entries) {
+        record Key(LocalDate date, SalesDimension dimension, String dimKey) {
+        }
+        Comparator<Key> order = Comparator.comparing(Key::date)
+                .thenComparing(Key::dimension)
+                .thenComparing(Key::dimKey);
+        Map<Key, long[]> deltas = new TreeMap<>(order);
+
+        for (SalesLedgerEntity e : entries) {
+            boolean sale = e.getEntryType() == SalesEntryType.SALE;
+            long amount = e.getAmount() == null ? 0L : e.getAmount().longValue();
+            List<Key> keys = new ArrayList<>(3);
+            keys.add(new Key(e.getSalesDate(), SalesDimension.CATEGORY, e.getCategory().name()));
+            if (e.getPlayer() != null) {
+                keys.add(new Key(e.getSalesDate(), SalesDimension.PLAYER, e.getPlayer().name()));
+            }
+            if (e.getMembershipPayType() != null) {
+                keys.add(new Key(e.getSalesDate(), SalesDimension.MEMBERSHIP_PAY_TYPE, e.getMembershipPayType().name()));
+            }
+            for (Key k : keys) {
+                long[] d = deltas.computeIfAbsent(k, x -> new long[4]);
+                d[sale ? 0 : 2] += e.getQuantity();
+                d[sale ? 1 : 3] += amount;
+            }
+        }
+
+        deltas.forEach((k, d) -> salesDailyRepository.accumulate(
+                k.date(), k.dimension().name(), k.dimKey(), d[0], d[1], d[2], d[3]));
+    }
+
+    // =========================
+    // 야간 보정
+    // =========================
+
+    @Scheduled(cron = "${app.sales.reconcile-cron:0 30 3 * * *}")
+    public void reconcileRecent() {
+        reconcile(reconcileDays);
+    }
+
+    /**
+     * 최근 days 일 보정 (관리자 수동 실행도 여기로)
+     * 1) 결제됐는데 판매 원장 없는 주문 → 판매 기록
+     * 2) 전체 취소됐는데 취소 원장 빠진 주문 → 취소 기록
+     *    (부분 취소는 라인별 취소 상태가 주문에 없어서 이벤트 반영분만 신뢰)
+     * 3) 하루씩 집계 삭제 후 원장에서 다시 집계
+     */
+    public int reconcile(int days) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(Math.max(1, days) - 1L);
+
+        int sales = backfill(afterNo -> salesLedgerRepository.findPaidOrdersWithoutSale(
+                        from.atStartOfDay(), afterNo, PAID_STATES, PageRequest.of(0, RECONCILE_BATCH)),
+                this::recordSale);
+
+        int cancels = backfill(afterNo -> salesLedgerRepository.findCanceledOrdersMissingCancel(
+                        from, afterNo, PageRequest.of(0, RECONCILE_BATCH)),
+                order -> recordCancel(order, null));
+
+        int rebuilt = 0;
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            LocalDate d = day;
+            try {
+                Integer rows = tx.execute(status -> {
+                    salesDailyRepository.deleteDay(d);
+                    return salesDailyRepository.rebuildCategory(d)
+                            + salesDailyRepository.rebuildPlayer(d)
+                            + salesDailyRepository.rebuildMembershipPayType(d);
+                });
+                rebuilt += (rows == null) ? 0 : rows;
+            } catch (Exception e) {
+                log.error("[SALES] 집계 재생성 실패 date={}", d, e);
+            }
+        }
+
+        log.info("[SALES] 보정 완료 from={} 판매보충={} 취소보충={} 집계행={}", from, sales, cancels, rebuilt);
+        return sales + cancels;
+    }
+
+    // 주문번호 keyset 으로 묶음 조회 → 주문마다 트랜잭션 하나 (실패한 주문은 건너뛰고 다음 보정에서 다시)
+    private int backfill(Function<Long, List<Long>> page, Consumer<OrderEntity> action) {
+        int done = 0;
+        long afterNo = 0L;
+        while (true) {
+            List<Long> orderNos = page.apply(afterNo);
+            for (Long orderNo : orderNos) {
+                try {
+                    tx.executeWithoutResult(status ->
+                            orderRepository.findById(orderNo).ifPresent(action));
+                    done++;
+                } catch (Exception e) {
+                    log.error("[SALES] 보정 실패 orderNo={}", orderNo, e);
+                }
+            }
+            if (orderNos.size() < RECONCILE_BATCH) return done;
+            afterNo = orderNos.get(orderNos.size() - 1);
+        }
+    }
+
+    // =========================
+    // helper
+    // =========================
+
+    private static boolean wasPaid(OrderEntity order) {
+        if (PAID_STATES.contains(order.getOrderStatus())) return true;
+        TossPaymentEntity pay = order.getTossPayment();
+        return pay != null && pay.getTossPaymentKey() != null && !pay.getTossPaymentKey().isBlank();
+    }
+
+    // 승인 시각(결제 승인 시 저장)이 있으면 그 날짜, 없으면 주문일 (approvedAt 저장 전 결제분)
+    private static LocalDate salesDate(OrderEntity order) {
+        TossPaymentEntity pay = order.getTossPayment();
+        LocalDateTime at = (pay != null && pay.getApprovedAt() != null) ? pay.getApprovedAt() : order.getCreateDate();
+        return (at != null) ? at.toLocalDate() : LocalDate.now();
+    }
+
+    private static ItemCategory categoryOf(OrderItemEntity oi) {
+        if (oi.getItemCategorySnapshot() != null) return oi.getItemCategorySnapshot();
+        ItemEntity item = oi.getItem();
+        return (item != null && item.getItemCategory() != null) ? item.getItemCategory() : ItemCategory.MD;
+    }
+
+    private static MembershipPayType payTypeOf(OrderEntity order, OrderItemEntity oi) {
+        if (order.getMembershipPayType() != null) return order.getMembershipPayType();
+        return (oi.getItem() != null) ? oi.getItem().getMembershipPayType() : null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.t1membership.board.service;
+
+import com.t1membership.config.QuerydslConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 버스트 댓글 flush 를 Hibernate 가 만든 실제 스키마(t1_comment 등)에 대고 돌려봄
+ * - 컬럼명은 네이밍 전략(camelCase → snake_case) 결과와 맞아야 함
+ * - 저장 실패 댓글은 버리지 않고 dead-letter 로
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:burst;MODE=MariaDB;DATABASE_TO_LOWER=TRUE",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentBurstBufferTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CommentBurstBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        // 게시글/회원 FK 는 이 테스트 관심사가 아님
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        // flush 스레드가 끼어들지 않도록 주기를 길게 → flushOnce 직접 호출
+        buffer = new CommentBurstBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                100, 50, 600_000, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.shutdown();
+        jdbcTemplate.execute("delete from t1_comment");
+        jdbcTemplate.execute("delete from t1_comment_dead_letter");
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    @Test
+    void flushOnce_insertsIntoCommentTable() {
+        buffer.enqueue(1L, "a@t1.gg", "페이커!");
+        buffer.enqueue(1L, "b@t1.gg", "가자");
+
+        assertThat(buffer.flushOnce()).isEqualTo(2);
+
+        assertThat(jdbcTemplate.queryForList(
+                "select comment_content, comment_like_count from t1_comment where board_no = 1 order by comment_content"))
+                .extracting(row -> row.get("comment_content"), row -> ((Number) row.get("comment_like_count")).intValue())
+                .containsExactly(
+                        tuple("가자", 0),
+                        tuple("페이커!", 0));
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(buffer.deadLetterCount()).isZero();
+    }
+
+    @Test
+    void flushOnce_failedCommentGoesToDeadLetter() {
+        buffer.enqueue(1L, "a@t1.gg", "정상");
+        CommentBurstBuffer.PendingComment bad = buffer.enqueue(1L, "b@t1.gg", null);   // comment_content not null 위반
+
+        buffer.flushOnce();
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from t1_comment", Long.class)).isEqualTo(1L);
+        Map<String, Object> dl = jdbcTemplate.queryForMap(
+                "select provisional_id, member_email, attempts from t1_comment_dead_letter");
+        assertThat(dl.get("provisional_id")).isEqualTo(bad.getProvisionalId());
+        assertThat(dl.get("member_email")).isEqualTo("b@t1.gg");
+        assertThat(buffer.deadLetterCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,39 @@
+package com.t1membership.coreDomain;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money 연산 / 컬럼 변환
+ *
+ * - 원 단위 정수만 허용 (소수점, long 넘침, int 로 못 바꾸는 금액은 예외)
+ * - 시간 측정은 OrderAmountBenchmarkTest (benchmark 태그, 기본 test 에서 제외)
+ */
+class MoneyTest {
+
+    @Test
+    void arithmetic() {
+        Money price = Money.of(new BigDecimal("39000.00"));
+        assertThat(price.times(3)).isEqualTo(Money.of(117_000));
+        assertThat(price.plus(Money.of(1_000)).intValueExact()).isEqualTo(40_000);
+        assertThat(Money.of((BigDecimal) null)).isSameAs(Money.ZERO);
+        assertThat(Money.of(117_000).toBigDecimal()).isEqualByComparingTo("117000");
+
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.5"))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE).plus(Money.of(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(3_000_000_000L).intValueExact()).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void converter() {
+        MoneyConverter converter = new MoneyConverter();
+        assertThat(converter.convertToDatabaseColumn(Money.of(39_000))).isEqualTo(39_000L);
+        assertThat(converter.convertToEntityAttribute(39_000L)).isEqualTo(Money.of(39_000));
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,139 @@
+package com.t1membership.inventory.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 상품 샤드 재고 동시성 테스트 (DB 대신 AtomicInteger 원장)
+ * - 어떤 경합에서도 "판매량 + 남은 재고 == 초기 재고" 이고 초기 재고를 넘겨 팔지 않아야 함
+ */
+class ShardedStockCounterTest {
+
+    private static final int THREADS = 64;
+
+    // DB row 흉내: lease 는 남은 만큼만, giveBack 은 더하기
+    private static final class FakeLedger implements ShardedStockCounter.Ledger {
+        final AtomicInteger stock;
+
+        FakeLedger(int initial) {
+            this.stock = new AtomicInteger(initial);
+        }
+
+        @Override
+        public int lease(int want) {
+            while (true) {
+                int cur = stock.get();
+                int take = Math.min(want, cur);
+                if (take <= 0) return 0;
+                if (stock.compareAndSet(cur, cur - take)) return take;
+            }
+        }
+
+        @Override
+        public void giveBack(int qty) {
+            stock.addAndGet(qty);
+        }
+    }
+
+    @Test
+    void singleUnitDropSellsExactlyStock() throws Exception {
+        int initial = 100;
+        FakeLedger ledger = new FakeLedger(initial);
+        ShardedStockCounter counter = new ShardedStockCounter(8, 5, ledger);
+
+        AtomicInteger sold = new AtomicInteger();
+        runConcurrently(() -> {
+            for (int i = 0; i < 200; i++) {
+                if (counter.tryTake(1)) sold.incrementAndGet();
+            }
+        });
+
+        assertThat(sold.get()).isEqualTo(initial);
+        assertThat(counter.close()).isZero();
+        assertThat(ledger.stock.get()).isZero();
+    }
+
+    @Test
+    void mixedQuantitiesWithRollbackAndRebalanceNeverOversell() throws Exception {
+        int initial = 1_000;
+        FakeLedger ledger = new FakeLedger(initial);
+        ShardedStockCounter counter = new ShardedStockCounter(8, 20, ledger);
+
+        AtomicInteger sold = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 재분배 스레드: 보유 한도를 작게 잡아서 lease/giveBack 이 계속 섞이도록
+        Thread rebalancer = new Thread(() -> {
+            while (running.get()) {
+                counter.rebalance(40);
+            }
+        });
+        rebalancer.start();
+
+        runConcurrently(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            for (int i = 0; i < 500; i++) {
+                int qty = 1 + rnd.nextInt(3);
+                if (!counter.tryTake(qty)) continue;
+
+                if (rnd.nextInt(10) == 0) {
+                    // 주문 트랜잭션 롤백 → 샤드로 반납
+                    counter.put(qty);
+                } else {
+                    sold.addAndGet(qty);
+                }
+            }
+        });
+
+        running.set(false);
+        rebalancer.join();
+
+        int leftover = counter.close();
+
+        assertThat(leftover).isGreaterThanOrEqualTo(0);
+        assertThat(sold.get()).isLessThanOrEqualTo(initial);
+        assertThat(sold.get() + ledger.stock.get()).isEqualTo(initial);
+        assertThat(counter.available()).isZero();
+    }
+
+    @Test
+    void closedCounterReturnsPutsToLedger() {
+        FakeLedger ledger = new FakeLedger(10);
+        ShardedStockCounter counter = new ShardedStockCounter(4, 10, ledger);
+
+        assertThat(counter.tryTake(3)).isTrue();
+        counter.close();
+        counter.put(3);
+
+        assertThat(counter.tryTake(1)).isFalse();
+        assertThat(ledger.stock.get()).isEqualTo(10);
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.t1membership.order.domain;
+
+import com.t1membership.coreDomain.Money;
+import com.t1membership.item.domain.ItemEntity;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 금액 경로 측정 (OrderItemEntity.of → 라인 합계 → 토스 amount)
+ *
+ * - benchmark 태그 → 기본 test 에서 제외, ./gradlew benchmark 로만 실행
+ * - 결과는 TestReporter 로 테스트 리포트에 남김 (표준 출력 안 씀)
+ */
+@Tag("benchmark")
+class OrderAmountBenchmarkTest {
+
+    private static final int CARTS = 2_000;
+    private static final int LINES = 8;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void orderAmountPath(TestReporter reporter) {
+        Random random = new Random(42);
+        ItemEntity[][] items = new ItemEntity[CARTS][LINES];
+        int[][] qty = new int[CARTS][LINES];
+        long expected = 0;
+        for (int c = 0; c < CARTS; c++) {
+            for (int l = 0; l < LINES; l++) {
+                long price = (1 + random.nextInt(299)) * 100L;
+                qty[c][l] = 1 + random.nextInt(4);
+                items[c][l] = ItemEntity.builder()
+                        .itemName("item-" + l)
+                        .itemPrice(BigDecimal.valueOf(price).setScale(2))
+                        .build();
+                expected += price * qty[c][l];
+            }
+        }
+
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(run(items, qty)).isEqualTo(expected);   // 워밍업
+        }
+
+        long t0 = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            run(items, qty);
+        }
+        long elapsed = System.nanoTime() - t0;
+
+        reporter.publishEntry("nsPerCart", String.valueOf(elapsed / ((long) CARTS * ROUNDS)));
+    }
+
+    // GoodsOrderCreator 와 같은 흐름: 라인 생성 → lineTotal 합 → intValueExact
+    private static long run(ItemEntity[][] items, int[][] qty) {
+        long sum = 0;
+        for (int c = 0; c < items.length; c++) {
+            Money total = Money.ZERO;
+            for (int l = 0; l < LINES; l++) {
+                total = total.plus(OrderItemEntity.of(items[c][l], qty[c][l]).getLineTotal());
+            }
+            sum += total.intValueExact();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,68 @@
+package com.t1membership.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 만료 타이밍 휠
+ *
+ * - 만료는 deadline 이전에 나오면 안 되고, deadline 이후 첫 tick 안에는 나와야 함
+ * - 상위 level 로 들어간 긴 TTL 도 아래로 내려오면서 정확히 꺼내지는지 확인
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 100;
+
+    @Test
+    void expiresOnTickAfterDeadline() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 8, 0);
+        wheel.add(1L, 250);
+        wheel.add(2L, 300);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextAdvance() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 8, 10_000);
+        wheel.add(7L, 5_000);
+
+        assertThat(wheel.advance(10_000)).containsExactly(7L);
+    }
+
+    @Test
+    void randomDeadlinesAcrossLevels() {
+        Random random = new Random(42);
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 4, 0);
+        Map<Long, Long> deadlines = new HashMap<>();
+        for (long id = 1; id <= 2_000; id++) {
+            long deadline = 1 + random.nextInt(500_000);   // wheelSize 4 → level 여러 개
+            deadlines.put(id, deadline);
+            wheel.add(id, deadline);
+        }
+
+        Set<Long> seen = new HashSet<>();
+        for (long now = 0; now <= 500_000 + TICK; now += 1 + random.nextInt(3_000)) {
+            for (Long id : wheel.advance(now)) {
+                long deadline = deadlines.get(id);
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat(seen.add(id)).isTrue();
+            }
+            // 아직 안 나온 것은 deadline 이 현재 tick 이후여야 함
+            long tickNow = now / TICK;
+            deadlines.forEach((id, deadline) -> {
+                if (!seen.contains(id)) {
+                    assertThat((deadline + TICK - 1) / TICK).isGreaterThan(tickNow);
+                }
+            });
+        }
+        seen.addAll(wheel.advance(600_000));
+        assertThat(seen).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+    }
+}